@@ -11,7 +11,9 @@ import org.springframework.context.annotation.FilterType;
         },
         excludeFilters = {
                 @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UserUseCase$"),
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+LoginUseCase$")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+LoginUseCase$"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+TokenRevocationUseCase$"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+RefreshTokenUseCase$")
         },
         useDefaultFilters = false)
 public class UseCasesConfig {
@@ -0,0 +1,32 @@
+package crediya.authentication.config;
+
+import crediya.authentication.r2dbc.config.RoleCatalogProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationYamlTest {
+
+    @Test
+    void roleCatalogRefreshIntervalBindsWhereRoleCatalogPropertiesReadsIt() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        for (PropertySource<?> source : new YamlPropertySourceLoader()
+                .load("application.yaml", new ClassPathResource("application.yaml"))) {
+            environment.getPropertySources().addLast(source);
+        }
+        // Resolves the ${...:default} placeholders as the application context would
+        Binder binder = Binder.get(environment);
+
+        assertThat(binder.bind("adapters.r2dbc.role-catalog", RoleCatalogProperties.class).get().refreshInterval())
+                .isEqualTo(Duration.ofMinutes(5));
+        assertThat(environment.containsProperty("spring.r2dbc.role-catalog.refresh-interval")).isFalse();
+    }
+}
@@ -0,0 +1,108 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.model.auth.AuthorizationContext;
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.constants.RolePermissions;
+import crediya.authentication.model.role.Role;
+import crediya.authentication.model.role.RoleType;
+import crediya.authentication.model.role.gateways.RoleRepository;
+import crediya.authentication.usecase.auth.AuthorizationUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks on every protected request. {@code authorizeByRoleId} goes through an
+ * in-memory RoleRepository, so it measures the use case and Reactor overhead, not I/O.
+ * {@code hasPermission}, {@code roleHasPermission}, {@code getPermissions} and {@code decide}
+ * should report 0 in {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    @Param({"ADMIN", "CUSTOMER"})
+    public String roleName;
+
+    @Param({"CREATE_USER", "VIEW_OWN_LOAN_APPLICATION"})
+    public String permissionName;
+
+    private RoleType roleType;
+    private Permission permission;
+    private Integer roleId;
+    private AuthorizationContext context;
+    private Role role;
+    private AuthorizationUseCase authorizationUseCase;
+
+    @Setup
+    public void setUp() {
+        roleType = RoleType.valueOf(roleName);
+        permission = Permission.valueOf(permissionName);
+        roleId = roleType.getId();
+        context = AuthorizationContext.builder()
+                .userId(BenchmarkFixtures.USER_ID)
+                .roleType(roleType)
+                .targetResourceId(BenchmarkFixtures.USER_ID)
+                .build();
+        role = Role.builder().id(roleId).name(roleType.getName()).build();
+        authorizationUseCase = new AuthorizationUseCase(new RoleRepository() {
+            @Override
+            public Mono<Role> findById(Integer id) {
+                return Mono.just(role);
+            }
+
+            @Override
+            public Mono<Boolean> existsById(Integer id) {
+                return Mono.just(true);
+            }
+        });
+    }
+
+    @Benchmark
+    public boolean hasPermission() {
+        return RolePermissions.hasPermission(roleType, permission);
+    }
+
+    @Benchmark
+    public boolean roleHasPermission() {
+        return role.hasPermission(permission);
+    }
+
+    @Benchmark
+    public Set<Permission> getPermissions() {
+        return RolePermissions.getPermissions(roleType);
+    }
+
+    @Benchmark
+    public AuthorizationResult decide() {
+        return authorizationUseCase.decide(context, permission);
+    }
+
+    @Benchmark
+    public AuthorizationResult authorizeWithContext() {
+        return authorizationUseCase.authorize(context, permission).block();
+    }
+
+    @Benchmark
+    public AuthorizationResult authorizeByRoleId() {
+        return authorizationUseCase.authorize(BenchmarkFixtures.USER_ID, roleId, permission,
+                BenchmarkFixtures.USER_ID).block();
+    }
+}
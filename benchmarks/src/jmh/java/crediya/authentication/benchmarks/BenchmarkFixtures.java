@@ -0,0 +1,16 @@
+package crediya.authentication.benchmarks;
+
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256";
+    static final Long JWT_EXPIRATION_MILLIS = 3600000L;
+    static final String JWT_ISSUER = "crediya-auth-service";
+    static final String JWT_AUDIENCE = "crediya-app";
+
+    static final String USER_ID = "550e8400-e29b-41d4-a716-446655440001";
+    static final String ROLE_NAME = "ADVISOR";
+
+    private BenchmarkFixtures() {
+        // Utility class - prevent instantiation
+    }
+}
@@ -0,0 +1,103 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserCredentials;
+import crediya.authentication.r2dbc.entity.UserEntity;
+import crediya.authentication.r2dbc.mapper.UserEntityMapper;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login lookup against a {@link PostgresBenchmarkFixture} database seeded with
+ * {@value #USER_COUNT} fully populated users. {@code fullUser} is the previous path:
+ * SELECT * mapped to UserEntity and then to User through UserEntityMapper.
+ * {@code credentialsOnly} is the current findCredentialsByEmail, answered from the covering
+ * idx_users_email_unique that database/init creates. The EXPLAIN ANALYZE plan of each is
+ * printed during setup. Requires Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialLookupBenchmark {
+
+    private static final int USER_COUNT = 1_000_000;
+
+    private static final String FULL_ROW_QUERY = "SELECT * FROM users WHERE LOWER(email) = LOWER($1)";
+    private static final String CREDENTIALS_QUERY =
+            "SELECT user_id, password_hash, role_id FROM users WHERE LOWER(email) = LOWER($1)";
+
+    private final UserEntityMapper userEntityMapper = UserEntityMapper.INSTANCE;
+
+    private PostgresBenchmarkFixture database;
+    private PostgresqlConnection connection;
+    private String email;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = PostgresBenchmarkFixture.start(USER_COUNT);
+        connection = database.connection();
+
+        email = PostgresBenchmarkFixture.email(USER_COUNT / 2);
+        database.printPlan(FULL_ROW_QUERY, email);
+        database.printPlan(CREDENTIALS_QUERY, email);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public User fullUser() {
+        return connection.createStatement(FULL_ROW_QUERY)
+                .bind("$1", email)
+                .execute()
+                .flatMap(result -> result.map((row, metadata) -> UserEntity.builder()
+                        .id(row.get("user_id", UUID.class))
+                        .firstName(row.get("first_name", String.class))
+                        .lastName(row.get("last_name", String.class))
+                        .email(row.get("email", String.class))
+                        .identityDocument(row.get("identity_document", String.class))
+                        .phone(row.get("phone", String.class))
+                        .roleId(row.get("role_id", Integer.class))
+                        .baseSalary(row.get("base_salary", BigDecimal.class))
+                        .birthDate(row.get("birth_date", String.class))
+                        .address(row.get("address", String.class))
+                        .passwordHash(row.get("password_hash", String.class))
+                        .build()))
+                .map(userEntityMapper::entityToDomain)
+                .blockFirst();
+    }
+
+    @Benchmark
+    public UserCredentials credentialsOnly() {
+        return connection.createStatement(CREDENTIALS_QUERY)
+                .bind("$1", email)
+                .execute()
+                .flatMap(result -> result.map((row, metadata) -> new UserCredentials(
+                        row.get("user_id", UUID.class).toString(),
+                        row.get("password_hash", String.class),
+                        row.get("role_id", Integer.class))))
+                .blockFirst();
+    }
+}
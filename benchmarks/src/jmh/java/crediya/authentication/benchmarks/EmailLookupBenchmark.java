@@ -0,0 +1,78 @@
+package crediya.authentication.benchmarks;
+
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email lookup against a {@link PostgresBenchmarkFixture} database seeded with
+ * {@value #USER_COUNT} users, so the users table and its {@code LOWER(email)} unique index
+ * are the ones database/init creates. {@code exactMatch} is the previous derived query,
+ * {@code lowerMatch} the current one. The EXPLAIN ANALYZE plan of each is printed during
+ * setup. Requires Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailLookupBenchmark {
+
+    private static final int USER_COUNT = 1_000_000;
+
+    private static final String EXACT_MATCH_QUERY = "SELECT user_id FROM users WHERE email = $1";
+    private static final String LOWER_MATCH_QUERY = "SELECT user_id FROM users WHERE LOWER(email) = LOWER($1)";
+
+    private PostgresBenchmarkFixture database;
+    private PostgresqlConnection connection;
+    private String email;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = PostgresBenchmarkFixture.start(USER_COUNT);
+        connection = database.connection();
+
+        email = PostgresBenchmarkFixture.email(USER_COUNT / 2);
+        database.printPlan(EXACT_MATCH_QUERY, email);
+        database.printPlan(LOWER_MATCH_QUERY, email);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public UUID exactMatch() {
+        return findUserId(EXACT_MATCH_QUERY);
+    }
+
+    @Benchmark
+    public UUID lowerMatch() {
+        return findUserId(LOWER_MATCH_QUERY);
+    }
+
+    private UUID findUserId(String query) {
+        return connection.createStatement(query)
+                .bind("$1", email)
+                .execute()
+                .flatMap(result -> result.map((row, metadata) -> row.get("user_id", UUID.class)))
+                .blockFirst();
+    }
+}
@@ -0,0 +1,115 @@
+package crediya.authentication.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import crediya.authentication.api.exception.GlobalExceptionHandler;
+import crediya.authentication.api.exception.ProblemResponse;
+import crediya.authentication.r2dbc.helper.ConstraintViolations;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Error responses from GlobalExceptionHandler, built and serialized to bytes as the JSON
+ * encoder would. Integrity violations include the adapter's translation to a domain
+ * exception. The {@code map*} methods reproduce the previous HashMap bodies with a
+ * LocalDateTime and, for integrity violations, the lowercased message match; both sides
+ * use an ObjectMapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private WebExchangeBindException bindException;
+    private DataIntegrityViolationException integrityViolation;
+
+    @Setup
+    public void setUp() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "userCreateRequest");
+        bindingResult.addError(new FieldError("userCreateRequest", "firstName", "First name is required"));
+        bindingResult.addError(new FieldError("userCreateRequest", "email", "Email must be valid"));
+        bindingResult.addError(new FieldError("userCreateRequest", "baseSalary", "Base salary is required"));
+        bindException = new WebExchangeBindException(null, bindingResult);
+        integrityViolation = new DataIntegrityViolationException(
+                "executeMany; SQL [INSERT INTO users ...]; duplicate key value violates unique constraint "
+                        + "\"idx_users_email_unique\"",
+                new R2dbcDataIntegrityViolationException("duplicate key value violates unique constraint", "23505"));
+    }
+
+    @Benchmark
+    public byte[] validationProblem() throws Exception {
+        ProblemResponse body = handler.handleValidationExceptions(bindException).block().getBody();
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] validationMap() throws Exception {
+        Map<String, String> fieldErrors = bindException.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .collect(Collectors.toMap(
+                        FieldError::getField,
+                        error -> error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value"));
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", 400);
+        errorResponse.put("error", "Validation Failed");
+        errorResponse.put("message", "Request validation failed");
+        errorResponse.put("fieldErrors", fieldErrors);
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] integrityViolationProblem() throws Exception {
+        ProblemResponse body = handler.handleDataConstraintViolation(ConstraintViolations.translate(integrityViolation))
+                .block().getBody();
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] integrityViolationMap() throws Exception {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        String message = integrityViolation.getMessage().toLowerCase(Locale.ROOT);
+        if (message.contains("not-null constraint") && message.contains("user_id")) {
+            errorResponse.put("status", 500);
+            errorResponse.put("error", "Internal Server Error");
+            errorResponse.put("message", "An unexpected error occurred");
+        } else if (message.contains("duplicate key value") && message.contains("email")) {
+            errorResponse.put("status", 409);
+            errorResponse.put("error", "Conflict");
+            errorResponse.put("message", "Email already registered");
+        } else {
+            errorResponse.put("status", 409);
+            errorResponse.put("error", "Conflict");
+            errorResponse.put("message", "Data conflict occurred");
+        }
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
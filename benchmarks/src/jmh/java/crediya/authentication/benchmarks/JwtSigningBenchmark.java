@@ -0,0 +1,72 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.api.config.JwtTokenManagerImpl;
+import crediya.authentication.model.auth.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per token in JwtTokenManagerImpl. The {@code perCall*} methods reproduce the
+ * previous implementation, which derived the HMAC key and built a new parser on every call;
+ * read {@code gc.alloc.rate.norm} next to the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private JwtTokenManagerImpl jwtTokenManager;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenManager = new JwtTokenManagerImpl(
+                BenchmarkFixtures.JWT_SECRET,
+                BenchmarkFixtures.JWT_EXPIRATION_MILLIS,
+                BenchmarkFixtures.JWT_ISSUER,
+                BenchmarkFixtures.JWT_AUDIENCE);
+        token = jwtTokenManager.generateToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLE_NAME);
+    }
+
+    @Benchmark
+    public String generateWithCachedKey() {
+        return jwtTokenManager.generateToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLE_NAME);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyWithCachedParser() {
+        return jwtTokenManager.verify(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenManager.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims perCallKeyAndParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(BenchmarkFixtures.JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
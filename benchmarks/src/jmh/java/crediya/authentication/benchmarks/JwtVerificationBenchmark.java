@@ -0,0 +1,58 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.api.config.JwtTokenManagerImpl;
+import crediya.authentication.model.auth.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in JwtAuthenticationFilter.
+ * {@code validateThenExtractClaims} reproduces the previous flow (three full parses),
+ * {@code verifyOnce} the current one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtTokenManagerImpl jwtTokenManager;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenManager = new JwtTokenManagerImpl(
+                BenchmarkFixtures.JWT_SECRET,
+                BenchmarkFixtures.JWT_EXPIRATION_MILLIS,
+                BenchmarkFixtures.JWT_ISSUER,
+                BenchmarkFixtures.JWT_AUDIENCE);
+        token = jwtTokenManager.generateToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLE_NAME);
+    }
+
+    @Benchmark
+    public void validateThenExtractClaims(Blackhole blackhole) {
+        if (jwtTokenManager.validateToken(token)) {
+            blackhole.consume(jwtTokenManager.getUserIdFromToken(token));
+            blackhole.consume(jwtTokenManager.getRoleFromToken(token));
+        }
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyOnce() {
+        return jwtTokenManager.verify(token);
+    }
+}
@@ -0,0 +1,93 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.api.dto.UserCreateRequest;
+import crediya.authentication.api.dto.UserResponse;
+import crediya.authentication.api.mapper.UserResponseMapper;
+import crediya.authentication.api.mapper.UserResponseMapperImpl;
+import crediya.authentication.model.user.User;
+import crediya.authentication.r2dbc.entity.UserEntity;
+import crediya.authentication.r2dbc.mapper.UserEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct conversions on the request and row paths. Entity to domain and request to
+ * domain include Email and Salary construction, so compare with ValueObjectBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final UserEntityMapper userEntityMapper = UserEntityMapper.INSTANCE;
+    private final UserResponseMapper userResponseMapper = new UserResponseMapperImpl();
+
+    private UserEntity userEntity;
+    private User user;
+    private UserCreateRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        userEntity = UserEntity.builder()
+                .id(UUID.fromString(BenchmarkFixtures.USER_ID))
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .identityDocument("123456789")
+                .phone("3216549870")
+                .roleId(2)
+                .baseSalary(new BigDecimal("2500000"))
+                .birthDate("1990-01-01")
+                .address("Street 123 #45-67")
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuvCu8vWqmHnQ3Q2rkH4n3Q0a8eBVs0dAa")
+                .build();
+        user = userEntityMapper.entityToDomain(userEntity);
+        createRequest = UserCreateRequest.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .identityDocument("123456789")
+                .phone("3216549870")
+                .roleId("2")
+                .baseSalary(new BigDecimal("2500000"))
+                .birthDate("1990-01-01")
+                .address("Street 123 #45-67")
+                .password("Secret123!")
+                .build();
+    }
+
+    @Benchmark
+    public User entityToDomain() {
+        return userEntityMapper.entityToDomain(userEntity);
+    }
+
+    @Benchmark
+    public UserEntity domainToEntity() {
+        return userEntityMapper.domainToEntity(user);
+    }
+
+    @Benchmark
+    public User requestToDomain() {
+        return userResponseMapper.toDomain(createRequest);
+    }
+
+    @Benchmark
+    public UserResponse domainToResponse() {
+        return userResponseMapper.toResponse(user);
+    }
+}
@@ -0,0 +1,126 @@
+package crediya.authentication.benchmarks;
+
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Throwaway PostgreSQL initialised with the same {@code database/init} scripts as the
+ * docker-compose database and seeded with fully populated users, so the lookup benchmarks
+ * query the schema and indexes the service runs against. Requires Docker.
+ */
+final class PostgresBenchmarkFixture implements AutoCloseable {
+
+    private static final String DATABASE = "crediya_auth";
+    private static final String USERNAME = "crediya_user";
+    private static final String PASSWORD = "crediya_pass";
+
+    private static final String IMAGE = "postgres:15-alpine";
+    private static final String INIT_DIR = "/docker-entrypoint-initdb.d/";
+    private static final String INIT_SCRIPTS = System.getProperty("benchmark.init-scripts", "database/init");
+
+    private static final String SEED_USERS = """
+            INSERT INTO users (first_name, last_name, email, password_hash, identity_document, phone,
+                               role_id, base_salary, birth_date, address)
+            SELECT 'User', 'Number ' || n, 'user' || n || '@example.com',
+                   '$2a$12$abcdefghijklmnopqrstuvCu8vWqmHnQ3Q2rkH4n3Q0a8eBVs0dAa',
+                   (100000000 + n)::text, '3' || lpad(n::text, 9, '0'),
+                   (SELECT role_id FROM roles ORDER BY role_id OFFSET n %% 3 LIMIT 1), 2500000,
+                   '1990-01-01', 'Street ' || n || ' #45-67'
+            FROM generate_series(1, %d) AS n""";
+
+    private final PostgreSQLContainer<?> container;
+    private final PostgresqlConnection connection;
+
+    private PostgresBenchmarkFixture(PostgreSQLContainer<?> container, PostgresqlConnection connection) {
+        this.container = container;
+        this.connection = connection;
+    }
+
+    /**
+     * Starts the database and inserts {@code userCount} users with emails
+     * {@code user<n>@example.com}, n starting at 1.
+     */
+    static PostgresBenchmarkFixture start(int userCount) {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE)
+                .withDatabaseName(DATABASE)
+                .withUsername(USERNAME)
+                .withPassword(PASSWORD);
+        try (Stream<Path> scripts = Files.list(Path.of(INIT_SCRIPTS))) {
+            scripts.filter(script -> script.getFileName().toString().endsWith(".sql"))
+                    .sorted()
+                    .forEach(script -> container.withCopyFileToContainer(
+                            MountableFile.forHostPath(script), INIT_DIR + script.getFileName()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read init scripts from " + INIT_SCRIPTS, e);
+        }
+        container.start();
+
+        psql(container, SEED_USERS.formatted(userCount));
+        // Index-only scans need the visibility map, which autovacuum would set in production
+        psql(container, "VACUUM ANALYZE users");
+
+        PostgresqlConnection connection = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+                .host(container.getHost())
+                .port(container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .database(DATABASE)
+                .username(USERNAME)
+                .password(PASSWORD)
+                .build())
+                .create()
+                .block();
+        return new PostgresBenchmarkFixture(container, connection);
+    }
+
+    static String email(int n) {
+        return "user" + n + "@example.com";
+    }
+
+    PostgresqlConnection connection() {
+        return connection;
+    }
+
+    /**
+     * Prints the EXPLAIN (ANALYZE, BUFFERS) plan of {@code query} with {@code $1} bound to {@code value}.
+     */
+    void printPlan(String query, String value) {
+        String explain = "EXPLAIN (ANALYZE, BUFFERS) " + query.replace("$1", "'" + value + "'");
+        System.out.println(explain);
+        connection.createStatement(explain).execute()
+                .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+                .doOnNext(line -> System.out.println("  " + line))
+                .blockLast();
+    }
+
+    private static void psql(PostgreSQLContainer<?> container, String sql) {
+        try {
+            Container.ExecResult result = container.execInContainer(
+                    "psql", "-U", USERNAME, "-d", DATABASE, "-v", "ON_ERROR_STOP=1", "-tAc", sql);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("psql failed: " + result.getStderr());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running psql", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) {
+            connection.close().block();
+        }
+        container.stop();
+    }
+}
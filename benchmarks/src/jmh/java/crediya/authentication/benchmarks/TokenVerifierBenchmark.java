@@ -0,0 +1,91 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.verifier.TokenVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link TokenVerifier} in a downstream service: local signature, expiry,
+ * issuer and audience checks with the key already cached, and the same plus the in-process
+ * permission decision. Compare with {@link JwtVerificationBenchmark} (HMAC in this service)
+ * and with the round trip a remote check would add.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private static final String KEY_ID = "benchmark-key";
+
+    @Param({"ES256", "EdDSA"})
+    public String algorithm;
+
+    private TokenVerifier tokenVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        boolean es256 = "ES256".equals(algorithm);
+        SignatureAlgorithm signatureAlgorithm = es256 ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA;
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(es256 ? "EC" : "Ed25519");
+        if (es256) {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+        tokenVerifier = TokenVerifier
+                .builder(keyId -> KEY_ID.equals(keyId) ? keyPair.getPublic() : null)
+                .issuer(BenchmarkFixtures.JWT_ISSUER)
+                .audience(BenchmarkFixtures.JWT_AUDIENCE)
+                .build();
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .subject(BenchmarkFixtures.USER_ID)
+                .claim("role", BenchmarkFixtures.ROLE_NAME)
+                .issuer(BenchmarkFixtures.JWT_ISSUER)
+                .audience().add(BenchmarkFixtures.JWT_AUDIENCE).and()
+                .issuedAt(Date.from(now))
+                .expiration(new Date(now.toEpochMilli() + BenchmarkFixtures.JWT_EXPIRATION_MILLIS))
+                .id(UUID.randomUUID().toString())
+                .signWith(keyPair.getPrivate(), signatureAlgorithm)
+                .compact();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return tokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    public boolean verifyAndAuthorize() {
+        Optional<VerifiedToken> verified = tokenVerifier.verify(token);
+        return verified.isPresent()
+                && tokenVerifier.hasPermission(verified.get(), Permission.APPROVE_LOAN_APPLICATION);
+    }
+}
@@ -0,0 +1,42 @@
+package crediya.authentication.benchmarks;
+
+import crediya.authentication.model.valueobjects.Email;
+import crediya.authentication.model.valueobjects.Salary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value object construction paid on every registration, login and row mapped from the
+ * database: the Email regex match plus normalization, and the Salary range checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private final String email = "John.Doe@Example.com";
+    private final BigDecimal salary = new BigDecimal("2500000");
+
+    @Benchmark
+    public Email emailOf() {
+        return Email.of(email);
+    }
+
+    @Benchmark
+    public Salary salaryOf() {
+        return Salary.of(salary);
+    }
+}
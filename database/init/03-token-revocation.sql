@@ -0,0 +1,25 @@
+-- Token Revocation Schema
+-- Created: 2026-10-17
+-- Description: Revoked JWT ids (jti), kept until the token would have expired
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    subject VARCHAR(255),
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Nodes poll for revocations newer than their last refresh
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+-- Housekeeping deletes rows whose token has expired
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+
+-- Grant permissions
+GRANT SELECT, INSERT, DELETE ON revoked_tokens TO crediya_user;
+
+-- Comments for documentation
+COMMENT ON TABLE revoked_tokens IS 'JWT ids revoked by logout or by an administrator';
+COMMENT ON COLUMN revoked_tokens.token_id IS 'The jti claim of the revoked token';
+COMMENT ON COLUMN revoked_tokens.subject IS 'User id the token was issued to, when known';
+COMMENT ON COLUMN revoked_tokens.expires_at IS 'Token expiry; the row can be deleted afterwards';
+COMMENT ON COLUMN revoked_tokens.revoked_at IS 'Database time of revocation, used for incremental refresh';
@@ -0,0 +1,30 @@
+-- Refresh Tokens Schema
+-- Created: 2026-10-17
+-- Description: Hashed, single-use refresh tokens rotated within a family
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash CHAR(64) PRIMARY KEY,
+    user_id UUID NOT NULL,
+    family_id UUID NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    used_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT fk_refresh_tokens_user_id
+        FOREIGN KEY (user_id) REFERENCES users(user_id)
+        ON DELETE CASCADE
+);
+
+-- Replay of a used token revokes its whole family
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+-- Housekeeping of expired tokens
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
+
+-- Grant permissions
+GRANT SELECT, INSERT, UPDATE, DELETE ON refresh_tokens TO crediya_user;
+
+-- Comments for documentation
+COMMENT ON TABLE refresh_tokens IS 'Opaque refresh tokens; only their SHA-256 hash is stored';
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'Hex SHA-256 of the token handed to the client';
+COMMENT ON COLUMN refresh_tokens.family_id IS 'Shared by every token rotated from the same login';
+COMMENT ON COLUMN refresh_tokens.used_at IS 'Set when the token is exchanged or its family revoked';
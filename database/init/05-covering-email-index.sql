@@ -0,0 +1,16 @@
+-- Covering Email Index
+-- Created: 2026-10-17
+-- Description: Adds email, user_id, password_hash and role_id to idx_users_email_unique so the
+-- login lookup is answered by an index-only scan; only LOWER(email) is part of the key, and
+-- email itself must be included because PostgreSQL only plans an index-only scan on an
+-- expression index when every column the query references is stored in it
+
+-- Built next to the current index first, so email uniqueness is enforced throughout and
+-- writes are not blocked while it builds; then it takes over the original name, which
+-- ON CONFLICT inference and the duplicate-email mapping rely on
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_unique_covering
+ON users (LOWER(email)) INCLUDE (email, user_id, password_hash, role_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_email_unique;
+
+ALTER INDEX IF EXISTS idx_users_email_unique_covering RENAME TO idx_users_email_unique;
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,4 +15,7 @@ public class AuthenticationResult {
     private final String userId;
     private final Integer roleId;
     private final LocalDateTime expiresAt;
+    private final Duration expiresIn;
+    private final String refreshToken;
+    private final Duration refreshTokenExpiresIn;
 }
\ No newline at end of file
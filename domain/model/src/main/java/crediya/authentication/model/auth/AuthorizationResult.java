@@ -1,5 +1,7 @@
 package crediya.authentication.model.auth;
 
+import crediya.authentication.model.constants.AuthorizationMessages;
+import crediya.authentication.model.role.RoleType;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +14,36 @@ public class AuthorizationResult {
     private final String reason; // Optional - explanation for denial
     private final Permission permission; // The permission that was checked
     
+    // Results are immutable, so the outcomes of the per-request checks are built once and shared
+    private static final AuthorizationResult[] AUTHORIZED = new AuthorizationResult[Permission.values().length];
+    private static final AuthorizationResult[] INVALID_CONTEXT = new AuthorizationResult[Permission.values().length];
+    private static final AuthorizationResult INVALID_CONTEXT_WITHOUT_PERMISSION =
+            new AuthorizationResult(false, AuthorizationMessages.INVALID_AUTHORIZATION_CONTEXT, null);
+    private static final AuthorizationResult[][] ROLE_DENIED =
+            new AuthorizationResult[RoleType.values().length][Permission.values().length];
+    
+    static {
+        for (Permission permission : Permission.values()) {
+            AUTHORIZED[permission.ordinal()] = new AuthorizationResult(true, null, permission);
+            INVALID_CONTEXT[permission.ordinal()] =
+                    new AuthorizationResult(false, AuthorizationMessages.INVALID_AUTHORIZATION_CONTEXT, permission);
+            for (RoleType roleType : RoleType.values()) {
+                ROLE_DENIED[roleType.ordinal()][permission.ordinal()] = new AuthorizationResult(false,
+                        String.format(AuthorizationMessages.ROLE_PERMISSION_DENIED_TEMPLATE,
+                                roleType.getName(), permission.getCode()),
+                        permission);
+            }
+        }
+    }
+    
+    /**
+     * Shared instance per permission.
+     */
     public static AuthorizationResult authorized(Permission permission) {
-        return AuthorizationResult.builder()
-                .authorized(true)
-                .permission(permission)
-                .build();
+        if (permission == null) {
+            return new AuthorizationResult(true, null, null);
+        }
+        return AUTHORIZED[permission.ordinal()];
     }
     
     public static AuthorizationResult denied(Permission permission, String reason) {
@@ -31,6 +58,20 @@ public class AuthorizationResult {
         return denied(permission, "Access denied for permission: " + permission.getCode());
     }
     
+    /**
+     * Shared denial for a role that is not granted the permission, with the reason already formatted.
+     */
+    public static AuthorizationResult deniedForRole(RoleType roleType, Permission permission) {
+        return ROLE_DENIED[roleType.ordinal()][permission.ordinal()];
+    }
+    
+    /**
+     * Shared denial for a missing user, role or permission.
+     */
+    public static AuthorizationResult invalidContext(Permission permission) {
+        return permission == null ? INVALID_CONTEXT_WITHOUT_PERMISSION : INVALID_CONTEXT[permission.ordinal()];
+    }
+    
     public boolean isAuthorized() {
         return authorized;
     }
@@ -38,4 +79,4 @@ public class AuthorizationResult {
     public boolean isDenied() {
         return !authorized;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,9 @@ import crediya.authentication.model.constants.AuthorizationMessages;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @RequiredArgsConstructor
 public enum Permission {
@@ -21,22 +24,43 @@ public enum Permission {
     
     // System permissions
     VIEW_SYSTEM_HEALTH("VIEW_SYSTEM_HEALTH", "Can view system health information"),
-    MANAGE_SYSTEM_CONFIG("MANAGE_SYSTEM_CONFIG", "Can manage system configuration");
+    MANAGE_SYSTEM_CONFIG("MANAGE_SYSTEM_CONFIG", "Can manage system configuration"),
+    REVOKE_TOKENS("REVOKE_TOKENS", "Can revoke any user's access tokens");
     
     private final String code;
     private final String description;
     
+    // values() clones the array on every call, so lookups use this table built once
+    private static final Map<String, Permission> BY_CODE = indexByCode();
+    
     public static Permission fromCode(String code) {
         if (code == null || code.trim().isEmpty()) {
             throw new IllegalArgumentException(AuthorizationMessages.PERMISSION_CODE_CANNOT_BE_NULL);
         }
         
-        for (Permission permission : values()) {
-            if (permission.getCode().equals(code.trim())) {
-                return permission;
-            }
+        // Codes match case-sensitively, as they always have
+        Permission permission = BY_CODE.get(code.trim());
+        if (permission != null) {
+            return permission;
         }
         
         throw new IllegalArgumentException(String.format(AuthorizationMessages.INVALID_PERMISSION_CODE, code));
     }
+    
+    /**
+     * Fast path for codes already in canonical form: one map lookup with no trimming.
+     * Anything else gets {@link #fromCode}.
+     */
+    public static Permission fromCanonicalCode(String code) {
+        Permission permission = code != null ? BY_CODE.get(code) : null;
+        return permission != null ? permission : fromCode(code);
+    }
+    
+    private static Map<String, Permission> indexByCode() {
+        Map<String, Permission> byCode = new HashMap<>();
+        for (Permission permission : values()) {
+            byCode.put(permission.getCode(), permission);
+        }
+        return Map.copyOf(byCode);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package crediya.authentication.model.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One entry of a batch authorization request: a permission and, for resource-level rules,
+ * the resource it applies to.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PermissionCheck {
+    private final Permission permission;
+    private final String targetResourceId; // Optional - for resource-level authorization
+    
+    public static PermissionCheck of(Permission permission, String targetResourceId) {
+        return new PermissionCheck(permission, targetResourceId);
+    }
+}
@@ -0,0 +1,26 @@
+package crediya.authentication.model.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Stored form of an opaque refresh token: only its SHA-256 hash is kept. Every token issued by
+ * rotating another one shares that token's family, so a replayed token can revoke the chain.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RefreshToken {
+    private final String tokenHash;
+    private final String userId;
+    private final String familyId;
+    private final Instant expiresAt;
+    private final Instant usedAt;
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+}
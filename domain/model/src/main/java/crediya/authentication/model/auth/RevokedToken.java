@@ -0,0 +1,25 @@
+package crediya.authentication.model.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A token id (jti) that must be rejected until the token would have expired anyway.
+ * {@code revokedAt} is assigned by the store, so every node orders revocations by one clock.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RevokedToken {
+    private final String tokenId;
+    private final String subject;
+    private final Instant expiresAt;
+    private final Instant revokedAt;
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt == null || !expiresAt.isAfter(instant);
+    }
+}
@@ -0,0 +1,27 @@
+package crediya.authentication.model.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature, expiry, issuer and audience have already been checked.
+ * Produced once per request so downstream code never has to parse the token again.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String subject;
+    private final String roleName;
+    private final String tokenId;
+    private final Instant expiresAt;
+    // Refresh-token family the token was issued with; null for tokens issued without one
+    private final String sessionId;
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt == null || !expiresAt.isAfter(instant);
+    }
+}
@@ -1,12 +1,33 @@
 package crediya.authentication.model.auth.gateways;
 
+import crediya.authentication.model.auth.VerifiedToken;
+
+import java.time.Duration;
+import java.util.Optional;
+
 public interface JwtTokenManager {
     
     String generateToken(String userId, String roleName);
     
+    /**
+     * Same as {@link #generateToken(String, String)}, tagged with the refresh-token family the
+     * token was issued for, so that logging out can end the whole session
+     */
+    String generateToken(String userId, String roleName, String sessionId);
+    
+    /**
+     * How long tokens from {@link #generateToken} stay valid; the single source for expiry values
+     */
+    Duration getTokenLifetime();
+    
     String getUserIdFromToken(String token);
     
     String getRoleFromToken(String token);
     
     boolean validateToken(String token);
+    
+    /**
+     * Parses and verifies the token exactly once, returning its claims when valid
+     */
+    Optional<VerifiedToken> verify(String token);
 }
\ No newline at end of file
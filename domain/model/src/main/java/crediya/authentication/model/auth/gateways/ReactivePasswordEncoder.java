@@ -0,0 +1,15 @@
+package crediya.authentication.model.auth.gateways;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link PasswordEncoder}.
+ * Implementations must run the hashing work off the caller's thread so that
+ * slow, CPU-bound hashing never executes on an event-loop thread.
+ */
+public interface ReactivePasswordEncoder {
+
+    Mono<String> encode(String rawPassword);
+
+    Mono<Boolean> matches(String rawPassword, String encodedPassword);
+}
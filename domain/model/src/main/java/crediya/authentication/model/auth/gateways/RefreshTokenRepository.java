@@ -0,0 +1,29 @@
+package crediya.authentication.model.auth.gateways;
+
+import crediya.authentication.model.auth.RefreshToken;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface RefreshTokenRepository {
+
+    Mono<Void> save(RefreshToken refreshToken);
+
+    /**
+     * Atomically marks the token used if it is unused and unexpired at {@code now}, emitting it;
+     * completes empty otherwise, so two concurrent refreshes cannot both succeed
+     */
+    Mono<RefreshToken> consume(String tokenHash, Instant now);
+
+    Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks every token of the family used
+     */
+    Mono<Void> revokeFamily(String familyId);
+
+    /**
+     * Drops tokens that expired before {@code now}, used or not; returns how many were removed
+     */
+    Mono<Long> deleteExpired(Instant now);
+}
@@ -0,0 +1,25 @@
+package crediya.authentication.model.auth.gateways;
+
+import crediya.authentication.model.auth.RevokedToken;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface RevokedTokenRepository {
+
+    /**
+     * Stores the revocation; revoking the same token id twice is a no-op.
+     */
+    Mono<Void> save(RevokedToken revokedToken);
+
+    /**
+     * Revocations recorded at or after {@code since} whose token has not expired at {@code now}.
+     */
+    Flux<RevokedToken> findActiveRevokedSince(Instant since, Instant now);
+
+    /**
+     * Drops revocations of tokens that expired before {@code now}; returns how many were removed.
+     */
+    Mono<Long> deleteExpired(Instant now);
+}
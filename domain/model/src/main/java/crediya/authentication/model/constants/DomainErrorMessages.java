@@ -26,6 +26,13 @@ public final class DomainErrorMessages {
 
     public static final String INVALID_ROLE_ID = "Invalid role ID";
     public static final String INVALID_CREDENTIALS = "Invalid email or password";
+
+    // Pagination messages
+    public static final String INVALID_PAGE_SIZE = "Page size must be greater than zero";
+
+    // Token revocation messages
+    public static final String TOKEN_ID_REQUIRED = "Token id is required";
+    public static final String INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
     
 
 }
\ No newline at end of file
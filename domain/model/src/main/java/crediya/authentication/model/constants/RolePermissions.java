@@ -3,14 +3,28 @@ package crediya.authentication.model.constants;
 import crediya.authentication.model.auth.Permission;
 import crediya.authentication.model.role.RoleType;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
-import java.util.Map;
 import java.util.Set;
 
+/**
+ * Role to permission table as one {@code long} bitmask per {@link RoleType} ordinal, bit
+ * {@link Permission#ordinal()} set when granted. Lookups are an array index and a mask test;
+ * {@link #getPermissions} returns a shared unmodifiable view, so neither allocates.
+ */
 public final class RolePermissions {
     
-    private static final Map<RoleType, Set<Permission>> ROLE_PERMISSION_MAP = Map.of(
-        RoleType.ADMIN, EnumSet.of(
+    private static final Set<Permission> NO_PERMISSIONS = Collections.unmodifiableSet(EnumSet.noneOf(Permission.class));
+    private static final long[] ROLE_MASKS = new long[RoleType.values().length];
+    private static final Set<Permission>[] ROLE_VIEWS = newViewArray(RoleType.values().length);
+    
+    static {
+        if (Permission.values().length > Long.SIZE) {
+            throw new IllegalStateException("Permission bitmask holds at most " + Long.SIZE + " permissions");
+        }
+        
+        grant(RoleType.ADMIN,
             // All user management permissions
             Permission.CREATE_USER,
             Permission.VIEW_ALL_USERS,
@@ -24,10 +38,11 @@ public final class RolePermissions {
             
             // System permissions
             Permission.VIEW_SYSTEM_HEALTH,
-            Permission.MANAGE_SYSTEM_CONFIG
-        ),
+            Permission.MANAGE_SYSTEM_CONFIG,
+            Permission.REVOKE_TOKENS
+        );
         
-        RoleType.ADVISOR, EnumSet.of(
+        grant(RoleType.ADVISOR,
             // Limited user management
             Permission.CREATE_USER,
             Permission.VIEW_ALL_USERS,
@@ -40,21 +55,28 @@ public final class RolePermissions {
             
             // Basic system access
             Permission.VIEW_SYSTEM_HEALTH
-        ),
+        );
         
-        RoleType.CUSTOMER, EnumSet.of(
+        grant(RoleType.CUSTOMER,
             // Own loan applications only
             Permission.CREATE_LOAN_APPLICATION,
             Permission.VIEW_OWN_LOAN_APPLICATION
-        )
-    );
+        );
+    }
     
+    private RolePermissions() {
+        // Utility class - prevent instantiation
+    }
+    
+    /**
+     * Unmodifiable, shared set of the role's permissions; empty for a null role.
+     */
     public static Set<Permission> getPermissions(RoleType roleType) {
         if (roleType == null) {
-            return EnumSet.noneOf(Permission.class);
+            return NO_PERMISSIONS;
         }
         
-        return ROLE_PERMISSION_MAP.getOrDefault(roleType, EnumSet.noneOf(Permission.class));
+        return ROLE_VIEWS[roleType.ordinal()];
     }
     
     public static boolean hasPermission(RoleType roleType, Permission permission) {
@@ -62,7 +84,35 @@ public final class RolePermissions {
             return false;
         }
         
-        return getPermissions(roleType).contains(permission);
+        return (ROLE_MASKS[roleType.ordinal()] & bit(permission)) != 0;
     }
-
-}
\ No newline at end of file
+    
+    /**
+     * The role's permissions as a bitmask over {@link Permission#ordinal()}; 0 for a null role.
+     */
+    public static long getPermissionMask(RoleType roleType) {
+        return roleType == null ? 0L : ROLE_MASKS[roleType.ordinal()];
+    }
+    
+    private static void grant(RoleType roleType, Permission... permissions) {
+        long mask = 0L;
+        EnumSet<Permission> view = EnumSet.noneOf(Permission.class);
+        for (Permission permission : permissions) {
+            mask |= bit(permission);
+            view.add(permission);
+        }
+        ROLE_MASKS[roleType.ordinal()] = mask;
+        ROLE_VIEWS[roleType.ordinal()] = Collections.unmodifiableSet(view);
+    }
+    
+    private static long bit(Permission permission) {
+        return 1L << permission.ordinal();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Set<Permission>[] newViewArray(int length) {
+        Set<Permission>[] views = new Set[length];
+        Arrays.fill(views, NO_PERMISSIONS);
+        return views;
+    }
+}
@@ -0,0 +1,32 @@
+package crediya.authentication.model.exception;
+
+/**
+ * A write rejected by a data constraint, already classified by the persistence adapter so
+ * that callers never inspect driver exceptions or SQLSTATE codes.
+ */
+public class DataConstraintViolationException extends DomainException {
+
+    private final Reason reason;
+
+    public DataConstraintViolationException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        DUPLICATE_EMAIL,
+        INVALID_EMAIL,
+        SALARY_OUT_OF_RANGE,
+        UNKNOWN_ROLE,
+        // A check constraint the adapter has no specific reason for
+        CHECK_VIOLATION,
+        // Requests are validated before they are written, so this is a fault of the service
+        MISSING_VALUE,
+        // Any other integrity violation
+        CONFLICT
+    }
+}
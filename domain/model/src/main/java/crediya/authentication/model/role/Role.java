@@ -3,22 +3,42 @@ package crediya.authentication.model.role;
 import crediya.authentication.model.auth.Permission;
 import crediya.authentication.model.constants.AuthorizationMessages;
 import crediya.authentication.model.constants.RolePermissions;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.Set;
 
 @Getter
-@Builder
-@AllArgsConstructor
 public class Role {
     private final Integer id;
     private final String name;
     private final String description;
     
+    // Resolved from name on first use; racing threads can only store the same constant
+    @Getter(AccessLevel.NONE)
+    private RoleType roleType;
+    
+    @Builder
+    public Role(Integer id, String name, String description) {
+        this(id, name, description, null);
+    }
+    
+    private Role(Integer id, String name, String description, RoleType roleType) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.roleType = roleType;
+    }
+    
     public RoleType getRoleType() {
-        return RoleType.fromName(this.name);
+        RoleType resolved = roleType;
+        if (resolved == null) {
+            // Unknown names keep throwing on every call, as before
+            resolved = RoleType.fromName(this.name);
+            roleType = resolved;
+        }
+        return resolved;
     }
     
     public Set<Permission> getPermissions() {
@@ -30,8 +50,8 @@ public class Role {
     }
     
     public boolean isAdministrative() {
-        RoleType roleType = getRoleType();
-        return roleType != null && roleType.hasAdministrativeAccess();
+        RoleType resolved = getRoleType();
+        return resolved != null && resolved.hasAdministrativeAccess();
     }
     
     public static Role fromRoleType(RoleType roleType) {
@@ -39,10 +59,6 @@ public class Role {
             throw new IllegalArgumentException(AuthorizationMessages.ROLE_TYPE_CANNOT_BE_NULL);
         }
         
-        return Role.builder()
-                .id(roleType.getId())
-                .name(roleType.getName())
-                .description(roleType.getDescription())
-                .build();
+        return new Role(roleType.getId(), roleType.getName(), roleType.getDescription(), roleType);
     }
-}
\ No newline at end of file
+}
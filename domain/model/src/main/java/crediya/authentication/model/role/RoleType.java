@@ -4,6 +4,10 @@ import crediya.authentication.model.constants.AuthorizationMessages;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Getter
 @RequiredArgsConstructor
 public enum RoleType {
@@ -15,15 +19,19 @@ public enum RoleType {
     private final String name;
     private final String description;
     
+    // values() clones the array on every call, so lookups use these tables built once
+    private static final RoleType[] VALUES = values();
+    private static final RoleType[] BY_ID = indexById();
+    private static final Map<String, RoleType> BY_NAME = indexByName();
+    
     public static RoleType fromId(Integer id) {
         if (id == null) {
             return null;
         }
         
-        for (RoleType roleType : values()) {
-            if (roleType.getId().equals(id)) {
-                return roleType;
-            }
+        int index = id;
+        if (index >= 0 && index < BY_ID.length && BY_ID[index] != null) {
+            return BY_ID[index];
         }
         
         throw new IllegalArgumentException(String.format(AuthorizationMessages.INVALID_ROLE_ID, id));
@@ -34,15 +42,52 @@ public enum RoleType {
             return null;
         }
         
-        for (RoleType roleType : values()) {
-            if (roleType.getName().equalsIgnoreCase(name.trim())) {
-                return roleType;
+        String trimmed = name.trim();
+        RoleType roleType = BY_NAME.get(trimmed.toUpperCase(Locale.ROOT));
+        // Re-checked because String.toUpperCase can expand ligatures that equalsIgnoreCase rejects
+        if (roleType != null && roleType.getName().equalsIgnoreCase(trimmed)) {
+            return roleType;
+        }
+        
+        // ...and equalsIgnoreCase folds a few letters (e.g. U+0130) that toUpperCase keeps
+        for (RoleType candidate : VALUES) {
+            if (candidate.getName().equalsIgnoreCase(trimmed)) {
+                return candidate;
             }
         }
         
         throw new IllegalArgumentException(String.format(AuthorizationMessages.INVALID_ROLE_NAME, name));
     }
     
+    /**
+     * Fast path for names already in canonical form, e.g. the role claim this service signs:
+     * one map lookup with no trimming or case folding. Anything else gets {@link #fromName}.
+     */
+    public static RoleType fromCanonicalName(String name) {
+        RoleType roleType = name != null ? BY_NAME.get(name) : null;
+        return roleType != null ? roleType : fromName(name);
+    }
+    
+    private static RoleType[] indexById() {
+        int maxId = 0;
+        for (RoleType roleType : values()) {
+            maxId = Math.max(maxId, roleType.getId());
+        }
+        RoleType[] byId = new RoleType[maxId + 1];
+        for (RoleType roleType : values()) {
+            byId[roleType.getId()] = roleType;
+        }
+        return byId;
+    }
+    
+    private static Map<String, RoleType> indexByName() {
+        Map<String, RoleType> byName = new HashMap<>();
+        for (RoleType roleType : values()) {
+            byName.put(roleType.getName().toUpperCase(Locale.ROOT), roleType);
+        }
+        return Map.copyOf(byName);
+    }
+    
     public boolean isAdmin() {
         return this == ADMIN;
     }
@@ -0,0 +1,18 @@
+package crediya.authentication.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The part of a user that login needs. Loaded on its own so authentication does not build
+ * (and re-validate) the whole {@link User}.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserCredentials {
+    private final String userId;
+    private final String passwordHash;
+    private final Integer roleId;
+}
@@ -0,0 +1,36 @@
+package crediya.authentication.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One entry of a bulk import: a user still to be created, or an entry whose outcome is
+ * already known (e.g. it failed validation). The index is the entry's position in the
+ * incoming batch and is echoed back in its result.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class UserImportItem {
+    private final long index;
+    private final User user;
+    private final String email;
+    private final UserImportResult result;
+
+    public static UserImportItem valid(long index, User user) {
+        return new UserImportItem(index, user, user.getEmail() != null ? user.getEmail().getValue() : null, null);
+    }
+
+    public static UserImportItem rejected(long index, String email, String message) {
+        return new UserImportItem(index, null, email, UserImportResult.rejected(index, email, message));
+    }
+
+    public static UserImportItem failed(long index, String email, String message) {
+        return new UserImportItem(index, null, email, UserImportResult.failed(index, email, message));
+    }
+
+    public boolean isResolved() {
+        return result != null;
+    }
+}
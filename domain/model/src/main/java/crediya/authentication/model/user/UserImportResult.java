@@ -0,0 +1,39 @@
+package crediya.authentication.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserImportResult {
+    private final long index;
+    private final String email;
+    private final Status status;
+    private final String userId;
+    private final String message;
+
+    public enum Status {
+        CREATED,
+        ALREADY_EXISTS,
+        REJECTED,
+        FAILED
+    }
+
+    public static UserImportResult created(long index, User user) {
+        return new UserImportResult(index, user.getEmail().getValue(), Status.CREATED, user.getId(), null);
+    }
+
+    public static UserImportResult alreadyExists(long index, String email, String message) {
+        return new UserImportResult(index, email, Status.ALREADY_EXISTS, null, message);
+    }
+
+    public static UserImportResult rejected(long index, String email, String message) {
+        return new UserImportResult(index, email, Status.REJECTED, null, message);
+    }
+
+    public static UserImportResult failed(long index, String email, String message) {
+        return new UserImportResult(index, email, Status.FAILED, null, message);
+    }
+}
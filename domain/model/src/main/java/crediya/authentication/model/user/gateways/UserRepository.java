@@ -1,18 +1,48 @@
 package crediya.authentication.model.user.gateways;
 
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserCredentials;
 import crediya.authentication.model.valueobjects.Email;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface UserRepository {
 
     Mono<User> save(User user);
 
+    /**
+     * Inserts the user in a single statement unless the email is already registered,
+     * in which case the result completes empty
+     */
+    Mono<User> saveIfEmailAbsent(User user);
+
+    /**
+     * Inserts the users in one batched statement, skipping those whose email is already
+     * registered, and emits only the users that were created
+     */
+    Flux<User> saveAllIfEmailAbsent(List<User> users);
+
     Flux<User> getAll();
+
+    /**
+     * Returns up to {@code limit} users ordered by id, starting after {@code afterId} (null for the first page)
+     */
+    Flux<User> findPage(String afterId, int limit);
     
     Mono<Boolean> existsByEmail(Email email);
     
     Mono<User> findByEmail(Email email);
 
+    /**
+     * Loads only the id, password hash and role of the user with the email, for login
+     */
+    Mono<UserCredentials> findCredentialsByEmail(Email email);
+
+    /**
+     * Completes empty when no user has the id, including when it is not a valid id
+     */
+    Mono<User> findById(String id);
+
 }
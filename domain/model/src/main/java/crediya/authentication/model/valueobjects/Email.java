@@ -2,6 +2,7 @@ package crediya.authentication.model.valueobjects;
 
 import crediya.authentication.model.constants.DomainErrorMessages;
 import crediya.authentication.model.exception.ValidationException;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -26,7 +27,8 @@ public class Email {
             throw new ValidationException("email", DomainErrorMessages.EMAIL_INVALID_FORMAT + ": " + trimmedEmail);
         }
         
-        return new Email(trimmedEmail);
+        // Stored and compared lower-cased so lookups line up with the LOWER(email) unique index
+        return new Email(trimmedEmail.toLowerCase(Locale.ROOT));
     }
     
     public String getValue() {
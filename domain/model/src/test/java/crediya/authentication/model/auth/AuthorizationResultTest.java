@@ -1,5 +1,6 @@
 package crediya.authentication.model.auth;
 
+import crediya.authentication.model.role.RoleType;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -93,4 +94,27 @@ class AuthorizationResultTest {
         assertNull(result.getPermission());
         assertNull(result.getReason());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldShareAuthorizedAndRoleDeniedResults() {
+        // When
+        AuthorizationResult authorized = AuthorizationResult.authorized(Permission.VIEW_ALL_USERS);
+        AuthorizationResult denied = AuthorizationResult.deniedForRole(RoleType.ADVISOR, Permission.DELETE_USER);
+
+        // Then
+        assertSame(authorized, AuthorizationResult.authorized(Permission.VIEW_ALL_USERS));
+        assertSame(denied, AuthorizationResult.deniedForRole(RoleType.ADVISOR, Permission.DELETE_USER));
+        assertFalse(denied.isAuthorized());
+        assertEquals(Permission.DELETE_USER, denied.getPermission());
+        assertEquals("Role ADVISOR does not have permission DELETE_USER", denied.getReason());
+    }
+
+    @Test
+    void shouldShareInvalidContextResults() {
+        // When/Then
+        assertSame(AuthorizationResult.invalidContext(Permission.CREATE_USER),
+                AuthorizationResult.invalidContext(Permission.CREATE_USER));
+        assertEquals("Invalid authorization context", AuthorizationResult.invalidContext(null).getReason());
+        assertNull(AuthorizationResult.invalidContext(null).getPermission());
+    }
+}
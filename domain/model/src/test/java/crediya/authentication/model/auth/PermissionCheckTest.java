@@ -0,0 +1,30 @@
+package crediya.authentication.model.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionCheckTest {
+
+    @Test
+    void shouldCreatePermissionCheckWithTargetResource() {
+        // When
+        PermissionCheck check = PermissionCheck.of(Permission.VIEW_OWN_LOAN_APPLICATION, "user-123");
+
+        // Then
+        assertEquals(Permission.VIEW_OWN_LOAN_APPLICATION, check.getPermission());
+        assertEquals("user-123", check.getTargetResourceId());
+    }
+
+    @Test
+    void shouldCreatePermissionCheckWithoutTargetResource() {
+        // When
+        PermissionCheck check = PermissionCheck.builder()
+                .permission(Permission.CREATE_USER)
+                .build();
+
+        // Then
+        assertEquals(Permission.CREATE_USER, check.getPermission());
+        assertNull(check.getTargetResourceId());
+    }
+}
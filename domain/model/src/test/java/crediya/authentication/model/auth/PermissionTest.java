@@ -113,4 +113,19 @@ class PermissionTest {
         
         assertTrue(exception.getMessage().contains("Invalid permission code: INVALID_PERMISSION"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldKeepCodesCaseSensitive() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> Permission.fromCode("create_user"));
+    }
+
+    @Test
+    void shouldResolveCanonicalCodesAndFallBackForOthers() {
+        // When/Then
+        assertEquals(Permission.CREATE_USER, Permission.fromCanonicalCode("CREATE_USER"));
+        assertEquals(Permission.CREATE_USER, Permission.fromCanonicalCode("  CREATE_USER "));
+        assertThrows(IllegalArgumentException.class, () -> Permission.fromCanonicalCode(null));
+        assertThrows(IllegalArgumentException.class, () -> Permission.fromCanonicalCode("INVALID_PERMISSION"));
+    }
+}
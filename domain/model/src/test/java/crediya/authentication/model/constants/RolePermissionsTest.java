@@ -0,0 +1,65 @@
+package crediya.authentication.model.constants;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.role.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RolePermissionsTest {
+
+    @Test
+    @DisplayName("Should grant each role exactly its permissions")
+    void shouldGrantEachRoleItsPermissions() {
+        assertThat(RolePermissions.getPermissions(RoleType.ADMIN)).containsExactlyInAnyOrder(
+                Permission.CREATE_USER, Permission.VIEW_ALL_USERS, Permission.UPDATE_USER, Permission.DELETE_USER,
+                Permission.VIEW_ALL_LOAN_APPLICATIONS, Permission.APPROVE_LOAN_APPLICATION,
+                Permission.VIEW_SYSTEM_HEALTH, Permission.MANAGE_SYSTEM_CONFIG, Permission.REVOKE_TOKENS);
+        assertThat(RolePermissions.getPermissions(RoleType.ADVISOR)).containsExactlyInAnyOrder(
+                Permission.CREATE_USER, Permission.VIEW_ALL_USERS, Permission.UPDATE_USER,
+                Permission.VIEW_ALL_LOAN_APPLICATIONS, Permission.APPROVE_LOAN_APPLICATION,
+                Permission.VIEW_SYSTEM_HEALTH);
+        assertThat(RolePermissions.getPermissions(RoleType.CUSTOMER)).containsExactlyInAnyOrder(
+                Permission.CREATE_LOAN_APPLICATION, Permission.VIEW_OWN_LOAN_APPLICATION);
+    }
+
+    @Test
+    @DisplayName("Should agree between the bitmask and the permission views for every pair")
+    void shouldAgreeBetweenMaskAndViews() {
+        for (RoleType roleType : RoleType.values()) {
+            Set<Permission> granted = RolePermissions.getPermissions(roleType);
+            for (Permission permission : Permission.values()) {
+                assertThat(RolePermissions.hasPermission(roleType, permission))
+                        .as("%s %s", roleType, permission)
+                        .isEqualTo(granted.contains(permission));
+                assertThat((RolePermissions.getPermissionMask(roleType) & (1L << permission.ordinal())) != 0)
+                        .isEqualTo(granted.contains(permission));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return shared unmodifiable views without allocating")
+    void shouldReturnSharedUnmodifiableViews() {
+        Set<Permission> permissions = RolePermissions.getPermissions(RoleType.CUSTOMER);
+
+        assertThat(RolePermissions.getPermissions(RoleType.CUSTOMER)).isSameAs(permissions);
+        assertThat(RolePermissions.getPermissions(null)).isSameAs(RolePermissions.getPermissions(null)).isEmpty();
+        assertThatThrownBy(() -> permissions.add(Permission.MANAGE_SYSTEM_CONFIG))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(EnumSet.copyOf(permissions)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should deny null roles and null permissions")
+    void shouldDenyNulls() {
+        assertThat(RolePermissions.hasPermission(null, Permission.CREATE_USER)).isFalse();
+        assertThat(RolePermissions.hasPermission(RoleType.ADMIN, null)).isFalse();
+        assertThat(RolePermissions.getPermissionMask(null)).isZero();
+    }
+}
@@ -140,4 +140,24 @@ class RoleTest {
                 () -> Role.fromRoleType(null)
         ).getMessage()).contains("RoleType cannot be null");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve the RoleType once and reuse it")
+    void shouldCacheResolvedRoleType() {
+        Role advisorRole = Role.builder().id(2).name(" advisor ").build();
+
+        assertThat(advisorRole.getRoleType()).isSameAs(RoleType.ADVISOR);
+        assertThat(advisorRole.getRoleType()).isSameAs(advisorRole.getRoleType());
+        assertThat(Role.fromRoleType(RoleType.CUSTOMER).getRoleType()).isSameAs(RoleType.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("Should keep throwing for unknown role names")
+    void shouldKeepThrowingForUnknownRoleNames() {
+        Role unknownRole = Role.builder().id(9).name("AUDITOR").build();
+
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, unknownRole::getRoleType);
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, unknownRole::getRoleType);
+        assertThat(Role.builder().build().getRoleType()).isNull();
+    }
+}
@@ -138,4 +138,36 @@ class RoleTypeTest {
         assertTrue(RoleType.ADVISOR.hasAdministrativeAccess());
         assertFalse(RoleType.CUSTOMER.hasAdministrativeAccess());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRejectIdsOutsideTheLookupTable() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> RoleType.fromId(0));
+        assertThrows(IllegalArgumentException.class, () -> RoleType.fromId(-1));
+        assertThrows(IllegalArgumentException.class, () -> RoleType.fromId(4));
+    }
+
+    @Test
+    void shouldMatchNamesExactlyLikeEqualsIgnoreCase() {
+        // When/Then
+        assertEquals(RoleType.ADVISOR, RoleType.fromName("  aDvIsOr "));
+        // U+0130 lowercases to 'i', so equalsIgnoreCase accepts it
+        assertEquals(RoleType.ADMIN, RoleType.fromName("ADM\u0130N"));
+        // U+FB06 uppercases to "ST" but is not equalsIgnoreCase to it
+        assertThrows(IllegalArgumentException.class, () -> RoleType.fromName("CU\uFB06OMER"));
+    }
+
+    @Test
+    void shouldResolveCanonicalNamesAndFallBackForOthers() {
+        // When/Then
+        assertEquals(RoleType.CUSTOMER, RoleType.fromCanonicalName("CUSTOMER"));
+        assertEquals(RoleType.CUSTOMER, RoleType.fromCanonicalName(" customer "));
+        assertNull(RoleType.fromCanonicalName(null));
+        assertNull(RoleType.fromCanonicalName("  "));
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> RoleType.fromCanonicalName("AUDITOR")
+        );
+        assertTrue(exception.getMessage().contains("AUDITOR"));
+    }
+}
@@ -89,6 +89,15 @@ class EmailTest {
         assertThat(email.getValue()).isEqualTo("test@example.com");
     }
 
+    @Test
+    @DisplayName("Should normalize email to lower case")
+    void shouldNormalizeEmailToLowerCase() {
+        Email email = Email.of("John.Doe@Example.COM");
+        
+        assertThat(email.getValue()).isEqualTo("john.doe@example.com");
+        assertThat(email).isEqualTo(Email.of("john.doe@example.com"));
+    }
+
     @Test
     @DisplayName("Should support equals and hashCode")
     void shouldSupportEqualsAndHashCode() {
@@ -3,6 +3,7 @@ package crediya.authentication.usecase.auth;
 import crediya.authentication.model.auth.AuthorizationContext;
 import crediya.authentication.model.auth.AuthorizationResult;
 import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
 import crediya.authentication.model.constants.AuthorizationMessages;
 import crediya.authentication.model.constants.RolePermissions;
 import crediya.authentication.model.role.RoleType;
@@ -10,9 +11,22 @@ import crediya.authentication.model.role.gateways.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 public class AuthorizationUseCase {
     
+    // Business-rule denials carry constant reasons, so they are shared like the other results
+    private static final AuthorizationResult LOAN_APPLICATION_FOR_OTHERS_DENIED = AuthorizationResult.denied(
+            Permission.CREATE_LOAN_APPLICATION, AuthorizationMessages.CUSTOMER_LOAN_APPLICATION_SELF_ONLY);
+    private static final AuthorizationResult OTHERS_LOAN_APPLICATION_DENIED = AuthorizationResult.denied(
+            Permission.VIEW_OWN_LOAN_APPLICATION, AuthorizationMessages.VIEW_OWN_LOAN_APPLICATION_ONLY);
+    private static final AuthorizationResult UPDATE_OTHER_USER_DENIED = AuthorizationResult.denied(
+            Permission.UPDATE_USER, AuthorizationMessages.INSUFFICIENT_PERMISSIONS);
+    private static final AuthorizationResult DELETE_OTHER_USER_DENIED = AuthorizationResult.denied(
+            Permission.DELETE_USER, AuthorizationMessages.INSUFFICIENT_PERMISSIONS);
+    
     private final RoleRepository roleRepository;
     
     /**
@@ -27,13 +41,14 @@ public class AuthorizationUseCase {
      */
     public Mono<AuthorizationResult> authorize(String userId, Integer roleId, Permission permission, String targetResourceId) {
         if (userId == null || roleId == null || permission == null) {
-            return Mono.just(AuthorizationResult.denied(permission, AuthorizationMessages.INVALID_AUTHORIZATION_CONTEXT));
+            return Mono.just(AuthorizationResult.invalidContext(permission));
         }
         
         return roleRepository.findById(roleId)
                 .map(role -> {
                     try {
-                        RoleType roleType = RoleType.fromName(role.getName());
+                        // Resolved once per Role instance, and roles come from the cached catalog
+                        RoleType roleType = role.getRoleType();
                         AuthorizationContext context = AuthorizationContext.builder()
                                 .userId(userId)
                                 .roleType(roleType)
@@ -46,19 +61,46 @@ public class AuthorizationUseCase {
                             String.format(AuthorizationMessages.INVALID_ROLE_NAME, role.getName()));
                     }
                 })
-                .defaultIfEmpty(AuthorizationResult.denied(permission, 
-                    String.format(AuthorizationMessages.INVALID_ROLE_ID, roleId)));
+                .switchIfEmpty(Mono.fromSupplier(() -> AuthorizationResult.denied(permission,
+                    String.format(AuthorizationMessages.INVALID_ROLE_ID, roleId))));
     }
     
     /**
      * Direct authorization with RoleType (more efficient when role is already known)
      */
     public Mono<AuthorizationResult> authorize(AuthorizationContext context, Permission permission) {
+        return Mono.just(decide(context, permission));
+    }
+    
+    /**
+     * Synchronous decision for a role already known from the token. Pure and in-memory, so
+     * callers on the request path should prefer it over {@link #authorize(AuthorizationContext, Permission)}.
+     * Every outcome is a shared {@link AuthorizationResult}; nothing is allocated per call.
+     */
+    public AuthorizationResult decide(AuthorizationContext context, Permission permission) {
         if (context == null || context.getRoleType() == null || permission == null) {
-            return Mono.just(AuthorizationResult.denied(permission, AuthorizationMessages.INVALID_AUTHORIZATION_CONTEXT));
+            return AuthorizationResult.invalidContext(permission);
         }
         
-        return Mono.fromCallable(() -> performAuthorization(context, permission));
+        return performAuthorization(context, permission);
+    }
+    
+    /**
+     * {@link #decide} for every check of one caller, in request order. Each check gets its own
+     * target resource; the user and role are shared.
+     */
+    public List<AuthorizationResult> decideAll(String userId, RoleType roleType, List<PermissionCheck> checks) {
+        List<AuthorizationResult> results = new ArrayList<>(checks.size());
+        for (PermissionCheck check : checks) {
+            AuthorizationContext context = AuthorizationContext.builder()
+                    .userId(userId)
+                    .roleType(roleType)
+                    .targetResourceId(check.getTargetResourceId())
+                    .build();
+            results.add(userId == null ? AuthorizationResult.invalidContext(check.getPermission())
+                    : decide(context, check.getPermission()));
+        }
+        return results;
     }
     
     private AuthorizationResult performAuthorization(AuthorizationContext context, Permission permission) {
@@ -66,9 +108,7 @@ public class AuthorizationUseCase {
         boolean hasPermission = RolePermissions.hasPermission(context.getRoleType(), permission);
         
         if (!hasPermission) {
-            return AuthorizationResult.denied(permission, 
-                String.format(AuthorizationMessages.ROLE_PERMISSION_DENIED_TEMPLATE, 
-                    context.getRoleType().getName(), permission.getCode()));
+            return AuthorizationResult.deniedForRole(context.getRoleType(), permission);
         }
         
         // Apply business rules
@@ -81,8 +121,7 @@ public class AuthorizationUseCase {
                 // Customers can only create loan applications for themselves
                 if (context.getRoleType() == RoleType.CUSTOMER && context.getTargetResourceId() != null) {
                     if (!context.isOwnerOf(context.getTargetResourceId())) {
-                        return AuthorizationResult.denied(permission, 
-                            AuthorizationMessages.CUSTOMER_LOAN_APPLICATION_SELF_ONLY);
+                        return LOAN_APPLICATION_FOR_OTHERS_DENIED;
                     }
                 }
                 break;
@@ -91,8 +130,7 @@ public class AuthorizationUseCase {
                 // Users can only view their own loan applications (unless admin/advisor)
                 if (!context.isAdministrative() && context.getTargetResourceId() != null) {
                     if (!context.isOwnerOf(context.getTargetResourceId())) {
-                        return AuthorizationResult.denied(permission, 
-                            AuthorizationMessages.VIEW_OWN_LOAN_APPLICATION_ONLY);
+                        return OTHERS_LOAN_APPLICATION_DENIED;
                     }
                 }
                 break;
@@ -102,8 +140,8 @@ public class AuthorizationUseCase {
                 // Additional rule: Users can only update/delete their own profile (unless admin)
                 if (context.getRoleType() == RoleType.CUSTOMER && context.getTargetResourceId() != null) {
                     if (!context.isOwnerOf(context.getTargetResourceId())) {
-                        return AuthorizationResult.denied(permission, 
-                            AuthorizationMessages.INSUFFICIENT_PERMISSIONS);
+                        return permission == Permission.UPDATE_USER
+                                ? UPDATE_OTHER_USER_DENIED : DELETE_OTHER_USER_DENIED;
                     }
                 }
                 break;
@@ -2,45 +2,30 @@ package crediya.authentication.usecase.auth;
 
 import crediya.authentication.model.auth.AuthenticationResult;
 import crediya.authentication.model.auth.LoginCredentials;
-import crediya.authentication.model.auth.gateways.JwtTokenManager;
-import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
-import crediya.authentication.model.role.RoleType;
 import crediya.authentication.model.user.gateways.UserRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 @RequiredArgsConstructor
 public class LoginUseCase {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtTokenManager jwtTokenManager;
+    private final ReactivePasswordEncoder passwordEncoder;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     public Mono<AuthenticationResult> authenticate(LoginCredentials credentials) {
-        return userRepository.findByEmail(credentials.getEmail())
+        return userRepository.findCredentialsByEmail(credentials.getEmail())
                 .switchIfEmpty(Mono.error(new BusinessRuleViolationException("Invalid email or password")))
-                .filter(user -> {
-                    if (user.getPasswordHash() == null) {
-                        return false;
+                .filterWhen(stored -> {
+                    if (stored.getPasswordHash() == null) {
+                        return Mono.just(false);
                     }
-                    return passwordEncoder.matches(credentials.getPassword(), user.getPasswordHash());
+                    return passwordEncoder.matches(credentials.getPassword(), stored.getPasswordHash());
                 })
                 .switchIfEmpty(Mono.error(new BusinessRuleViolationException("Invalid email or password")))
-                .map(user -> {
-                    // Get role name from role ID for more secure JWT
-                    RoleType roleType = RoleType.fromId(Integer.valueOf(user.getRoleId()));
-                    String roleName = roleType.getName();
-                    
-                    String token = jwtTokenManager.generateToken(user.getId(), roleName);
-                    return AuthenticationResult.builder()
-                            .token(token)
-                            .userId(user.getId())
-                            .roleId(user.getRoleId())
-                            .expiresAt(LocalDateTime.now().plusHours(24))
-                            .build();
-                });
+                // The role name, not its id, goes into the access token
+                .flatMap(stored -> refreshTokenUseCase.issueTokens(stored.getUserId(), stored.getRoleId()));
     }
-}
\ No newline at end of file
+}
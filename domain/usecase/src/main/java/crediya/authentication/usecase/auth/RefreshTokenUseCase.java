@@ -0,0 +1,135 @@
+package crediya.authentication.usecase.auth;
+
+import crediya.authentication.model.auth.AuthenticationResult;
+import crediya.authentication.model.auth.RefreshToken;
+import crediya.authentication.model.auth.gateways.JwtTokenManager;
+import crediya.authentication.model.auth.gateways.RefreshTokenRepository;
+import crediya.authentication.model.constants.DomainErrorMessages;
+import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.role.RoleType;
+import crediya.authentication.model.user.gateways.UserRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues access tokens paired with opaque, single-use refresh tokens. Refreshing costs one
+ * hash and a couple of indexed statements instead of a BCrypt check, so clients renew their
+ * short-lived access tokens without sending the password again.
+ */
+@RequiredArgsConstructor
+public class RefreshTokenUseCase {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenManager jwtTokenManager;
+    private final Duration refreshTokenLifetime;
+
+    /**
+     * Issues an access token and the first refresh token of a new rotation family
+     */
+    public Mono<AuthenticationResult> issueTokens(String userId, Integer roleId) {
+        return issueTokens(userId, roleId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token of the same
+     * family. Each refresh token works once: presenting one that was already used revokes the
+     * whole family, because the client or a thief is holding a copy.
+     */
+    public Mono<AuthenticationResult> refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Mono.error(invalidRefreshToken());
+        }
+        String tokenHash = hash(refreshToken);
+        return refreshTokenRepository.consume(tokenHash, Instant.now())
+                .switchIfEmpty(Mono.defer(() -> rejectReplay(tokenHash)))
+                .flatMap(consumed -> userRepository.findById(consumed.getUserId())
+                        .switchIfEmpty(Mono.error(RefreshTokenUseCase::invalidRefreshToken))
+                        .flatMap(user -> issueTokens(user.getId(), user.getRoleId(), consumed.getFamilyId())));
+    }
+
+    /**
+     * Logout: the session's refresh tokens stop working, so it cannot mint new access tokens
+     */
+    public Mono<Void> revokeSession(String familyId) {
+        if (familyId == null || familyId.isBlank()) {
+            return Mono.empty();
+        }
+        return refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    /**
+     * Housekeeping: removes expired tokens. Used tokens are kept until then, because a replay
+     * of one must still be recognized to revoke its family.
+     */
+    public Mono<Long> deleteExpired() {
+        return refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private Mono<AuthenticationResult> issueTokens(String userId, Integer roleId, String familyId) {
+        return Mono.defer(() -> {
+            RoleType roleType = RoleType.fromId(roleId);
+            String accessToken = jwtTokenManager.generateToken(userId, roleType.getName(), familyId);
+            Duration accessTokenLifetime = jwtTokenManager.getTokenLifetime();
+            String refreshToken = newRefreshToken();
+            RefreshToken stored = RefreshToken.builder()
+                    .tokenHash(hash(refreshToken))
+                    .userId(userId)
+                    .familyId(familyId)
+                    .expiresAt(Instant.now().plus(refreshTokenLifetime))
+                    .build();
+            return refreshTokenRepository.save(stored)
+                    .thenReturn(AuthenticationResult.builder()
+                            .token(accessToken)
+                            .userId(userId)
+                            .roleId(roleId)
+                            .expiresAt(LocalDateTime.now().plus(accessTokenLifetime))
+                            .expiresIn(accessTokenLifetime)
+                            .refreshToken(refreshToken)
+                            .refreshTokenExpiresIn(refreshTokenLifetime)
+                            .build());
+        });
+    }
+
+    private Mono<RefreshToken> rejectReplay(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(RefreshToken::isUsed)
+                .flatMap(replayed -> refreshTokenRepository.revokeFamily(replayed.getFamilyId()))
+                .then(Mono.error(RefreshTokenUseCase::invalidRefreshToken));
+    }
+
+    private static String newRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    // 256 random bits need no salt or work factor; a plain digest is enough to keep stored values useless
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static BusinessRuleViolationException invalidRefreshToken() {
+        return new BusinessRuleViolationException(DomainErrorMessages.INVALID_REFRESH_TOKEN);
+    }
+}
@@ -0,0 +1,52 @@
+package crediya.authentication.usecase.auth;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import crediya.authentication.model.constants.DomainErrorMessages;
+import crediya.authentication.model.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class TokenRevocationUseCase {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    // Upper bound for tokens whose expiry the caller does not know
+    private final Duration maxTokenLifetime;
+
+    /**
+     * Logout: revokes the caller's own, already verified token until it expires.
+     */
+    public Mono<RevokedToken> revoke(VerifiedToken verifiedToken) {
+        return revoke(verifiedToken.getTokenId(), verifiedToken.getSubject(), verifiedToken.getExpiresAt());
+    }
+
+    /**
+     * Administrative revocation of any token id. Without a known expiry the revocation is kept
+     * for the longest lifetime a token can have.
+     */
+    public Mono<RevokedToken> revoke(String tokenId, Instant expiresAt) {
+        Instant retainUntil = expiresAt != null ? expiresAt : Instant.now().plus(maxTokenLifetime);
+        return revoke(tokenId, null, retainUntil);
+    }
+
+    private Mono<RevokedToken> revoke(String tokenId, String subject, Instant expiresAt) {
+        if (tokenId == null || tokenId.isBlank()) {
+            return Mono.error(new ValidationException(DomainErrorMessages.TOKEN_ID_REQUIRED));
+        }
+        RevokedToken revokedToken = RevokedToken.builder()
+                .tokenId(tokenId)
+                .subject(subject)
+                .expiresAt(expiresAt)
+                .build();
+        if (revokedToken.isExpiredAt(Instant.now())) {
+            // An expired token is already rejected; nothing worth storing
+            return Mono.just(revokedToken);
+        }
+        return revokedTokenRepository.save(revokedToken).thenReturn(revokedToken);
+    }
+}
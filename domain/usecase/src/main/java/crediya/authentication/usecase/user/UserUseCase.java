@@ -3,52 +3,137 @@ package crediya.authentication.usecase.user;
 import crediya.authentication.model.constants.DomainErrorMessages;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
 import crediya.authentication.model.exception.ValidationException;
-import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
 import crediya.authentication.model.role.gateways.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import crediya.authentication.model.user.User;
-import crediya.authentication.model.valueobjects.Email;
+import crediya.authentication.model.user.UserImportItem;
+import crediya.authentication.model.user.UserImportResult;
 import crediya.authentication.model.user.gateways.UserRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class UserUseCase {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ReactivePasswordEncoder passwordEncoder;
 
     public Mono<User> saveUser(User user){
         if (user == null) {
             return Mono.error(new ValidationException(DomainErrorMessages.USER_NULL));
         }
         
+        // Email uniqueness is enforced by the insert itself, so there is no check-then-insert race
         return roleRepository.existsById(user.getRoleId())
                 .filter(exists -> exists)
                 .switchIfEmpty(Mono.error(new BusinessRuleViolationException("Invalid role ID")))
-                .then(checkEmailUniqueness(user.getEmail()))
-                .flatMap(isUnique -> {
-                    if (!isUnique) {
-                        return Mono.error(new BusinessRuleViolationException(String.format(DomainErrorMessages.EMAIL_ALREADY_REGISTERED, user.getEmail().getValue())));
-                    }
-                    // Hash password if provided
-                    User userToSave = user;
-                    if (user.getPasswordHash() != null && !user.getPasswordHash().trim().isEmpty()) {
-                        String hashedPassword = passwordEncoder.encode(user.getPasswordHash());
-                        userToSave = user.toBuilder().passwordHash(hashedPassword).build();
-                    }
-                    return userRepository.save(userToSave);
-                });
+                .then(Mono.defer(() -> hashPassword(user)))
+                .flatMap(userRepository::saveIfEmailAbsent)
+                .switchIfEmpty(Mono.error(() -> new BusinessRuleViolationException(String.format(DomainErrorMessages.EMAIL_ALREADY_REGISTERED, user.getEmail().getValue()))));
+    }
+
+    private Mono<User> hashPassword(User user) {
+        // Hash password if provided
+        if (user.getPasswordHash() == null || user.getPasswordHash().trim().isEmpty()) {
+            return Mono.just(user);
+        }
+        return passwordEncoder.encode(user.getPasswordHash())
+                .map(hashedPassword -> user.toBuilder().passwordHash(hashedPassword).build());
+    }
+
+    /**
+     * Creates users in bulk. Roles are checked and passwords hashed for up to {@code concurrency}
+     * items at once, then users are inserted {@code chunkSize} per statement. Emits one result
+     * per item, in input order; a failing chunk marks only its own items as failed
+     */
+    public Flux<UserImportResult> importUsers(Flux<UserImportItem> items, int chunkSize, int concurrency) {
+        return items
+                .flatMapSequential(this::prepareImport, concurrency)
+                .buffer(chunkSize)
+                .concatMap(this::insertChunk);
+    }
+
+    private Mono<UserImportItem> prepareImport(UserImportItem item) {
+        if (item.isResolved()) {
+            return Mono.just(item);
+        }
+        return roleRepository.existsById(item.getUser().getRoleId())
+                .defaultIfEmpty(false)
+                .flatMap(exists -> exists
+                        ? hashPassword(item.getUser()).map(hashedUser -> item.toBuilder().user(hashedUser).build())
+                        : Mono.just(UserImportItem.rejected(item.getIndex(), item.getEmail(), DomainErrorMessages.INVALID_ROLE_ID)))
+                .onErrorResume(error -> Mono.just(UserImportItem.failed(item.getIndex(), item.getEmail(), error.getMessage())));
+    }
+
+    private Flux<UserImportResult> insertChunk(List<UserImportItem> chunk) {
+        // Only the first occurrence of an email in the chunk is sent; later ones resolve as duplicates
+        Set<String> emails = new HashSet<>();
+        List<User> toInsert = new ArrayList<>(chunk.size());
+        for (UserImportItem item : chunk) {
+            if (!item.isResolved() && emails.add(item.getEmail())) {
+                toInsert.add(item.getUser());
+            }
+        }
+        return userRepository.saveAllIfEmailAbsent(toInsert)
+                .collectMap(created -> created.getEmail().getValue())
+                .map(created -> resolveChunk(chunk, created))
+                .onErrorResume(error -> Mono.just(chunk.stream()
+                        .map(item -> item.isResolved()
+                                ? item.getResult()
+                                : UserImportResult.failed(item.getIndex(), item.getEmail(), error.getMessage()))
+                        .toList()))
+                .flatMapIterable(results -> results);
+    }
+
+    private List<UserImportResult> resolveChunk(List<UserImportItem> chunk, Map<String, User> created) {
+        List<UserImportResult> results = new ArrayList<>(chunk.size());
+        for (UserImportItem item : chunk) {
+            if (item.isResolved()) {
+                results.add(item.getResult());
+                continue;
+            }
+            User createdUser = created.remove(item.getEmail());
+            results.add(createdUser != null
+                    ? UserImportResult.created(item.getIndex(), createdUser)
+                    : UserImportResult.alreadyExists(item.getIndex(), item.getEmail(),
+                            String.format(DomainErrorMessages.EMAIL_ALREADY_REGISTERED, item.getEmail())));
+        }
+        return results;
     }
 
     public Flux<User> getAllUsers(){
         return userRepository.getAll();
     }
 
-    private Mono<Boolean> checkEmailUniqueness(Email email) {
-        return userRepository.existsByEmail(email)
-                .map(exists -> !exists)
-                .defaultIfEmpty(true);
+    /**
+     * Returns a single keyset page of users ordered by id
+     */
+    public Flux<User> getUsersPage(String afterId, int limit) {
+        if (limit < 1) {
+            return Flux.error(new ValidationException(DomainErrorMessages.INVALID_PAGE_SIZE));
+        }
+        return userRepository.findPage(afterId, limit);
+    }
+
+    /**
+     * Streams every user after the cursor, fetching one bounded page at a time as the subscriber requests more
+     */
+    public Flux<User> streamUsers(String afterId, int batchSize) {
+        if (batchSize < 1) {
+            return Flux.error(new ValidationException(DomainErrorMessages.INVALID_PAGE_SIZE));
+        }
+        return userRepository.findPage(afterId, batchSize).collectList()
+                .expand(page -> page.size() < batchSize
+                        ? Mono.empty()
+                        : userRepository.findPage(page.get(page.size() - 1).getId(), batchSize).collectList())
+                .flatMapIterable(page -> page);
     }
 }
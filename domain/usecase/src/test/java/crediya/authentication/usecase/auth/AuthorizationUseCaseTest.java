@@ -3,6 +3,7 @@ package crediya.authentication.usecase.auth;
 import crediya.authentication.model.auth.AuthorizationContext;
 import crediya.authentication.model.auth.AuthorizationResult;
 import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
 import crediya.authentication.model.role.Role;
 import crediya.authentication.model.role.RoleType;
 import crediya.authentication.model.role.gateways.RoleRepository;
@@ -14,6 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -432,4 +435,60 @@ class AuthorizationUseCaseTest {
                 .assertNext(result -> assertFalse(result))
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDecideSynchronouslyWithSharedResults() {
+        // Given
+        AuthorizationContext admin = AuthorizationContext.of("admin-user", RoleType.ADMIN);
+        AuthorizationContext customer = AuthorizationContext.of("customer-user", RoleType.CUSTOMER);
+
+        // When
+        AuthorizationResult allowed = authorizationUseCase.decide(admin, Permission.CREATE_USER);
+        AuthorizationResult denied = authorizationUseCase.decide(customer, Permission.CREATE_USER);
+
+        // Then
+        assertTrue(allowed.isAuthorized());
+        assertSame(allowed, authorizationUseCase.decide(admin, Permission.CREATE_USER));
+        assertFalse(denied.isAuthorized());
+        assertEquals("Role CUSTOMER does not have permission CREATE_USER", denied.getReason());
+        assertSame(denied, authorizationUseCase.decide(customer, Permission.CREATE_USER));
+    }
+
+    @Test
+    void shouldShareBusinessRuleAndInvalidContextDenials() {
+        // Given
+        AuthorizationContext customer = AuthorizationContext.of("customer-123", RoleType.CUSTOMER, "other-user");
+
+        // When
+        AuthorizationResult first = authorizationUseCase.decide(customer, Permission.CREATE_LOAN_APPLICATION);
+        AuthorizationResult invalid = authorizationUseCase.decide(null, Permission.UPDATE_USER);
+
+        // Then
+        assertFalse(first.isAuthorized());
+        assertEquals("Customers can only create loan applications for themselves", first.getReason());
+        assertSame(first, authorizationUseCase.decide(customer, Permission.CREATE_LOAN_APPLICATION));
+        assertEquals("Invalid authorization context", invalid.getReason());
+        assertSame(invalid, authorizationUseCase.decide(null, Permission.UPDATE_USER));
+    }
+
+    @Test
+    void shouldDecideEveryCheckOfABatchInOrder() {
+        // Given
+        List<PermissionCheck> checks = List.of(
+                PermissionCheck.of(Permission.CREATE_LOAN_APPLICATION, "customer-123"),
+                PermissionCheck.of(Permission.CREATE_LOAN_APPLICATION, "other-user"),
+                PermissionCheck.of(Permission.VIEW_ALL_USERS, null));
+
+        // When
+        List<AuthorizationResult> results = authorizationUseCase.decideAll("customer-123", RoleType.CUSTOMER, checks);
+        List<AuthorizationResult> withoutUser = authorizationUseCase.decideAll(null, RoleType.CUSTOMER, checks);
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isAuthorized());
+        assertEquals("Customers can only create loan applications for themselves", results.get(1).getReason());
+        assertEquals("Role CUSTOMER does not have permission VIEW_ALL_USERS", results.get(2).getReason());
+        assertTrue(withoutUser.stream().noneMatch(AuthorizationResult::isAuthorized));
+        assertEquals("Invalid authorization context", withoutUser.get(0).getReason());
+    }
+}
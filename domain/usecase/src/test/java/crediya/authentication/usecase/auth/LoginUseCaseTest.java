@@ -3,9 +3,10 @@ package crediya.authentication.usecase.auth;
 import crediya.authentication.model.auth.AuthenticationResult;
 import crediya.authentication.model.auth.LoginCredentials;
 import crediya.authentication.model.auth.gateways.JwtTokenManager;
-import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.RefreshTokenRepository;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
-import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserCredentials;
 import crediya.authentication.model.user.gateways.UserRepository;
 import crediya.authentication.model.valueobjects.Email;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -27,16 +30,21 @@ class LoginUseCaseTest {
     private UserRepository userRepository;
     
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private ReactivePasswordEncoder passwordEncoder;
     
     @Mock
     private JwtTokenManager jwtTokenManager;
+    
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
 
     private LoginUseCase loginUseCase;
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(userRepository, passwordEncoder, jwtTokenManager);
+        RefreshTokenUseCase refreshTokenUseCase = new RefreshTokenUseCase(
+                refreshTokenRepository, userRepository, jwtTokenManager, Duration.ofDays(7));
+        loginUseCase = new LoginUseCase(userRepository, passwordEncoder, refreshTokenUseCase);
     }
 
     @Test
@@ -47,16 +55,17 @@ class LoginUseCaseTest {
                 "correctPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash("$2a$12$hashedPassword")
                 .roleId(1)
                 .build();
 
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("correctPassword", "$2a$12$hashedPassword")).thenReturn(true);
-        when(jwtTokenManager.generateToken("user123", "CUSTOMER")).thenReturn("jwt-token-123");
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("correctPassword", "$2a$12$hashedPassword")).thenReturn(Mono.just(true));
+        when(jwtTokenManager.generateToken(eq("user123"), eq("CUSTOMER"), anyString())).thenReturn("jwt-token-123");
+        when(jwtTokenManager.getTokenLifetime()).thenReturn(Duration.ofMinutes(15));
+        when(refreshTokenRepository.save(any())).thenReturn(Mono.empty());
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -66,12 +75,15 @@ class LoginUseCaseTest {
                     assertThat(authResult.getUserId()).isEqualTo("user123");
                     assertThat(authResult.getRoleId()).isEqualTo(1);
                     assertThat(authResult.getExpiresAt()).isNotNull();
+                    assertThat(authResult.getExpiresIn()).isEqualTo(Duration.ofMinutes(15));
+                    assertThat(authResult.getRefreshToken()).isNotBlank();
+                    assertThat(authResult.getRefreshTokenExpiresIn()).isEqualTo(Duration.ofDays(7));
                 })
                 .verifyComplete();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder).matches("correctPassword", "$2a$12$hashedPassword");
-        verify(jwtTokenManager).generateToken("user123", "CUSTOMER");
+        verify(jwtTokenManager).generateToken(eq("user123"), eq("CUSTOMER"), anyString());
     }
 
     @Test
@@ -82,7 +94,7 @@ class LoginUseCaseTest {
                 "anyPassword"
         );
 
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.empty());
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.empty());
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -92,9 +104,9 @@ class LoginUseCaseTest {
                     throwable.getMessage().equals("Invalid email or password"))
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder, never()).matches(any(), any());
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -105,15 +117,14 @@ class LoginUseCaseTest {
                 "wrongPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash("$2a$12$hashedPassword")
                 .roleId(1)
                 .build();
 
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("wrongPassword", "$2a$12$hashedPassword")).thenReturn(false);
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("wrongPassword", "$2a$12$hashedPassword")).thenReturn(Mono.just(false));
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -123,9 +134,9 @@ class LoginUseCaseTest {
                     throwable.getMessage().equals("Invalid email or password"))
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder).matches("wrongPassword", "$2a$12$hashedPassword");
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -136,14 +147,13 @@ class LoginUseCaseTest {
                 "anyPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash(null)
                 .roleId(1)
                 .build();
 
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -153,9 +163,9 @@ class LoginUseCaseTest {
                     throwable.getMessage().equals("Invalid email or password"))
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder, never()).matches(any(), any());
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -166,15 +176,14 @@ class LoginUseCaseTest {
                 "anyPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash("")
                 .roleId(1)
                 .build();
 
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("anyPassword", "")).thenReturn(false);
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("anyPassword", "")).thenReturn(Mono.just(false));
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -184,9 +193,9 @@ class LoginUseCaseTest {
                     throwable.getMessage().equals("Invalid email or password"))
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder).matches("anyPassword", "");
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -198,7 +207,7 @@ class LoginUseCaseTest {
         );
 
         RuntimeException repositoryException = new RuntimeException("Database connection error");
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.error(repositoryException));
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.error(repositoryException));
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -206,9 +215,9 @@ class LoginUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder, never()).matches(any(), any());
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -219,16 +228,15 @@ class LoginUseCaseTest {
                 "testPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash("$2a$12$hashedPassword")
                 .roleId(1)
                 .build();
 
         RuntimeException encoderException = new RuntimeException("Password encoding error");
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("testPassword", "$2a$12$hashedPassword")).thenThrow(encoderException);
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("testPassword", "$2a$12$hashedPassword")).thenReturn(Mono.error(encoderException));
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -236,9 +244,9 @@ class LoginUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder).matches("testPassword", "$2a$12$hashedPassword");
-        verify(jwtTokenManager, never()).generateToken(any(), any());
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
     }
 
     @Test
@@ -249,17 +257,16 @@ class LoginUseCaseTest {
                 "correctPassword"
         );
 
-        User user = User.builder()
-                .id("user123")
-                .email(Email.of("john.doe@example.com"))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user123")
                 .passwordHash("$2a$12$hashedPassword")
                 .roleId(1)
                 .build();
 
         RuntimeException jwtException = new RuntimeException("JWT generation error");
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("correctPassword", "$2a$12$hashedPassword")).thenReturn(true);
-        when(jwtTokenManager.generateToken("user123", "CUSTOMER")).thenThrow(jwtException);
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("correctPassword", "$2a$12$hashedPassword")).thenReturn(Mono.just(true));
+        when(jwtTokenManager.generateToken(eq("user123"), eq("CUSTOMER"), anyString())).thenThrow(jwtException);
 
         Mono<AuthenticationResult> result = loginUseCase.authenticate(credentials);
 
@@ -267,9 +274,9 @@ class LoginUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(userRepository).findByEmail(credentials.getEmail());
+        verify(userRepository).findCredentialsByEmail(credentials.getEmail());
         verify(passwordEncoder).matches("correctPassword", "$2a$12$hashedPassword");
-        verify(jwtTokenManager).generateToken("user123", "CUSTOMER");
+        verify(jwtTokenManager).generateToken(eq("user123"), eq("CUSTOMER"), anyString());
     }
 
     @Test
@@ -291,18 +298,19 @@ class LoginUseCaseTest {
                 "password"
         );
 
-        User user = User.builder()
-                .id("user-" + roleId)
-                .email(Email.of(email))
+        UserCredentials userCredentials = UserCredentials.builder()
+                .userId("user-" + roleId)
                 .passwordHash("$2a$12$hash")
                 .roleId(roleId)
                 .build();
 
         String roleName = getRoleNameFromId(roleId);
         
-        when(userRepository.findByEmail(credentials.getEmail())).thenReturn(Mono.just(user));
-        when(passwordEncoder.matches("password", "$2a$12$hash")).thenReturn(true);
-        when(jwtTokenManager.generateToken("user-" + roleId, roleName)).thenReturn(expectedToken);
+        when(userRepository.findCredentialsByEmail(credentials.getEmail())).thenReturn(Mono.just(userCredentials));
+        when(passwordEncoder.matches("password", "$2a$12$hash")).thenReturn(Mono.just(true));
+        when(jwtTokenManager.generateToken(eq("user-" + roleId), eq(roleName), anyString())).thenReturn(expectedToken);
+        when(jwtTokenManager.getTokenLifetime()).thenReturn(Duration.ofMinutes(15));
+        when(refreshTokenRepository.save(any())).thenReturn(Mono.empty());
 
         StepVerifier.create(loginUseCase.authenticate(credentials))
                 .assertNext(authResult -> {
@@ -0,0 +1,162 @@
+package crediya.authentication.usecase.auth;
+
+import crediya.authentication.model.auth.AuthenticationResult;
+import crediya.authentication.model.auth.RefreshToken;
+import crediya.authentication.model.auth.gateways.JwtTokenManager;
+import crediya.authentication.model.auth.gateways.RefreshTokenRepository;
+import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.gateways.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenManager jwtTokenManager;
+
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    private final User user = User.builder()
+            .id("user123")
+            .roleId(2)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenUseCase = new RefreshTokenUseCase(refreshTokenRepository, userRepository, jwtTokenManager,
+                Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of a new refresh token in a new family")
+    void shouldIssueTokensWithHashedRefreshToken() {
+        ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+        when(jwtTokenManager.generateToken(eq("user123"), eq("ADVISOR"), anyString())).thenReturn("access-token");
+        when(jwtTokenManager.getTokenLifetime()).thenReturn(Duration.ofMinutes(15));
+        when(refreshTokenRepository.save(stored.capture())).thenReturn(Mono.empty());
+
+        AuthenticationResult result = refreshTokenUseCase.issueTokens("user123", 2).block();
+
+        assertThat(result.getToken()).isEqualTo("access-token");
+        assertThat(result.getExpiresIn()).isEqualTo(Duration.ofMinutes(15));
+        assertThat(result.getRefreshToken()).hasSize(43);
+        assertThat(stored.getValue().getTokenHash()).hasSize(64).isNotEqualTo(result.getRefreshToken());
+        assertThat(stored.getValue().getUserId()).isEqualTo("user123");
+        assertThat(stored.getValue().getFamilyId()).isNotBlank();
+        assertThat(stored.getValue().getExpiresAt()).isAfter(Instant.now().plus(Duration.ofDays(6)));
+        // The access token names its family so that logout can revoke it
+        verify(jwtTokenManager).generateToken("user123", "ADVISOR", stored.getValue().getFamilyId());
+    }
+
+    @Test
+    @DisplayName("Should rotate a valid refresh token within its family")
+    void shouldRotateRefreshToken() {
+        ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+        when(jwtTokenManager.generateToken(eq("user123"), eq("ADVISOR"), anyString())).thenReturn("access-token");
+        when(jwtTokenManager.getTokenLifetime()).thenReturn(Duration.ofMinutes(15));
+        when(refreshTokenRepository.save(stored.capture())).thenReturn(Mono.empty());
+        String refreshToken = refreshTokenUseCase.issueTokens("user123", 2).block().getRefreshToken();
+        RefreshToken first = stored.getValue();
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Mono.just(first));
+        when(userRepository.findById("user123")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(refreshTokenUseCase.refresh(refreshToken))
+                .assertNext(result -> assertThat(result.getRefreshToken()).isNotEqualTo(refreshToken))
+                .verifyComplete();
+
+        verify(refreshTokenRepository).consume(any(), any());
+        assertThat(stored.getAllValues()).hasSize(2);
+        assertThat(stored.getValue().getFamilyId()).isEqualTo(first.getFamilyId());
+        assertThat(stored.getValue().getTokenHash()).isNotEqualTo(first.getTokenHash());
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when a used refresh token is replayed")
+    void shouldRevokeFamilyOnReplay() {
+        RefreshToken used = RefreshToken.builder()
+                .tokenHash("hash")
+                .userId("user123")
+                .familyId("family-1")
+                .expiresAt(Instant.now().plusSeconds(60))
+                .usedAt(Instant.now())
+                .build();
+        when(refreshTokenRepository.consume(anyString(), any())).thenReturn(Mono.empty());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.just(used));
+        when(refreshTokenRepository.revokeFamily("family-1")).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshTokenUseCase.refresh("replayed-token"))
+                .expectError(BusinessRuleViolationException.class)
+                .verify();
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(jwtTokenManager, never()).generateToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the session's refresh tokens on logout")
+    void shouldRevokeSession() {
+        when(refreshTokenRepository.revokeFamily("family-1")).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshTokenUseCase.revokeSession("family-1")).verifyComplete();
+        StepVerifier.create(refreshTokenUseCase.revokeSession(null)).verifyComplete();
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+    }
+
+    @Test
+    @DisplayName("Should delete refresh tokens that expired before now")
+    void shouldDeleteExpiredTokens() {
+        Instant before = Instant.now();
+        when(refreshTokenRepository.deleteExpired(any())).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(refreshTokenUseCase.deleteExpired())
+                .expectNext(3L)
+                .verifyComplete();
+
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenRepository).deleteExpired(now.capture());
+        assertThat(now.getValue()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or expired refresh tokens without revoking anything")
+    void shouldRejectUnknownRefreshToken() {
+        when(refreshTokenRepository.consume(anyString(), any())).thenReturn(Mono.empty());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshTokenUseCase.refresh("unknown-token"))
+                .expectError(BusinessRuleViolationException.class)
+                .verify();
+        StepVerifier.create(refreshTokenUseCase.refresh(" "))
+                .expectError(BusinessRuleViolationException.class)
+                .verify();
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+}
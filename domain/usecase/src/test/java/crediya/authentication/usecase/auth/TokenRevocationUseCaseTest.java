@@ -0,0 +1,90 @@
+package crediya.authentication.usecase.auth;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import crediya.authentication.model.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationUseCaseTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationUseCase tokenRevocationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationUseCase = new TokenRevocationUseCase(revokedTokenRepository, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Should store the caller's token id until the token expires")
+    void shouldRevokeOwnTokenUntilItExpires() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .subject("user123")
+                .roleName("CUSTOMER")
+                .tokenId("jti-1")
+                .expiresAt(expiresAt)
+                .build();
+        when(revokedTokenRepository.save(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(tokenRevocationUseCase.revoke(verifiedToken))
+                .assertNext(revoked -> {
+                    assertThat(revoked.getTokenId()).isEqualTo("jti-1");
+                    assertThat(revoked.getSubject()).isEqualTo("user123");
+                    assertThat(revoked.getExpiresAt()).isEqualTo(expiresAt);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep an administrative revocation for the maximum token lifetime when expiry is unknown")
+    void shouldUseMaxLifetimeWhenExpiryUnknown() {
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        when(revokedTokenRepository.save(captor.capture())).thenReturn(Mono.empty());
+
+        StepVerifier.create(tokenRevocationUseCase.revoke("jti-2", null)).expectNextCount(1).verifyComplete();
+
+        assertThat(captor.getValue().getExpiresAt())
+                .isAfter(Instant.now().plus(Duration.ofHours(23)))
+                .isBefore(Instant.now().plus(Duration.ofHours(25)));
+    }
+
+    @Test
+    @DisplayName("Should not store revocations of tokens that already expired")
+    void shouldSkipExpiredTokens() {
+        StepVerifier.create(tokenRevocationUseCase.revoke("jti-3", Instant.now().minusSeconds(1)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank token id")
+    void shouldRejectBlankTokenId() {
+        StepVerifier.create(tokenRevocationUseCase.revoke(" ", null))
+                .expectError(ValidationException.class)
+                .verify();
+    }
+}
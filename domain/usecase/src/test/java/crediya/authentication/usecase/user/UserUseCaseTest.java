@@ -1,11 +1,13 @@
 package crediya.authentication.usecase.user;
 
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserImportItem;
+import crediya.authentication.model.user.UserImportResult;
 import crediya.authentication.model.valueobjects.Email;
 import crediya.authentication.model.valueobjects.Salary;
 import crediya.authentication.model.user.gateways.UserRepository;
 import crediya.authentication.model.role.gateways.RoleRepository;
-import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
 import crediya.authentication.model.exception.ValidationException;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +21,12 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +39,7 @@ class UserUseCaseTest {
     private RoleRepository roleRepository;
     
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private ReactivePasswordEncoder passwordEncoder;
 
     private UserUseCase userUseCase;
 
@@ -75,8 +81,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(inputUser)).thenReturn(Mono.just(savedUser));
+        when(userRepository.saveIfEmailAbsent(inputUser)).thenReturn(Mono.just(savedUser));
 
         Mono<User> result = userUseCase.saveUser(inputUser);
 
@@ -84,8 +89,7 @@ class UserUseCaseTest {
                 .expectNext(savedUser)
                 .verifyComplete();
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, times(1)).save(inputUser);
+        verify(userRepository, times(1)).saveIfEmailAbsent(inputUser);
     }
 
     @Test
@@ -100,10 +104,9 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
 
         RuntimeException expectedException = new RuntimeException("Repository error");
-        when(userRepository.save(user)).thenReturn(Mono.error(expectedException));
+        when(userRepository.saveIfEmailAbsent(user)).thenReturn(Mono.error(expectedException));
 
         Mono<User> result = userUseCase.saveUser(user);
 
@@ -111,7 +114,7 @@ class UserUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).saveIfEmailAbsent(user);
     }
 
     @Test
@@ -133,8 +136,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(user)).thenReturn(Mono.just(savedUser));
+        when(userRepository.saveIfEmailAbsent(user)).thenReturn(Mono.just(savedUser));
 
         Mono<User> result = userUseCase.saveUser(user);
 
@@ -142,8 +144,7 @@ class UserUseCaseTest {
                 .expectNext(savedUser)
                 .verifyComplete();
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).saveIfEmailAbsent(user);
     }
 
     @Test
@@ -165,8 +166,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(user)).thenReturn(Mono.just(savedUser));
+        when(userRepository.saveIfEmailAbsent(user)).thenReturn(Mono.just(savedUser));
 
         Mono<User> result = userUseCase.saveUser(user);
 
@@ -174,8 +174,7 @@ class UserUseCaseTest {
                 .expectNext(savedUser)
                 .verifyComplete();
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).saveIfEmailAbsent(user);
     }
 
     @Test
@@ -214,8 +213,7 @@ class UserUseCaseTest {
                 .expectError(ValidationException.class)
                 .verify();
 
-        verify(userRepository, never()).save(any());
-        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).saveIfEmailAbsent(any());
     }
 
     @Test
@@ -230,16 +228,18 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(true));
+        // The insert completes empty when the email is already registered
+        when(userRepository.saveIfEmailAbsent(user)).thenReturn(Mono.empty());
 
         Mono<User> result = userUseCase.saveUser(user);
 
         StepVerifier.create(result)
-                .expectError(BusinessRuleViolationException.class)
+                .expectErrorMatches(error -> error instanceof BusinessRuleViolationException
+                        && error.getMessage().contains("existing@example.com"))
                 .verify();
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, never()).save(any());
+        verify(userRepository, times(1)).saveIfEmailAbsent(user);
+        verify(userRepository, never()).existsByEmail(any());
     }
 
     @Test
@@ -271,8 +271,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(2)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(completeUser)).thenReturn(Mono.just(savedCompleteUser));
+        when(userRepository.saveIfEmailAbsent(completeUser)).thenReturn(Mono.just(savedCompleteUser));
 
         Mono<User> result = userUseCase.saveUser(completeUser);
 
@@ -280,7 +279,7 @@ class UserUseCaseTest {
                 .expectNext(savedCompleteUser)
                 .verifyComplete();
 
-        verify(userRepository, times(1)).save(completeUser);
+        verify(userRepository, times(1)).saveIfEmailAbsent(completeUser);
     }
 
     @Test
@@ -295,8 +294,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(any(User.class))).thenReturn(Mono.never());
+        when(userRepository.saveIfEmailAbsent(any(User.class))).thenReturn(Mono.never());
 
         Mono<User> result = userUseCase.saveUser(user);
 
@@ -304,7 +302,7 @@ class UserUseCaseTest {
                 .expectTimeout(java.time.Duration.ofSeconds(1))
                 .verify();
 
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).saveIfEmailAbsent(user);
     }
 
     @Test
@@ -365,43 +363,48 @@ class UserUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should handle checkEmailUniqueness when repository returns empty")
-    void shouldHandleCheckEmailUniquenessWhenRepositoryReturnsEmpty() {
-        User user = User.builder()
-                .firstName("John")
-                .lastName("Doe")
-                .email(Email.of("john.doe@example.com"))
-                .roleId(1)
-                .baseSalary(Salary.of(new BigDecimal("50000")))
-                .build();
+    @DisplayName("Should return a single keyset page of users")
+    void shouldReturnSingleKeysetPage() {
+        User user = User.builder().id("2").firstName("Jane").build();
+        when(userRepository.findPage("1", 10)).thenReturn(Flux.just(user));
 
-        User savedUser = User.builder()
-                .id("generated-id")
-                .firstName("John")
-                .lastName("Doe")
-                .email(Email.of("john.doe@example.com"))
-                .roleId(1)
-                .baseSalary(Salary.of(new BigDecimal("50000")))
-                .build();
+        StepVerifier.create(userUseCase.getUsersPage("1", 10))
+                .expectNext(user)
+                .verifyComplete();
+    }
 
-        // Repository returns empty, defaultIfEmpty(true) should make it unique
-        when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.empty());
-        when(userRepository.save(user)).thenReturn(Mono.just(savedUser));
+    @Test
+    @DisplayName("Should reject non-positive page sizes without querying the repository")
+    void shouldRejectNonPositivePageSize() {
+        StepVerifier.create(userUseCase.getUsersPage(null, 0))
+                .expectError(ValidationException.class)
+                .verify();
+        StepVerifier.create(userUseCase.streamUsers(null, 0))
+                .expectError(ValidationException.class)
+                .verify();
 
-        Mono<User> result = userUseCase.saveUser(user);
+        verifyNoInteractions(userRepository);
+    }
 
-        StepVerifier.create(result)
-                .expectNext(savedUser)
+    @Test
+    @DisplayName("Should stream all users by following the keyset cursor page by page")
+    void shouldStreamAllUsersPageByPage() {
+        User user1 = User.builder().id("1").build();
+        User user2 = User.builder().id("2").build();
+        User user3 = User.builder().id("3").build();
+        when(userRepository.findPage(null, 2)).thenReturn(Flux.just(user1, user2));
+        when(userRepository.findPage("2", 2)).thenReturn(Flux.just(user3));
+
+        StepVerifier.create(userUseCase.streamUsers(null, 2))
+                .expectNext(user1, user2, user3)
                 .verifyComplete();
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, never()).findPage("3", 2);
     }
 
     @Test
-    @DisplayName("Should handle repository error during email existence check")
-    void shouldHandleRepositoryErrorDuringEmailExistenceCheck() {
+    @DisplayName("Should propagate repository error from the conditional insert")
+    void shouldPropagateRepositoryErrorFromConditionalInsert() {
         User user = User.builder()
                 .firstName("John")
                 .lastName("Doe")
@@ -412,16 +415,13 @@ class UserUseCaseTest {
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
         RuntimeException expectedException = new RuntimeException("Database connection error");
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.error(expectedException));
+        when(userRepository.saveIfEmailAbsent(user)).thenReturn(Mono.error(expectedException));
 
         Mono<User> result = userUseCase.saveUser(user);
 
         StepVerifier.create(result)
-                .expectError(RuntimeException.class)
+                .expectErrorMatches(error -> error == expectedException)
                 .verify();
-
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -441,8 +441,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(minimalUser)).thenReturn(Mono.just(savedMinimalUser));
+        when(userRepository.saveIfEmailAbsent(minimalUser)).thenReturn(Mono.just(savedMinimalUser));
 
         Mono<User> result = userUseCase.saveUser(minimalUser);
 
@@ -472,8 +471,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(maxSalaryUser)).thenReturn(Mono.just(savedMaxSalaryUser));
+        when(userRepository.saveIfEmailAbsent(maxSalaryUser)).thenReturn(Mono.just(savedMaxSalaryUser));
 
         Mono<User> result = userUseCase.saveUser(maxSalaryUser);
 
@@ -512,8 +510,7 @@ class UserUseCaseTest {
                 .build();
 
         when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(Mono.just(false));
-        when(userRepository.save(completeUser)).thenReturn(Mono.just(savedCompleteUser));
+        when(userRepository.saveIfEmailAbsent(completeUser)).thenReturn(Mono.just(savedCompleteUser));
 
         Mono<User> result = userUseCase.saveUser(completeUser);
 
@@ -553,4 +550,104 @@ class UserUseCaseTest {
         .expectError(ValidationException.class)
         .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should hash password through reactive encoder before saving")
+    void shouldHashPasswordThroughReactiveEncoderBeforeSaving() {
+        User user = User.builder()
+                .firstName("John")
+                .email(Email.of("john.doe@example.com"))
+                .roleId(1)
+                .baseSalary(Salary.of(new BigDecimal("50000")))
+                .passwordHash("plainPassword")
+                .build();
+
+        mockValidRole(1);
+        when(passwordEncoder.encode("plainPassword")).thenReturn(Mono.just("$2a$12$hashed"));
+        when(userRepository.saveIfEmailAbsent(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(userUseCase.saveUser(user))
+                .expectNextMatches(saved -> "$2a$12$hashed".equals(saved.getPasswordHash()))
+                .verifyComplete();
+
+        verify(passwordEncoder, times(1)).encode("plainPassword");
+    }
+
+    @Test
+    @DisplayName("Should not save user when password hashing is rejected")
+    void shouldNotSaveUserWhenPasswordHashingIsRejected() {
+        User user = User.builder()
+                .firstName("John")
+                .email(Email.of("john.doe@example.com"))
+                .roleId(1)
+                .baseSalary(Salary.of(new BigDecimal("50000")))
+                .passwordHash("plainPassword")
+                .build();
+
+        mockValidRole(1);
+        when(passwordEncoder.encode("plainPassword"))
+                .thenReturn(Mono.error(new RejectedExecutionException("saturated")));
+
+        StepVerifier.create(userUseCase.saveUser(user))
+                .expectError(RejectedExecutionException.class)
+                .verify();
+
+        verify(userRepository, never()).saveIfEmailAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Should import users in chunks and report one result per item in input order")
+    void shouldImportUsersWithPerItemResults() {
+        User first = User.builder().firstName("Ana").email(Email.of("ana@example.com")).roleId(1)
+                .passwordHash("plainPassword").build();
+        User repeated = first.toBuilder().firstName("Ana B").build();
+        User badRole = User.builder().firstName("Luis").email(Email.of("luis@example.com")).roleId(9).build();
+
+        mockValidRole(1);
+        when(roleRepository.existsById(9)).thenReturn(Mono.just(false));
+        when(passwordEncoder.encode("plainPassword")).thenReturn(Mono.just("$2a$12$hashed"));
+        when(userRepository.saveAllIfEmailAbsent(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return Flux.fromIterable(users).map(user -> user.toBuilder().id("id-" + user.getFirstName()).build());
+        });
+
+        Flux<UserImportResult> results = userUseCase.importUsers(Flux.just(
+                UserImportItem.valid(0, first),
+                UserImportItem.rejected(1, "bad", "Request validation failed"),
+                UserImportItem.valid(2, repeated),
+                UserImportItem.valid(3, badRole)), 10, 2);
+
+        StepVerifier.create(results)
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.CREATED
+                        && "id-Ana".equals(result.getUserId()))
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.REJECTED
+                        && result.getIndex() == 1)
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.ALREADY_EXISTS
+                        && result.getIndex() == 2)
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.REJECTED
+                        && result.getIndex() == 3)
+                .verifyComplete();
+
+        verify(userRepository, times(1)).saveAllIfEmailAbsent(argThat(users -> users.size() == 1
+                && "$2a$12$hashed".equals(users.get(0).getPasswordHash())));
+    }
+
+    @Test
+    @DisplayName("Should mark only the items of a failing chunk as failed")
+    void shouldFailOnlyItemsOfFailingChunk() {
+        User first = User.builder().firstName("Ana").email(Email.of("ana@example.com")).roleId(1).build();
+        User second = User.builder().firstName("Luis").email(Email.of("luis@example.com")).roleId(1).build();
+
+        when(roleRepository.existsById(1)).thenReturn(Mono.just(true));
+        when(userRepository.saveAllIfEmailAbsent(anyList()))
+                .thenReturn(Flux.error(new RuntimeException("connection lost")))
+                .thenReturn(Flux.just(second.toBuilder().id("id-2").build()));
+
+        StepVerifier.create(userUseCase.importUsers(Flux.just(
+                        UserImportItem.valid(0, first), UserImportItem.valid(1, second)), 1, 1))
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.FAILED
+                        && "connection lost".equals(result.getMessage()))
+                .expectNextMatches(result -> result.getStatus() == UserImportResult.Status.CREATED)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,144 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.model.role.Role;
+import crediya.authentication.model.role.gateways.RoleRepository;
+import crediya.authentication.r2dbc.config.RoleCatalogProperties;
+import crediya.authentication.r2dbc.mapper.RoleMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves roles from an in-memory snapshot indexed by role id. The snapshot is loaded at
+ * startup and reloaded every {@code adapters.r2dbc.role-catalog.refresh-interval}; until the
+ * first load succeeds, lookups fall through to the database adapter.
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachedRoleRepository implements RoleRepository, InitializingBean, DisposableBean {
+
+    private static final String CACHE_AGE_METRIC = "auth.roles.cache.age";
+    private static final String CACHE_SIZE_METRIC = "auth.roles.cache.size";
+    private static final String REFRESH_METRIC = "auth.roles.cache.refresh";
+    private static final String RESULT_TAG = "result";
+
+    private final RoleReactiveRepositoryAdapter delegate;
+    private final RoleReactiveRepository roleReactiveRepository;
+    private final RoleMapper roleMapper;
+    private final RoleCatalogProperties properties;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    private volatile Snapshot snapshot;
+    private Disposable refreshSubscription;
+
+    public CachedRoleRepository(RoleReactiveRepositoryAdapter delegate,
+                                RoleReactiveRepository roleReactiveRepository,
+                                RoleMapper roleMapper,
+                                RoleCatalogProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.roleReactiveRepository = roleReactiveRepository;
+        this.roleMapper = roleMapper;
+        this.properties = properties;
+        this.refreshSuccess = Counter.builder(REFRESH_METRIC).tag(RESULT_TAG, "success").register(meterRegistry);
+        this.refreshFailure = Counter.builder(REFRESH_METRIC).tag(RESULT_TAG, "failure").register(meterRegistry);
+        TimeGauge.builder(CACHE_AGE_METRIC, this, TimeUnit.NANOSECONDS, CachedRoleRepository::ageNanos)
+                .register(meterRegistry);
+        Gauge.builder(CACHE_SIZE_METRIC, this, CachedRoleRepository::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Role> findById(Integer roleId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return delegate.findById(roleId);
+        }
+        return Mono.justOrEmpty(current.get(roleId));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Integer roleId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return delegate.existsById(roleId);
+        }
+        return Mono.just(current.get(roleId) != null);
+    }
+
+    /**
+     * Reloads every role from the database and atomically replaces the snapshot.
+     * On failure the previous snapshot stays in place.
+     */
+    public Mono<Void> refresh() {
+        return roleReactiveRepository.findAll()
+                .map(roleMapper::entityToDomain)
+                .collectList()
+                .doOnNext(roles -> {
+                    snapshot = Snapshot.of(roles);
+                    refreshSuccess.increment();
+                    log.debug("Role catalog refreshed with {} roles", roles.size());
+                })
+                .doOnError(error -> {
+                    refreshFailure.increment();
+                    log.warn("Role catalog refresh failed, keeping previous snapshot: {}", error.getMessage());
+                })
+                .then();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refreshSubscription = Flux.interval(Duration.ZERO, properties.refreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(error -> Mono.empty()))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshSubscription != null) {
+            refreshSubscription.dispose();
+        }
+    }
+
+    private double ageNanos() {
+        Snapshot current = snapshot;
+        return current == null ? Double.NaN : System.nanoTime() - current.loadedAtNanos();
+    }
+
+    private int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    private record Snapshot(Role[] rolesById, int size, long loadedAtNanos) {
+
+        static Snapshot of(List<Role> roles) {
+            int maxId = roles.stream().mapToInt(Role::getId).max().orElse(-1);
+            Role[] rolesById = new Role[maxId + 1];
+            roles.forEach(role -> rolesById[role.getId()] = role);
+            return new Snapshot(rolesById, roles.size(), System.nanoTime());
+        }
+
+        Role get(Integer roleId) {
+            if (roleId == null || roleId < 0 || roleId >= rolesById.length) {
+                return null;
+            }
+            return rolesById[roleId];
+        }
+    }
+}
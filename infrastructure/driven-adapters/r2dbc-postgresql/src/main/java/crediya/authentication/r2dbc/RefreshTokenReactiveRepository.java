@@ -0,0 +1,35 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.r2dbc.entity.RefreshTokenEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RefreshTokenReactiveRepository extends ReactiveCrudRepository<RefreshTokenEntity, String> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO refresh_tokens (token_hash, user_id, family_id, expires_at)
+            VALUES ($1, $2, $3, $4)""")
+    Mono<Integer> insert(String tokenHash, UUID userId, UUID familyId, Instant expiresAt);
+
+    // Compare-and-set on used_at: of two concurrent refreshes with one token only one gets a row back
+    @Query("""
+            UPDATE refresh_tokens SET used_at = now()
+            WHERE token_hash = $1 AND used_at IS NULL AND expires_at > $2
+            RETURNING *""")
+    Mono<RefreshTokenEntity> consume(String tokenHash, Instant now);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens SET used_at = now() WHERE family_id = $1 AND used_at IS NULL")
+    Mono<Integer> revokeFamily(UUID familyId);
+
+    // Rides idx_refresh_tokens_expires_at
+    @Modifying
+    @Query("DELETE FROM refresh_tokens WHERE expires_at <= $1")
+    Mono<Long> deleteExpired(Instant now);
+}
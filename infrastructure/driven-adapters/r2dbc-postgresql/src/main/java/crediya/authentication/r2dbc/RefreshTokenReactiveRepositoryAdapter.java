@@ -0,0 +1,50 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.model.auth.RefreshToken;
+import crediya.authentication.model.auth.gateways.RefreshTokenRepository;
+import crediya.authentication.r2dbc.mapper.RefreshTokenMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenReactiveRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenReactiveRepository refreshTokenReactiveRepository;
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    @Override
+    public Mono<Void> save(RefreshToken refreshToken) {
+        return refreshTokenReactiveRepository.insert(refreshToken.getTokenHash(),
+                        UUID.fromString(refreshToken.getUserId()),
+                        UUID.fromString(refreshToken.getFamilyId()),
+                        refreshToken.getExpiresAt())
+                .then();
+    }
+
+    @Override
+    public Mono<RefreshToken> consume(String tokenHash, Instant now) {
+        return refreshTokenReactiveRepository.consume(tokenHash, now)
+                .map(refreshTokenMapper::entityToDomain);
+    }
+
+    @Override
+    public Mono<RefreshToken> findByTokenHash(String tokenHash) {
+        return refreshTokenReactiveRepository.findById(tokenHash)
+                .map(refreshTokenMapper::entityToDomain);
+    }
+
+    @Override
+    public Mono<Void> revokeFamily(String familyId) {
+        return refreshTokenReactiveRepository.revokeFamily(UUID.fromString(familyId)).then();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(Instant now) {
+        return refreshTokenReactiveRepository.deleteExpired(now);
+    }
+}
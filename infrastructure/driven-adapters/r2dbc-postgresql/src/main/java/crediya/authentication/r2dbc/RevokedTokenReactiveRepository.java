@@ -0,0 +1,29 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.r2dbc.entity.RevokedTokenEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface RevokedTokenReactiveRepository extends ReactiveCrudRepository<RevokedTokenEntity, String> {
+
+    // revoked_at defaults to the database clock so every node reads revocations in one order
+    @Modifying
+    @Query("""
+            INSERT INTO revoked_tokens (token_id, subject, expires_at)
+            VALUES ($1, $2, $3)
+            ON CONFLICT (token_id) DO NOTHING""")
+    Mono<Integer> insertIfAbsent(String tokenId, String subject, Instant expiresAt);
+
+    // Incremental reads ride idx_revoked_tokens_revoked_at
+    @Query("SELECT * FROM revoked_tokens WHERE revoked_at >= $1 AND expires_at > $2 ORDER BY revoked_at")
+    Flux<RevokedTokenEntity> findActiveRevokedSince(Instant since, Instant now);
+
+    @Modifying
+    @Query("DELETE FROM revoked_tokens WHERE expires_at <= $1")
+    Mono<Long> deleteExpired(Instant now);
+}
@@ -0,0 +1,37 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import crediya.authentication.r2dbc.mapper.RevokedTokenMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenReactiveRepositoryAdapter implements RevokedTokenRepository {
+
+    private final RevokedTokenReactiveRepository revokedTokenReactiveRepository;
+    private final RevokedTokenMapper revokedTokenMapper;
+
+    @Override
+    public Mono<Void> save(RevokedToken revokedToken) {
+        return revokedTokenReactiveRepository.insertIfAbsent(
+                        revokedToken.getTokenId(), revokedToken.getSubject(), revokedToken.getExpiresAt())
+                .then();
+    }
+
+    @Override
+    public Flux<RevokedToken> findActiveRevokedSince(Instant since, Instant now) {
+        return revokedTokenReactiveRepository.findActiveRevokedSince(since, now)
+                .map(revokedTokenMapper::entityToDomain);
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(Instant now) {
+        return revokedTokenReactiveRepository.deleteExpired(now);
+    }
+}
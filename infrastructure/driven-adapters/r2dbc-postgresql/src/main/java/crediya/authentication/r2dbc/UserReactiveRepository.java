@@ -1,15 +1,40 @@
 package crediya.authentication.r2dbc;
 
 import crediya.authentication.r2dbc.entity.UserEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
 import java.util.UUID;
 
 public interface UserReactiveRepository extends ReactiveCrudRepository<UserEntity, UUID>, ReactiveQueryByExampleExecutor<UserEntity> {
     
+    // Both match the expression index idx_users_email_unique ON users (LOWER(email))
+    @Query("SELECT EXISTS (SELECT 1 FROM users WHERE LOWER(email) = LOWER($1))")
     Mono<Boolean> existsByEmail(String email);
     
+    @Query("SELECT * FROM users WHERE LOWER(email) = LOWER($1)")
     Mono<UserEntity> findByEmail(String email);
+
+    // Single round trip registration: the LOWER(email) unique index arbitrates duplicates
+    @Query("""
+            INSERT INTO users (first_name, last_name, email, identity_document, phone, role_id,
+                               base_salary, birth_date, address, password_hash)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10)
+            ON CONFLICT ((LOWER(email))) DO NOTHING
+            RETURNING *""")
+    Mono<UserEntity> insertIfEmailAbsent(String firstName, String lastName, String email,
+                                         String identityDocument, String phone, Integer roleId,
+                                         BigDecimal baseSalary, String birthDate, String address,
+                                         String passwordHash);
+
+    // Keyset pagination over the primary key index
+    @Query("SELECT * FROM users ORDER BY user_id LIMIT $1")
+    Flux<UserEntity> findFirstPage(int limit);
+
+    @Query("SELECT * FROM users WHERE user_id > $1 ORDER BY user_id LIMIT $2")
+    Flux<UserEntity> findPageAfter(UUID afterId, int limit);
     
 }
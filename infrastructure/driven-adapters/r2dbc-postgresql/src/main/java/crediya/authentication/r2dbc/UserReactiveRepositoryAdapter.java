@@ -1,17 +1,25 @@
 package crediya.authentication.r2dbc;
 
+import crediya.authentication.model.constants.DomainErrorMessages;
+import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserCredentials;
 import crediya.authentication.model.valueobjects.Email;
 import crediya.authentication.model.user.gateways.UserRepository;
 import crediya.authentication.r2dbc.entity.UserEntity;
+import crediya.authentication.r2dbc.helper.ConstraintViolations;
 import crediya.authentication.r2dbc.helper.ReactiveAdapterOperations;
 import crediya.authentication.r2dbc.mapper.UserEntityMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -23,16 +31,29 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         UserReactiveRepository
 >implements UserRepository {
     
+    private static final String BATCH_INSERT_PREFIX = """
+            INSERT INTO users (first_name, last_name, email, identity_document, phone, role_id,
+                               base_salary, birth_date, address, password_hash)
+            VALUES """;
+    private static final String BATCH_INSERT_SUFFIX = " ON CONFLICT ((LOWER(email))) DO NOTHING RETURNING *";
+    private static final int INSERT_COLUMNS = 10;
+    // Every column is in idx_users_email_unique, so PostgreSQL can answer with an index-only scan
+    private static final String CREDENTIALS_BY_EMAIL =
+            "SELECT user_id, password_hash, role_id FROM users WHERE LOWER(email) = LOWER($1)";
+    
     private final UserReactiveRepository userReactiveRepository;
     private final TransactionalOperator transactionalOperator;
     private final UserEntityMapper userMapper;
+    private final DatabaseClient databaseClient;
     
     public UserReactiveRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper, 
-                                        TransactionalOperator transactionalOperator, UserEntityMapper userMapper) {
+                                        TransactionalOperator transactionalOperator, UserEntityMapper userMapper,
+                                        DatabaseClient databaseClient) {
         super(repository, mapper, userMapper::entityToDomain);
         this.userReactiveRepository = repository;
         this.transactionalOperator = transactionalOperator;
         this.userMapper = userMapper;
+        this.databaseClient = databaseClient;
     }
     
     
@@ -53,9 +74,82 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 .doOnSuccess(savedUser -> log.info("Successfully saved user with id: {}", savedUser.getId()))
                 .doOnError(error -> log.error("Database save operation failed for user with email: {}, error: {}", 
                         user.getEmail(), error.getMessage()))
+                .onErrorMap(UserReactiveRepositoryAdapter::isEmailUniqueViolation,
+                        error -> new BusinessRuleViolationException(
+                                String.format(DomainErrorMessages.EMAIL_ALREADY_REGISTERED, user.getEmail().getValue()), error))
+                .onErrorMap(ConstraintViolations::isIntegrityViolation, ConstraintViolations::translate)
                 .as(transactionalOperator::transactional);
     }
 
+    @Override
+    public Mono<User> saveIfEmailAbsent(User user) {
+        if (user == null) {
+            return Mono.error(new IllegalArgumentException("User cannot be null"));
+        }
+        UserEntity userEntity = toData(user);
+        return userReactiveRepository.insertIfEmailAbsent(
+                        userEntity.getFirstName(), userEntity.getLastName(), userEntity.getEmail(),
+                        userEntity.getIdentityDocument(), userEntity.getPhone(), userEntity.getRoleId(),
+                        userEntity.getBaseSalary(), userEntity.getBirthDate(), userEntity.getAddress(),
+                        userEntity.getPasswordHash())
+                .map(this::toEntity)
+                .doOnSuccess(savedUser -> {
+                    if (savedUser == null) {
+                        log.info("Skipped insert, email already registered: {}", user.getEmail());
+                    } else {
+                        log.info("Successfully saved user with id: {}", savedUser.getId());
+                    }
+                })
+                .doOnError(error -> log.error("Database insert failed for user with email: {}, error: {}",
+                        user.getEmail(), error.getMessage()))
+                .onErrorMap(ConstraintViolations::isIntegrityViolation, ConstraintViolations::translate);
+    }
+
+    /**
+     * One multi-row INSERT per call instead of saveAllEntities, which issues a statement per
+     * row and fails the whole batch on the first duplicate email
+     */
+    @Override
+    public Flux<User> saveAllIfEmailAbsent(List<User> users) {
+        if (users == null || users.isEmpty()) {
+            return Flux.empty();
+        }
+        List<UserEntity> entities = users.stream().map(this::toData).toList();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(batchInsertSql(entities.size()));
+        int index = 0;
+        for (UserEntity entity : entities) {
+            spec = bind(spec, index++, entity.getFirstName(), String.class);
+            spec = bind(spec, index++, entity.getLastName(), String.class);
+            spec = bind(spec, index++, entity.getEmail(), String.class);
+            spec = bind(spec, index++, entity.getIdentityDocument(), String.class);
+            spec = bind(spec, index++, entity.getPhone(), String.class);
+            spec = bind(spec, index++, entity.getRoleId(), Integer.class);
+            spec = bind(spec, index++, entity.getBaseSalary(), BigDecimal.class);
+            spec = bind(spec, index++, entity.getBirthDate(), String.class);
+            spec = bind(spec, index++, entity.getAddress(), String.class);
+            spec = bind(spec, index++, entity.getPasswordHash(), String.class);
+        }
+        return spec.map((row, metadata) -> UserEntity.builder()
+                        .id(row.get("user_id", UUID.class))
+                        .firstName(row.get("first_name", String.class))
+                        .lastName(row.get("last_name", String.class))
+                        .email(row.get("email", String.class))
+                        .identityDocument(row.get("identity_document", String.class))
+                        .phone(row.get("phone", String.class))
+                        .roleId(row.get("role_id", Integer.class))
+                        .baseSalary(row.get("base_salary", BigDecimal.class))
+                        .birthDate(row.get("birth_date", String.class))
+                        .address(row.get("address", String.class))
+                        .passwordHash(row.get("password_hash", String.class))
+                        .build())
+                .all()
+                .map(this::toEntity)
+                .doOnComplete(() -> log.info("Batch insert completed for {} users", entities.size()))
+                .doOnError(error -> log.error("Batch insert failed for {} users, error: {}",
+                        entities.size(), error.getMessage()))
+                .onErrorMap(ConstraintViolations::isIntegrityViolation, ConstraintViolations::translate);
+    }
+
     @Override
     public Flux<User> getAll() {
         log.info("Retrieving all users from database");
@@ -63,6 +157,15 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 .doOnError(error -> log.error("Database query failed for getAllUsers: {}", error.getMessage()));
     }
 
+    @Override
+    public Flux<User> findPage(String afterId, int limit) {
+        return Flux.defer(() -> afterId == null
+                        ? userReactiveRepository.findFirstPage(limit)
+                        : userReactiveRepository.findPageAfter(UUID.fromString(afterId), limit))
+                .map(userMapper::entityToDomain)
+                .doOnError(error -> log.error("Database query failed for users page after {}: {}", afterId, error.getMessage()));
+    }
+
     @Override
     public Mono<Boolean> existsByEmail(Email email) {
         return userReactiveRepository.existsByEmail(email.getValue())
@@ -76,5 +179,59 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 .doOnError(error -> log.error("Error finding user by email: {}", error.getMessage()));
     }
 
-}
+    /**
+     * Reads three columns straight into {@link UserCredentials}, skipping UserEntity and the
+     * Email and Salary validation that entityToDomain performs
+     */
+    @Override
+    public Mono<UserCredentials> findCredentialsByEmail(Email email) {
+        return databaseClient.sql(CREDENTIALS_BY_EMAIL)
+                .bind(0, email.getValue())
+                .map((row, metadata) -> new UserCredentials(
+                        row.get("user_id", UUID.class).toString(),
+                        row.get("password_hash", String.class),
+                        row.get("role_id", Integer.class)))
+                .one()
+                .doOnError(error -> log.error("Error finding credentials by email: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<User> findById(String id) {
+        if (id == null) {
+            return Mono.empty();
+        }
+        UUID userId;
+        try {
+            userId = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return Mono.empty();
+        }
+        return userReactiveRepository.findById(userId)
+                .map(userMapper::entityToDomain)
+                .doOnError(error -> log.error("Error finding user by id: {}", error.getMessage()));
+    }
+
+    private static String batchInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(BATCH_INSERT_PREFIX.length() + rows * 64 + BATCH_INSERT_SUFFIX.length())
+                .append(BATCH_INSERT_PREFIX);
+        int marker = 1;
+        for (int row = 0; row < rows; row++) {
+            sql.append(row == 0 ? "(" : ", (");
+            for (int column = 0; column < INSERT_COLUMNS; column++) {
+                sql.append(column == 0 ? "$" : ", $").append(marker++);
+            }
+            sql.append(')');
+        }
+        return sql.append(BATCH_INSERT_SUFFIX).toString();
+    }
 
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+                                                          Object value, Class<?> type) {
+        return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+    }
+
+    private static boolean isEmailUniqueViolation(Throwable error) {
+        return ConstraintViolations.isIntegrityViolation(error)
+                && ConstraintViolations.classify(error) == Reason.DUPLICATE_EMAIL;
+    }
+}
@@ -0,0 +1,48 @@
+package crediya.authentication.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool that records how long callers wait for a connection. Occupancy gauges
+ * (acquired, idle, pending, ...) are bound by Spring Boot's r2dbc pool metrics, which
+ * recognise this class as a {@link ConnectionPool}.
+ */
+public class MeteredConnectionPool extends ConnectionPool {
+
+    static final String ACQUIRE_TIMER = "r2dbc.pool.acquire";
+
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+
+    public MeteredConnectionPool(ConnectionPoolConfiguration configuration, String name, MeterRegistry meterRegistry) {
+        super(configuration);
+        this.acquireSuccess = acquireTimer(meterRegistry, name, "success");
+        this.acquireFailure = acquireTimer(meterRegistry, name, "failure");
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(connection -> acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> acquireFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer acquireTimer(MeterRegistry meterRegistry, String name, String result) {
+        return Timer.builder(ACQUIRE_TIMER)
+                .description("Time spent waiting for a pooled connection")
+                .tag("name", name)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package crediya.authentication.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
@@ -7,18 +8,16 @@ import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
+/**
+ * The application's only connection pool. Spring Boot's spring.r2dbc auto-configuration
+ * backs off because this bean exists, so pool settings live under adapters.r2dbc.pool.
+ */
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
-    public static final int DEFAULT_PORT = 5432;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, MeterRegistry meterRegistry) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -28,15 +27,20 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .build();
 
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
+        // No validation query: connections are checked with Connection.validate(depth) on acquire
         ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
                 .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
+                .name(POOL_NAME)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth())
                 .build();
 
-		return new ConnectionPool(poolConfiguration);
+		return new MeteredConnectionPool(poolConfiguration, POOL_NAME, meterRegistry);
 	}
-}
\ No newline at end of file
+}
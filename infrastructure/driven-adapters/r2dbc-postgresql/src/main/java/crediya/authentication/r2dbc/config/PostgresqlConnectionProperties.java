@@ -1,7 +1,11 @@
 package crediya.authentication.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
@@ -10,5 +14,22 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        @DefaultValue Pool pool) {
+
+    /**
+     * Settings of the single application connection pool.
+     *
+     * @param validationDepth LOCAL checks the connection state without a round trip,
+     *                        REMOTE pings the server; neither issues a query
+     */
+    public record Pool(
+            @DefaultValue("12") int initialSize,
+            @DefaultValue("15") int maxSize,
+            @DefaultValue("5s") Duration maxAcquireTime,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("1h") Duration maxLifeTime,
+            @DefaultValue("1m") Duration backgroundEvictionInterval,
+            @DefaultValue("LOCAL") ValidationDepth validationDepth) {
+    }
 }
@@ -0,0 +1,11 @@
+package crediya.authentication.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.role-catalog")
+public record RoleCatalogProperties(
+        @DefaultValue("5m") Duration refreshInterval) {
+}
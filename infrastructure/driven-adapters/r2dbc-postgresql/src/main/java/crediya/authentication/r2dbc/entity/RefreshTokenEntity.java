@@ -0,0 +1,36 @@
+package crediya.authentication.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Table("refresh_tokens")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class RefreshTokenEntity {
+
+    @Id
+    @Column("token_hash")
+    private String tokenHash;
+
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("family_id")
+    private UUID familyId;
+
+    @Column("expires_at")
+    private Instant expiresAt;
+
+    @Column("used_at")
+    private Instant usedAt;
+}
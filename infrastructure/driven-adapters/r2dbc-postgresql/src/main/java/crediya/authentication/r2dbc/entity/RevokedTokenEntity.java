@@ -0,0 +1,32 @@
+package crediya.authentication.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Table("revoked_tokens")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class RevokedTokenEntity {
+
+    @Id
+    @Column("token_id")
+    private String tokenId;
+
+    @Column("subject")
+    private String subject;
+
+    @Column("expires_at")
+    private Instant expiresAt;
+
+    @Column("revoked_at")
+    private Instant revokedAt;
+}
@@ -0,0 +1,84 @@
+package crediya.authentication.r2dbc.helper;
+
+import crediya.authentication.model.exception.DataConstraintViolationException;
+import crediya.authentication.model.exception.DomainException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Map;
+
+/**
+ * Turns integrity violations reported by PostgreSQL into {@link DataConstraintViolationException}:
+ * by constraint name when the driver reports one, then by SQLSTATE, never by the (locale
+ * dependent) message text. Anything unrecognized becomes {@link Reason#CONFLICT}.
+ */
+public final class ConstraintViolations {
+
+    private static final String SQLSTATE_NOT_NULL_VIOLATION = "23502";
+    private static final String SQLSTATE_CHECK_VIOLATION = "23514";
+    // Class 23 - integrity constraint violation
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+
+    // Constraint and index names from database/init
+    private static final String CONSTRAINT_EMAIL_UNIQUE = "idx_users_email_unique";
+    private static final String CONSTRAINT_EMAIL_FORMAT = "users_email_check";
+    private static final String CONSTRAINT_SALARY_RANGE = "users_salary_range";
+    private static final String CONSTRAINT_ROLE_FOREIGN_KEY = "fk_users_role_id";
+
+    private static final Map<String, Reason> BY_CONSTRAINT = Map.of(
+            CONSTRAINT_EMAIL_UNIQUE, Reason.DUPLICATE_EMAIL,
+            CONSTRAINT_EMAIL_FORMAT, Reason.INVALID_EMAIL,
+            CONSTRAINT_SALARY_RANGE, Reason.SALARY_OUT_OF_RANGE,
+            CONSTRAINT_ROLE_FOREIGN_KEY, Reason.UNKNOWN_ROLE);
+
+    private static final Map<String, Reason> BY_SQLSTATE = Map.of(
+            SQLSTATE_NOT_NULL_VIOLATION, Reason.MISSING_VALUE,
+            SQLSTATE_CHECK_VIOLATION, Reason.CHECK_VIOLATION);
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * True for errors caused by a class 23 SQLSTATE or already translated by Spring into a
+     * {@link DataIntegrityViolationException}; false once an adapter has mapped them to a
+     * {@link DomainException}.
+     */
+    public static boolean isIntegrityViolation(Throwable error) {
+        if (error instanceof DomainException) {
+            return false;
+        }
+        return error instanceof DataIntegrityViolationException || integrityCause(error) != null;
+    }
+
+    public static DataConstraintViolationException translate(Throwable error) {
+        return new DataConstraintViolationException(classify(error), error.getMessage(), error);
+    }
+
+    public static Reason classify(Throwable error) {
+        R2dbcException cause = integrityCause(error);
+        if (cause == null) {
+            return Reason.CONFLICT;
+        }
+        if (cause instanceof PostgresqlException postgresqlException) {
+            Reason byConstraint = postgresqlException.getErrorDetails().getConstraintName()
+                    .map(BY_CONSTRAINT::get)
+                    .orElse(null);
+            if (byConstraint != null) {
+                return byConstraint;
+            }
+        }
+        return BY_SQLSTATE.getOrDefault(cause.getSqlState(), Reason.CONFLICT);
+    }
+
+    private static R2dbcException integrityCause(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcException r2dbcException) {
+                String sqlState = r2dbcException.getSqlState();
+                return sqlState != null && sqlState.startsWith(INTEGRITY_VIOLATION_CLASS) ? r2dbcException : null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package crediya.authentication.r2dbc.mapper;
+
+import crediya.authentication.model.auth.RefreshToken;
+import crediya.authentication.r2dbc.entity.RefreshTokenEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+@Mapper(componentModel = "spring")
+public interface RefreshTokenMapper {
+
+    RefreshTokenMapper INSTANCE = Mappers.getMapper(RefreshTokenMapper.class);
+
+    @Mapping(source = "userId", target = "userId", qualifiedByName = "uuidToString")
+    @Mapping(source = "familyId", target = "familyId", qualifiedByName = "uuidToString")
+    RefreshToken entityToDomain(RefreshTokenEntity entity);
+
+    @Named("uuidToString")
+    default String uuidToString(UUID uuid) {
+        return uuid != null ? uuid.toString() : null;
+    }
+}
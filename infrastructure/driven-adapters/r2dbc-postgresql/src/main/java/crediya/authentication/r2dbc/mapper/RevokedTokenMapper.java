@@ -0,0 +1,14 @@
+package crediya.authentication.r2dbc.mapper;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.r2dbc.entity.RevokedTokenEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(componentModel = "spring")
+public interface RevokedTokenMapper {
+
+    RevokedTokenMapper INSTANCE = Mappers.getMapper(RevokedTokenMapper.class);
+
+    RevokedToken entityToDomain(RevokedTokenEntity entity);
+}
@@ -0,0 +1,92 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.model.role.Role;
+import crediya.authentication.r2dbc.config.RoleCatalogProperties;
+import crediya.authentication.r2dbc.entity.RoleEntity;
+import crediya.authentication.r2dbc.mapper.RoleMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedRoleRepositoryTest {
+
+    @Mock
+    RoleReactiveRepositoryAdapter delegate;
+
+    @Mock
+    RoleReactiveRepository roleReactiveRepository;
+
+    private final RoleMapper roleMapper = RoleMapper.INSTANCE;
+    private SimpleMeterRegistry meterRegistry;
+    private CachedRoleRepository repository;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachedRoleRepository(delegate, roleReactiveRepository, roleMapper,
+                new RoleCatalogProperties(Duration.ofMinutes(5)), meterRegistry);
+    }
+
+    @Test
+    void shouldFallBackToDatabaseBeforeFirstLoad() {
+        Role role = Role.builder().id(1).name("CUSTOMER").build();
+        when(delegate.findById(1)).thenReturn(Mono.just(role));
+        when(delegate.existsById(1)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.findById(1)).expectNext(role).verifyComplete();
+        StepVerifier.create(repository.existsById(1)).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    void shouldServeRolesFromSnapshotAfterRefresh() {
+        when(roleReactiveRepository.findAll()).thenReturn(Flux.just(
+                new RoleEntity(1, "CUSTOMER", "Customer"),
+                new RoleEntity(3, "ADMIN", "Administrator")));
+
+        StepVerifier.create(repository.refresh()).verifyComplete();
+
+        StepVerifier.create(repository.findById(3))
+                .assertNext(role -> assertThat(role.getName()).isEqualTo("ADMIN"))
+                .verifyComplete();
+        StepVerifier.create(repository.findById(2)).verifyComplete();
+        StepVerifier.create(repository.findById(99)).verifyComplete();
+        StepVerifier.create(repository.existsById(1)).expectNext(true).verifyComplete();
+        StepVerifier.create(repository.existsById(null)).expectNext(false).verifyComplete();
+        verify(delegate, never()).findById(anyInt());
+        verify(delegate, never()).existsById(anyInt());
+
+        assertThat(meterRegistry.get("auth.roles.cache.refresh").tag("result", "success").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.roles.cache.size").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.roles.cache.age").timeGauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenRefreshFails() {
+        when(roleReactiveRepository.findAll())
+                .thenReturn(Flux.just(new RoleEntity(2, "ADVISOR", "Advisor")))
+                .thenReturn(Flux.error(new RuntimeException("connection lost")));
+
+        StepVerifier.create(repository.refresh()).verifyComplete();
+        StepVerifier.create(repository.refresh()).expectError(RuntimeException.class).verify();
+
+        StepVerifier.create(repository.existsById(2)).expectNext(true).verifyComplete();
+        assertThat(meterRegistry.get("auth.roles.cache.refresh").tag("result", "failure").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package crediya.authentication.r2dbc;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.r2dbc.entity.RevokedTokenEntity;
+import crediya.authentication.r2dbc.mapper.RevokedTokenMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenReactiveRepositoryAdapterTest {
+
+    @Mock
+    RevokedTokenReactiveRepository repository;
+
+    private RevokedTokenReactiveRepositoryAdapter adapter;
+
+    private final Instant expiresAt = Instant.parse("2026-01-02T00:00:00Z");
+    private final Instant revokedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        adapter = new RevokedTokenReactiveRepositoryAdapter(repository, RevokedTokenMapper.INSTANCE);
+    }
+
+    @Test
+    void shouldInsertRevocationIgnoringDuplicates() {
+        when(repository.insertIfAbsent("jti-1", "user123", expiresAt)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(adapter.save(RevokedToken.builder()
+                        .tokenId("jti-1")
+                        .subject("user123")
+                        .expiresAt(expiresAt)
+                        .build()))
+                .verifyComplete();
+
+        verify(repository).insertIfAbsent("jti-1", "user123", expiresAt);
+    }
+
+    @Test
+    void shouldMapActiveRevocations() {
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        when(repository.findActiveRevokedSince(revokedAt, now))
+                .thenReturn(Flux.just(new RevokedTokenEntity("jti-1", "user123", expiresAt, revokedAt)));
+
+        StepVerifier.create(adapter.findActiveRevokedSince(revokedAt, now))
+                .assertNext(revoked -> {
+                    assertThat(revoked.getTokenId()).isEqualTo("jti-1");
+                    assertThat(revoked.getSubject()).isEqualTo("user123");
+                    assertThat(revoked.getExpiresAt()).isEqualTo(expiresAt);
+                    assertThat(revoked.getRevokedAt()).isEqualTo(revokedAt);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteExpiredRevocations() {
+        when(repository.deleteExpired(expiresAt)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(adapter.deleteExpired(expiresAt)).expectNext(3L).verifyComplete();
+    }
+}
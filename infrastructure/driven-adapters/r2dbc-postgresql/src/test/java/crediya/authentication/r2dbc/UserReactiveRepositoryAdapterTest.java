@@ -1,6 +1,9 @@
 package crediya.authentication.r2dbc;
 
+import crediya.authentication.model.exception.DataConstraintViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserCredentials;
 import crediya.authentication.model.valueobjects.Email;
 import crediya.authentication.model.valueobjects.Salary;
 import crediya.authentication.r2dbc.entity.UserEntity;
@@ -11,16 +14,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.reactivecommons.utils.ObjectMapper;
+import org.mockito.ArgumentCaptor;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 @ExtendWith(MockitoExtension.class)
 class UserReactiveRepositoryAdapterTest {
@@ -39,9 +56,13 @@ class UserReactiveRepositoryAdapterTest {
     @Mock
     UserEntityMapper userMapper;
 
+    @Mock
+    DatabaseClient databaseClient;
+
     @BeforeEach
     void setup() {
-        repositoryAdapter = new UserReactiveRepositoryAdapter(repository, mapper, transactionalOperator, userMapper);
+        repositoryAdapter = new UserReactiveRepositoryAdapter(repository, mapper, transactionalOperator, userMapper,
+                databaseClient);
     }
 
     private final UUID testUuid1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
@@ -149,4 +170,123 @@ class UserReactiveRepositoryAdapterTest {
                 )
                 .verifyComplete();
     }
+
+    @Test
+    void shouldFindFirstPageWhenNoCursorIsGiven() {
+        when(userMapper.entityToDomain(userEntity)).thenReturn(user);
+        when(repository.findFirstPage(10)).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(repositoryAdapter.findPage(null, 10))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindPageAfterCursor() {
+        when(userMapper.entityToDomain(userEntity)).thenReturn(user);
+        when(repository.findPageAfter(testUuid2, 10)).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(repositoryAdapter.findPage(testUuid2.toString(), 10))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldInsertUserWhenEmailIsAbsent() {
+        when(userMapper.domainToEntity(user)).thenReturn(userEntity);
+        when(userMapper.entityToDomain(userEntity)).thenReturn(user);
+        when(repository.insertIfEmailAbsent(userEntity.getFirstName(), userEntity.getLastName(), userEntity.getEmail(),
+                userEntity.getIdentityDocument(), userEntity.getPhone(), userEntity.getRoleId(),
+                userEntity.getBaseSalary(), userEntity.getBirthDate(), userEntity.getAddress(),
+                userEntity.getPasswordHash())).thenReturn(Mono.just(userEntity));
+
+        StepVerifier.create(repositoryAdapter.saveIfEmailAbsent(user))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCompleteEmptyWhenEmailIsAlreadyRegistered() {
+        when(userMapper.domainToEntity(user)).thenReturn(userEntity);
+        when(repository.insertIfEmailAbsent(any(), any(), eq(userEntity.getEmail()), any(), any(), any(),
+                any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(repositoryAdapter.saveIfEmailAbsent(user))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldTranslateIntegrityViolationsToDomainException() {
+        when(userMapper.domainToEntity(user)).thenReturn(userEntity);
+        when(repository.insertIfEmailAbsent(any(), any(), eq(userEntity.getEmail()), any(), any(), any(),
+                any(), any(), any(), any()))
+                .thenReturn(Mono.error(new R2dbcDataIntegrityViolationException("null value in column", "23502")));
+
+        StepVerifier.create(repositoryAdapter.saveIfEmailAbsent(user))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(DataConstraintViolationException.class,
+                                violation -> assertThat(violation.getReason()).isEqualTo(Reason.MISSING_VALUE)))
+                .verify();
+    }
+
+    @Test
+    void shouldNotQueryWhenBatchIsEmpty() {
+        StepVerifier.create(repositoryAdapter.saveAllIfEmailAbsent(List.of()))
+                .verifyComplete();
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertBatchWithSingleMultiRowStatement() {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserEntity> rows = mock(RowsFetchSpec.class);
+        when(userMapper.domainToEntity(user)).thenReturn(userEntity);
+        when(userMapper.entityToDomain(userEntity)).thenReturn(user);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.bindNull(anyInt(), any())).thenReturn(spec);
+        when(spec.<UserEntity>map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(repositoryAdapter.saveAllIfEmailAbsent(List.of(user, user)))
+                .expectNext(user)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertThat(sql.getValue())
+                .contains("($11, $12, $13, $14, $15, $16, $17, $18, $19, $20)")
+                .endsWith("ON CONFLICT ((LOWER(email))) DO NOTHING RETURNING *");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindCredentialsWithNarrowSelect() {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserCredentials> rows = mock(RowsFetchSpec.class);
+        ArgumentCaptor<BiFunction<Row, RowMetadata, UserCredentials>> rowMapper = ArgumentCaptor.forClass(BiFunction.class);
+        UUID userId = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.get("user_id", UUID.class)).thenReturn(userId);
+        when(row.get("password_hash", String.class)).thenReturn("$2a$12$hash");
+        when(row.get("role_id", Integer.class)).thenReturn(2);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(0, "john.doe@example.com")).thenReturn(spec);
+        when(spec.<UserCredentials>map(rowMapper.capture())).thenReturn(rows);
+        when(rows.one()).thenAnswer(invocation -> Mono.just(rowMapper.getValue().apply(row, mock(RowMetadata.class))));
+
+        StepVerifier.create(repositoryAdapter.findCredentialsByEmail(Email.of("John.Doe@example.com")))
+                .assertNext(credentials -> {
+                    assertThat(credentials.getUserId()).isEqualTo(userId.toString());
+                    assertThat(credentials.getPasswordHash()).isEqualTo("$2a$12$hash");
+                    assertThat(credentials.getRoleId()).isEqualTo(2);
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertThat(sql.getValue()).startsWith("SELECT user_id, password_hash, role_id FROM users");
+        verifyNoInteractions(repository, userMapper);
+    }
 }
@@ -1,11 +1,17 @@
 package crediya.authentication.r2dbc.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ValidationDepth;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +23,7 @@ class PostgreSQLConnectionPoolTest {
     @Mock
     private PostgresqlConnectionProperties properties;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @BeforeEach
     void setUp() {
@@ -28,10 +35,21 @@ class PostgreSQLConnectionPoolTest {
         when(properties.schema()).thenReturn("schema");
         when(properties.username()).thenReturn("username");
         when(properties.password()).thenReturn("password");
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(2, 4, Duration.ofSeconds(5),
+                Duration.ofMinutes(30), Duration.ofHours(1), Duration.ofMinutes(1), ValidationDepth.LOCAL));
     }
 
     @Test
     void getConnectionConfigSuccess() {
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, meterRegistry));
+    }
+
+    @Test
+    void shouldSizePoolFromPropertiesAndRegisterAcquireTimer() {
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties, meterRegistry);
+
+        assertThat(pool.getMetrics()).hasValueSatisfying(metrics -> assertThat(metrics.getMaxAllocatedSize()).isEqualTo(4));
+        assertThat(meterRegistry.find(MeteredConnectionPool.ACQUIRE_TIMER).timers()).hasSize(2);
+        pool.dispose();
     }
 }
@@ -0,0 +1,88 @@
+package crediya.authentication.r2dbc.helper;
+
+import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
+import io.r2dbc.postgresql.api.ErrorDetails;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ConstraintViolationsTest {
+
+    @Test
+    void shouldClassifyKnownConstraintsByName() {
+        assertThat(ConstraintViolations.classify(postgresViolation("23505", "idx_users_email_unique")))
+                .isEqualTo(Reason.DUPLICATE_EMAIL);
+        assertThat(ConstraintViolations.classify(postgresViolation("23514", "users_salary_range")))
+                .isEqualTo(Reason.SALARY_OUT_OF_RANGE);
+        assertThat(ConstraintViolations.classify(postgresViolation("23514", "users_email_check")))
+                .isEqualTo(Reason.INVALID_EMAIL);
+        assertThat(ConstraintViolations.classify(postgresViolation("23503", "fk_users_role_id")))
+                .isEqualTo(Reason.UNKNOWN_ROLE);
+    }
+
+    @Test
+    void shouldFallBackToSqlStateForUnknownConstraints() {
+        assertThat(ConstraintViolations.classify(postgresViolation("23514", "some_new_check")))
+                .isEqualTo(Reason.CHECK_VIOLATION);
+    }
+
+    @Test
+    void shouldClassifyNotNullViolationBySqlState() {
+        DataIntegrityViolationException error = new DataIntegrityViolationException("insert failed",
+                new R2dbcDataIntegrityViolationException("null value in column", "23502"));
+
+        assertThat(ConstraintViolations.classify(error)).isEqualTo(Reason.MISSING_VALUE);
+    }
+
+    @Test
+    void shouldNotClassifyByMessageText() {
+        DataIntegrityViolationException error = new DataIntegrityViolationException("not-null constraint user_id",
+                new R2dbcDataIntegrityViolationException("duplicate key value", "23505"));
+
+        assertThat(ConstraintViolations.classify(error)).isEqualTo(Reason.CONFLICT);
+    }
+
+    @Test
+    void shouldTranslateIntegrityViolationsOnly() {
+        assertThat(ConstraintViolations.isIntegrityViolation(postgresViolation("23505", "idx_users_email_unique")))
+                .isTrue();
+        assertThat(ConstraintViolations.isIntegrityViolation(new DataIntegrityViolationException("conflict")))
+                .isTrue();
+        assertThat(ConstraintViolations.isIntegrityViolation(new R2dbcTimeoutException("timeout", "57014")))
+                .isFalse();
+        assertThat(ConstraintViolations.isIntegrityViolation(new BusinessRuleViolationException("already mapped",
+                new R2dbcDataIntegrityViolationException("duplicate key value", "23505"))))
+                .isFalse();
+    }
+
+    @Test
+    void shouldKeepCauseAndReasonWhenTranslating() {
+        DataIntegrityViolationException error = postgresViolation("23514", "users_salary_range");
+
+        DataConstraintViolationException translated = ConstraintViolations.translate(error);
+
+        assertThat(translated.getReason()).isEqualTo(Reason.SALARY_OUT_OF_RANGE);
+        assertThat(translated.getCause()).isSameAs(error);
+    }
+
+    private static DataIntegrityViolationException postgresViolation(String sqlState, String constraintName) {
+        ErrorDetails errorDetails = mock(ErrorDetails.class);
+        when(errorDetails.getConstraintName()).thenReturn(Optional.of(constraintName));
+        R2dbcDataIntegrityViolationException cause = mock(R2dbcDataIntegrityViolationException.class,
+                withSettings().extraInterfaces(PostgresqlException.class));
+        when(cause.getSqlState()).thenReturn(sqlState);
+        when(((PostgresqlException) cause).getErrorDetails()).thenReturn(errorDetails);
+        return new DataIntegrityViolationException("insert failed", cause);
+    }
+}
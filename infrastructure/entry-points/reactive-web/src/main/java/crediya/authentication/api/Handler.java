@@ -2,59 +2,91 @@ package crediya.authentication.api;
 
 import crediya.authentication.usecase.user.UserUseCase;
 import crediya.authentication.usecase.auth.LoginUseCase;
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserImportItem;
+import crediya.authentication.model.auth.AuthenticationResult;
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
+import crediya.authentication.model.auth.VerifiedToken;
 import crediya.authentication.model.auth.LoginCredentials;
 import crediya.authentication.model.valueobjects.Email;
+import crediya.authentication.api.dto.AuthorizationBatchRequest;
+import crediya.authentication.api.dto.AuthorizationBatchResponse;
+import crediya.authentication.api.dto.AuthorizationCheckRequest;
+import crediya.authentication.api.dto.AuthorizationDecisionResponse;
 import crediya.authentication.api.dto.UserCreateRequest;
+import crediya.authentication.api.dto.UserImportResponse;
 import crediya.authentication.api.dto.UserResponse;
 import crediya.authentication.api.dto.LoginRequest;
 import crediya.authentication.api.dto.LoginResponse;
+import crediya.authentication.api.dto.RefreshTokenRequest;
+import crediya.authentication.api.dto.TokenRevocationRequest;
 import crediya.authentication.api.mapper.UserResponseMapper;
 import crediya.authentication.api.constants.LogMessages;
 import crediya.authentication.api.constants.HandlerConstants;
-import crediya.authentication.api.config.AuthorizationService;
-import crediya.authentication.model.auth.Permission;
+import crediya.authentication.api.constants.ErrorMessages;
+import crediya.authentication.api.constants.JwtConstants;
+import crediya.authentication.api.config.AuthorizationProperties;
+import crediya.authentication.api.config.BatchAuthorizationService;
+import crediya.authentication.api.config.BatchImportProperties;
+import crediya.authentication.api.config.JsonWebKeySet;
+import crediya.authentication.api.config.JwtTokenManagerImpl;
+import crediya.authentication.api.config.LoginThrottle;
+import crediya.authentication.api.config.PaginationProperties;
+import crediya.authentication.api.config.SigningProperties;
+import crediya.authentication.api.config.TokenRevocationService;
+import crediya.authentication.api.exception.ErrorResponseWriter;
 import crediya.authentication.model.exception.ValidationException;
 import crediya.authentication.model.auth.gateways.PasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Validator;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class Handler {
+    private static final ErrorResponseWriter INVALID_TOKEN = ErrorResponseWriter.of(
+            HttpStatus.UNAUTHORIZED, JwtConstants.UNAUTHORIZED_ERROR, JwtConstants.ACCESS_DENIED_MESSAGE);
+    
     private final UserUseCase userUseCase;
     private final LoginUseCase loginUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
     private final Validator validator;
     private final UserResponseMapper userResponseMapper;
-    private final AuthorizationService authorizationService;
+    private final PaginationProperties paginationProperties;
+    private final BatchImportProperties batchImportProperties;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginThrottle loginThrottle;
+    private final JwtTokenManagerImpl jwtTokenManager;
+    private final SigningProperties signingProperties;
+    private final BatchAuthorizationService batchAuthorizationService;
+    private final AuthorizationProperties authorizationProperties;
 
     public Mono<ServerResponse> listenSaveUser(ServerRequest request) {
         log.info(LogMessages.POST_REQUEST_RECEIVED, 
                 request.remoteAddress().map(addr -> addr.getAddress().getHostAddress()).orElse(HandlerConstants.UNKNOWN_ADDRESS),
                 request.headers().firstHeader(HandlerConstants.USER_AGENT_HEADER));
-        
-        // Check authorization - only users with CREATE_USER permission
-        return authorizationService.hasPermission(request.exchange(), Permission.CREATE_USER)
-                .flatMap(hasPermission -> {
-                    if (!hasPermission) {
-                        return ServerResponse.status(HttpStatus.FORBIDDEN)
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(String.format(HandlerConstants.ERROR_JSON_TEMPLATE, HandlerConstants.INSUFFICIENT_PERMISSIONS_CREATE_USERS));
-                    }
-                    return proceedWithUserCreation(request);
-                })
-                .switchIfEmpty(ServerResponse.status(HttpStatus.FORBIDDEN)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(String.format(HandlerConstants.ERROR_JSON_TEMPLATE, HandlerConstants.INSUFFICIENT_PERMISSIONS_CREATE_USERS)))
+        return proceedWithUserCreation(request)
                 .doOnError(error -> log.error(LogMessages.POST_REQUEST_ERROR, error.getMessage()));
     }
 
@@ -79,28 +111,104 @@ public class Handler {
                 });
     }
 
+    public Mono<ServerResponse> listenBatchSaveUsers(ServerRequest request) {
+        log.info(LogMessages.BATCH_POST_REQUEST_RECEIVED,
+                request.remoteAddress().map(addr -> addr.getAddress().getHostAddress()).orElse(HandlerConstants.UNKNOWN_ADDRESS),
+                request.headers().firstHeader(HandlerConstants.USER_AGENT_HEADER));
+        // One result line per item, written as each chunk is committed
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(importUsers(request), UserImportResponse.class)
+                .doOnError(error -> log.error(LogMessages.BATCH_POST_REQUEST_ERROR, error.getMessage()));
+    }
+
+    private Flux<UserImportResponse> importUsers(ServerRequest request) {
+        // Decodes a JSON array or an NDJSON stream item by item, without buffering the whole body
+        Flux<UserImportItem> items = request.bodyToFlux(UserCreateRequest.class)
+                .index()
+                .map(indexed -> toImportItem(indexed.getT1(), indexed.getT2()));
+        return userUseCase.importUsers(items, batchImportProperties.getChunkSize(), batchImportProperties.getHashConcurrency())
+                .map(userResponseMapper::toImportResponse);
+    }
+
+    private UserImportItem toImportItem(long index, UserCreateRequest userRequest) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(userRequest, HandlerConstants.USER_CREATE_REQUEST_BINDING_NAME);
+        validator.validate(userRequest, bindingResult);
+        if (bindingResult.hasErrors()) {
+            StringBuilder errorMessage = new StringBuilder(HandlerConstants.VALIDATION_FAILED_PREFIX);
+            bindingResult.getAllErrors().forEach(error ->
+                errorMessage.append(error.getDefaultMessage()).append(HandlerConstants.VALIDATION_ERROR_SEPARATOR));
+            return UserImportItem.rejected(index, userRequest.getEmail(), errorMessage.toString());
+        }
+        try {
+            return UserImportItem.valid(index, userResponseMapper.toDomain(userRequest));
+        } catch (RuntimeException e) {
+            return UserImportItem.rejected(index, userRequest.getEmail(), e.getMessage());
+        }
+    }
+
     public Mono<ServerResponse> listenGetAllUsers(ServerRequest request) {
         log.info(LogMessages.GET_REQUEST_RECEIVED, 
                 request.remoteAddress().map(addr -> addr.getAddress().getHostAddress()).orElse(HandlerConstants.UNKNOWN_ADDRESS),
                 request.headers().firstHeader(HandlerConstants.USER_AGENT_HEADER));
-        
-        // Check authorization - only users with VIEW_ALL_USERS permission
-        return authorizationService.hasPermission(request.exchange(), Permission.VIEW_ALL_USERS)
-                .flatMap(hasPermission -> {
-                    if (!hasPermission) {
-                        return ServerResponse.status(HttpStatus.FORBIDDEN)
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(String.format(HandlerConstants.ERROR_JSON_TEMPLATE, HandlerConstants.INSUFFICIENT_PERMISSIONS_VIEW_USERS));
+        // Deferred so an invalid cursor or limit reaches GlobalExceptionHandler as an error signal
+        return Mono.defer(() -> listUsers(request))
+                .doOnSuccess(response -> log.info(LogMessages.GET_RESPONSE_SUCCESS))
+                .doOnError(error -> log.error(LogMessages.GET_REQUEST_ERROR, error.getMessage()));
+    }
+
+    private Mono<ServerResponse> listUsers(ServerRequest request) {
+        String afterId = resolveCursor(request);
+
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            // Export mode: one JSON object per line, fetched in bounded keyset batches as the client reads
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(userUseCase.streamUsers(afterId, paginationProperties.getMaxSize())
+                            .map(userResponseMapper::toResponse), UserResponse.class);
+        }
+
+        int limit = resolveLimit(request);
+        return userUseCase.getUsersPage(afterId, limit)
+                .map(userResponseMapper::toResponse)
+                .collectList()
+                .flatMap(page -> {
+                    ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+                    // A full page means there may be more; hand the client the cursor for the next one
+                    if (page.size() == limit && page.get(page.size() - 1).getId() != null) {
+                        response.header(HandlerConstants.NEXT_CURSOR_HEADER, page.get(page.size() - 1).getId());
+                    }
+                    return response.bodyValue(page);
+                });
+    }
+
+    private String resolveCursor(ServerRequest request) {
+        return request.queryParam(HandlerConstants.AFTER_QUERY_PARAM)
+                .map(after -> {
+                    try {
+                        return UUID.fromString(after).toString();
+                    } catch (IllegalArgumentException e) {
+                        throw new ValidationException(HandlerConstants.INVALID_CURSOR_MESSAGE);
                     }
-                    return ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .body(userUseCase.getAllUsers().map(userResponseMapper::toResponse), UserResponse.class)
-                            .doOnSuccess(response -> log.info(LogMessages.GET_RESPONSE_SUCCESS));
                 })
-                .switchIfEmpty(ServerResponse.status(HttpStatus.FORBIDDEN)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(String.format(HandlerConstants.ERROR_JSON_TEMPLATE, HandlerConstants.INSUFFICIENT_PERMISSIONS_VIEW_USERS)))
-                .doOnError(error -> log.error(LogMessages.GET_REQUEST_ERROR, error.getMessage()));
+                .orElse(null);
+    }
+
+    private int resolveLimit(ServerRequest request) {
+        int maxSize = paginationProperties.getMaxSize();
+        return request.queryParam(HandlerConstants.LIMIT_QUERY_PARAM)
+                .map(limit -> {
+                    try {
+                        int requested = Integer.parseInt(limit);
+                        if (requested < 1) {
+                            throw new ValidationException(HandlerConstants.INVALID_LIMIT_MESSAGE);
+                        }
+                        return Math.min(requested, maxSize);
+                    } catch (NumberFormatException e) {
+                        throw new ValidationException(HandlerConstants.INVALID_LIMIT_MESSAGE);
+                    }
+                })
+                .orElse(Math.min(paginationProperties.getDefaultSize(), maxSize));
     }
 
     private Mono<UserCreateRequest> validateRequest(UserCreateRequest request) {
@@ -122,27 +230,200 @@ public class Handler {
         log.info(HandlerConstants.LOGIN_REQUEST_RECEIVED_LOG, 
                 request.remoteAddress().map(addr -> addr.getAddress().getHostAddress()).orElse(HandlerConstants.UNKNOWN_ADDRESS));
         
+        // Budgets are spent before the user lookup and BCrypt, so throttled attempts cost no I/O
+        long clientWait = loginThrottle.acquireForClient(request.exchange());
+        if (clientWait > 0) {
+            log.debug(HandlerConstants.LOGIN_THROTTLED_BY_IP_LOG);
+            return loginThrottle.reject(clientWait);
+        }
+        
         return request.bodyToMono(LoginRequest.class)
                 .flatMap(this::validateLoginRequest)
                 .flatMap(loginRequest -> {
-                    LoginCredentials credentials = new LoginCredentials(
-                            Email.of(loginRequest.getEmail()),
-                            loginRequest.getPassword()
-                    );
-                    return loginUseCase.authenticate(credentials);
+                    Email email = Email.of(loginRequest.getEmail());
+                    long emailWait = loginThrottle.acquireForEmail(email.getValue());
+                    if (emailWait > 0) {
+                        log.debug(HandlerConstants.LOGIN_THROTTLED_BY_EMAIL_LOG);
+                        return loginThrottle.reject(emailWait);
+                    }
+                    return loginUseCase.authenticate(new LoginCredentials(email, loginRequest.getPassword()))
+                            .flatMap(this::toTokenResponse);
                 })
-                .flatMap(authResult -> 
-                    ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(LoginResponse.builder()
-                                    .token(authResult.getToken())
-                                    .tokenType(HandlerConstants.BEARER_TOKEN_TYPE)
-                                    .expiresIn(HandlerConstants.DEFAULT_TOKEN_EXPIRATION_SECONDS)
-                                    .build())
-                )
                 .doOnSuccess(response -> log.info(HandlerConstants.USER_AUTHENTICATED_SUCCESS))
                 .doOnError(error -> log.error(HandlerConstants.AUTHENTICATION_FAILED_LOG, error.getMessage()));
     }
+
+    public Mono<ServerResponse> listenRefreshToken(ServerRequest request) {
+        // No password check here: the refresh token itself is the credential
+        return request.bodyToMono(RefreshTokenRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ValidationException(
+                        HandlerConstants.VALIDATION_FAILED_PREFIX + ErrorMessages.REFRESH_TOKEN_REQUIRED)))
+                .flatMap(this::validateRefreshTokenRequest)
+                .flatMap(refreshRequest -> refreshTokenUseCase.refresh(refreshRequest.getRefreshToken()))
+                .flatMap(this::toTokenResponse)
+                .doOnError(error -> log.error(HandlerConstants.TOKEN_REFRESH_FAILED_LOG, error.getMessage()));
+    }
+
+    private Mono<ServerResponse> toTokenResponse(AuthenticationResult authResult) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(LoginResponse.builder()
+                        .token(authResult.getToken())
+                        .tokenType(HandlerConstants.BEARER_TOKEN_TYPE)
+                        .expiresIn(authResult.getExpiresIn().toSeconds())
+                        .refreshToken(authResult.getRefreshToken())
+                        .refreshExpiresIn(authResult.getRefreshTokenExpiresIn().toSeconds())
+                        .build());
+    }
+
+    private Mono<RefreshTokenRequest> validateRefreshTokenRequest(RefreshTokenRequest request) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, HandlerConstants.REFRESH_TOKEN_REQUEST_BINDING_NAME);
+        validator.validate(request, bindingResult);
+        
+        if (bindingResult.hasErrors()) {
+            StringBuilder errorMessage = new StringBuilder(HandlerConstants.VALIDATION_FAILED_PREFIX);
+            bindingResult.getAllErrors().forEach(error -> 
+                errorMessage.append(error.getDefaultMessage()).append(HandlerConstants.VALIDATION_ERROR_SEPARATOR));
+            return Mono.error(new ValidationException(errorMessage.toString()));
+        }
+        
+        return Mono.just(request);
+    }
+    
+    public Mono<ServerResponse> listenJwks(ServerRequest request) {
+        JsonWebKeySet jwks = jwtTokenManager.getJsonWebKeySet();
+        CacheControl cacheControl = CacheControl.maxAge(signingProperties.getJwksMaxAge()).cachePublic();
+        if (matchesETag(request.headers().header(HttpHeaders.IF_NONE_MATCH), jwks.getETag())) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(jwks.getETag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        // Wraps the shared array instead of serializing per request
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(jwks.getETag())
+                .cacheControl(cacheControl)
+                .body(BodyInserters.fromDataBuffers(Mono.fromSupplier(
+                        () -> DefaultDataBufferFactory.sharedInstance.wrap(jwks.getBody()))));
+    }
+
+    private boolean matchesETag(List<String> ifNoneMatch, String eTag) {
+        // If-None-Match uses weak comparison, so a W/ prefix added by a proxy still matches
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(HandlerConstants.ETAG_LIST_SEPARATOR)) {
+                String value = candidate.trim();
+                if (value.startsWith(HandlerConstants.WEAK_ETAG_PREFIX)) {
+                    value = value.substring(HandlerConstants.WEAK_ETAG_PREFIX.length());
+                }
+                if (value.equals(HandlerConstants.ANY_ETAG) || value.equals(eTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public Mono<ServerResponse> listenAuthorizeBatch(ServerRequest request) {
+        // The token in the body is the credential, verified once for every check
+        return request.bodyToMono(AuthorizationBatchRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ValidationException(
+                        HandlerConstants.VALIDATION_FAILED_PREFIX + ErrorMessages.AUTHORIZATION_TOKEN_REQUIRED)))
+                .flatMap(this::validateAuthorizationBatchRequest)
+                .flatMap(batch -> {
+                    List<PermissionCheck> checks = toPermissionChecks(batch.getChecks());
+                    Optional<VerifiedToken> verifiedToken = batchAuthorizationService.verify(batch.getToken());
+                    if (verifiedToken.isEmpty()) {
+                        return INVALID_TOKEN.toServerResponse();
+                    }
+                    List<AuthorizationResult> results = batchAuthorizationService.authorizeAll(verifiedToken.get(), checks);
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(toAuthorizationBatchResponse(verifiedToken.get(), batch.getChecks(), results));
+                })
+                .doOnError(error -> log.error(HandlerConstants.AUTHORIZATION_BATCH_FAILED_LOG, error.getMessage()));
+    }
+
+    private Mono<AuthorizationBatchRequest> validateAuthorizationBatchRequest(AuthorizationBatchRequest request) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, HandlerConstants.AUTHORIZATION_BATCH_REQUEST_BINDING_NAME);
+        validator.validate(request, bindingResult);
+        
+        if (bindingResult.hasErrors()) {
+            StringBuilder errorMessage = new StringBuilder(HandlerConstants.VALIDATION_FAILED_PREFIX);
+            bindingResult.getAllErrors().forEach(error -> 
+                errorMessage.append(error.getDefaultMessage()).append(HandlerConstants.VALIDATION_ERROR_SEPARATOR));
+            return Mono.error(new ValidationException(errorMessage.toString()));
+        }
+        if (request.getChecks().size() > authorizationProperties.getMaxBatchSize()) {
+            return Mono.error(new ValidationException(HandlerConstants.VALIDATION_FAILED_PREFIX
+                    + String.format(ErrorMessages.TOO_MANY_PERMISSION_CHECKS, authorizationProperties.getMaxBatchSize())));
+        }
+        
+        return Mono.just(request);
+    }
+
+    private List<PermissionCheck> toPermissionChecks(List<AuthorizationCheckRequest> checkRequests) {
+        List<PermissionCheck> checks = new ArrayList<>(checkRequests.size());
+        for (AuthorizationCheckRequest checkRequest : checkRequests) {
+            try {
+                checks.add(PermissionCheck.of(Permission.fromCanonicalCode(checkRequest.getPermission()),
+                        checkRequest.getTargetResourceId()));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException(HandlerConstants.VALIDATION_FAILED_PREFIX + e.getMessage());
+            }
+        }
+        return checks;
+    }
+
+    private AuthorizationBatchResponse toAuthorizationBatchResponse(VerifiedToken verifiedToken,
+                                                                    List<AuthorizationCheckRequest> checkRequests,
+                                                                    List<AuthorizationResult> results) {
+        List<AuthorizationDecisionResponse> decisions = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            AuthorizationResult result = results.get(i);
+            decisions.add(AuthorizationDecisionResponse.builder()
+                    .permission(checkRequests.get(i).getPermission())
+                    .targetResourceId(checkRequests.get(i).getTargetResourceId())
+                    .authorized(result.isAuthorized())
+                    .reason(result.getReason())
+                    .build());
+        }
+        return AuthorizationBatchResponse.builder()
+                .subject(verifiedToken.getSubject())
+                .role(verifiedToken.getRoleName())
+                .decisions(decisions)
+                .build();
+    }
+
+    public Mono<ServerResponse> listenLogout(ServerRequest request) {
+        return tokenRevocationService.logout(request.exchange())
+                .then(ServerResponse.noContent().build())
+                .doOnError(error -> log.error(HandlerConstants.LOGOUT_FAILED_LOG, error.getMessage()));
+    }
+
+    public Mono<ServerResponse> listenRevokeToken(ServerRequest request) {
+        return request.bodyToMono(TokenRevocationRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ValidationException(
+                        HandlerConstants.VALIDATION_FAILED_PREFIX + ErrorMessages.TOKEN_ID_REQUIRED)))
+                .flatMap(this::validateRevocationRequest)
+                .flatMap(revocation -> tokenRevocationService.revoke(revocation.getTokenId(), revocation.getExpiresAt()))
+                .then(ServerResponse.noContent().build())
+                .doOnError(error -> log.error(HandlerConstants.TOKEN_REVOCATION_FAILED_LOG, error.getMessage()));
+    }
+
+    private Mono<TokenRevocationRequest> validateRevocationRequest(TokenRevocationRequest request) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, HandlerConstants.TOKEN_REVOCATION_REQUEST_BINDING_NAME);
+        validator.validate(request, bindingResult);
+        
+        if (bindingResult.hasErrors()) {
+            StringBuilder errorMessage = new StringBuilder(HandlerConstants.VALIDATION_FAILED_PREFIX);
+            bindingResult.getAllErrors().forEach(error -> 
+                errorMessage.append(error.getDefaultMessage()).append(HandlerConstants.VALIDATION_ERROR_SEPARATOR));
+            return Mono.error(new ValidationException(errorMessage.toString()));
+        }
+        
+        return Mono.just(request);
+    }
     
     private Mono<LoginRequest> validateLoginRequest(LoginRequest request) {
         BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, HandlerConstants.LOGIN_REQUEST_BINDING_NAME);
@@ -1,11 +1,19 @@
 package crediya.authentication.api;
 
+import crediya.authentication.api.config.TokenPath;
 import crediya.authentication.api.config.UserPath;
+import crediya.authentication.api.dto.AuthorizationBatchRequest;
+import crediya.authentication.api.dto.AuthorizationBatchResponse;
 import crediya.authentication.api.dto.UserCreateRequest;
+import crediya.authentication.api.dto.UserImportResponse;
 import crediya.authentication.api.dto.UserResponse;
 import crediya.authentication.api.dto.LoginRequest;
 import crediya.authentication.api.dto.LoginResponse;
+import crediya.authentication.api.dto.RefreshTokenRequest;
+import crediya.authentication.api.dto.TokenRevocationRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -28,6 +36,7 @@ import static org.springframework.web.reactive.function.server.RouterFunctions.r
 public class RouterRest {
 
     private final UserPath userPath;
+    private final TokenPath tokenPath;
     private final Handler userHandler;
 
     @Bean
@@ -57,13 +66,42 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/users:batch",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "importUsers",
+                            summary = "Create users in bulk",
+                            description = "Accepts a JSON array or an NDJSON stream of users and streams back one "
+                                    + "result per item, in request order. Items are validated individually, so an "
+                                    + "invalid or duplicate item does not fail the rest of the batch",
+                            requestBody = @RequestBody(
+                                    description = "Users to create",
+                                    required = true,
+                                    content = {
+                                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = UserCreateRequest[].class)),
+                                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                    schema = @Schema(implementation = UserCreateRequest.class))
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Per-item results",
+                                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                    schema = @Schema(implementation = UserImportResponse.class))),
+                                    @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/login",
                     method = RequestMethod.POST,
                     operation = @Operation(
                             operationId = "login",
                             summary = "User authentication",
-                            description = "Authenticates a user with email and password, returns JWT token",
+                            description = "Authenticates a user with email and password, returns a short-lived JWT "
+                                    + "and a refresh token",
                             requestBody = @RequestBody(
                                     description = "Login credentials",
                                     required = true,
@@ -82,17 +120,138 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/token/refresh",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "refreshToken",
+                            summary = "Refresh an access token",
+                            description = "Exchanges a refresh token for a new access token and a new refresh token. "
+                                    + "Each refresh token can be used once; reusing one revokes its whole chain",
+                            requestBody = @RequestBody(
+                                    description = "Refresh token returned by login or a previous refresh",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = RefreshTokenRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Tokens issued",
+                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = LoginResponse.class))),
+                                    @ApiResponse(responseCode = "400", description = "Missing refresh token"),
+                                    @ApiResponse(responseCode = "409", description = "Invalid, expired or reused refresh token"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/logout",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "logout",
+                            summary = "Log out",
+                            description = "Revokes the bearer token used for this request until it expires",
+                            responses = {
+                                    @ApiResponse(responseCode = "204", description = "Token revoked"),
+                                    @ApiResponse(responseCode = "401", description = "Missing, invalid or revoked token"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/tokens:revoke",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "revokeToken",
+                            summary = "Revoke a token",
+                            description = "Revokes any token by its id (jti claim). Requires the REVOKE_TOKENS permission",
+                            requestBody = @RequestBody(
+                                    description = "Token id and, when known, its expiry",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = TokenRevocationRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "204", description = "Token revoked"),
+                                    @ApiResponse(responseCode = "400", description = "Missing token id"),
+                                    @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/authorize:batch",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "authorizeBatch",
+                            summary = "Decide many permissions for one token",
+                            description = "Verifies the given access token once and decides every (permission, "
+                                    + "targetResourceId) check from its claims. Decisions are returned in request order",
+                            requestBody = @RequestBody(
+                                    description = "The end user's token and the checks to decide",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = AuthorizationBatchRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "One decision per check",
+                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = AuthorizationBatchResponse.class))),
+                                    @ApiResponse(responseCode = "400", description = "Missing token, no checks, unknown permission or too many checks"),
+                                    @ApiResponse(responseCode = "401", description = "Invalid, expired or revoked token"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/.well-known/jwks.json",
+                    method = RequestMethod.GET,
+                    operation = @Operation(
+                            operationId = "getJwks",
+                            summary = "Get token verification keys",
+                            description = "Publishes the public keys that verify issued tokens, matched by their kid "
+                                    + "header. Empty while tokens are signed with the shared HMAC secret",
+                            parameters = {
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag of a previously fetched key set")
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Current key set",
+                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                                    @ApiResponse(responseCode = "304", description = "Key set unchanged")
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/users",
                     method = RequestMethod.GET,
                     operation = @Operation(
                             operationId = "getAllUsers",
-                            summary = "Get all users",
-                            description = "Retrieves a list of all registered users",
+                            summary = "Get users",
+                            description = "Retrieves a page of users ordered by id. The X-Next-Cursor header carries the "
+                                    + "'after' value for the next page. With Accept: application/x-ndjson every user "
+                                    + "after the cursor is streamed instead",
+                            parameters = {
+                                    @Parameter(name = "limit", in = ParameterIn.QUERY,
+                                            description = "Page size, capped at the configured maximum"),
+                                    @Parameter(name = "after", in = ParameterIn.QUERY,
+                                            description = "Id of the last user of the previous page")
+                            },
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
-                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                                    schema = @Schema(implementation = UserResponse[].class))),
+                                            content = {
+                                                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            schema = @Schema(implementation = UserResponse[].class)),
+                                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = UserResponse.class))
+                                            }),
+                                    @ApiResponse(responseCode = "400", description = "Invalid limit or cursor"),
                                     @ApiResponse(responseCode = "500", description = "Internal server error")
                             }
                     )
@@ -101,6 +260,12 @@ public class RouterRest {
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
         return route(POST("/api/v1/login"), userHandler::listenLogin)
                 .andRoute(POST(userPath.getUsers()), userHandler::listenSaveUser)
-                .andRoute(GET(userPath.getUsers()), userHandler::listenGetAllUsers);
+                .andRoute(POST(userPath.getUsersBatch()), userHandler::listenBatchSaveUsers)
+                .andRoute(GET(userPath.getUsers()), userHandler::listenGetAllUsers)
+                .andRoute(POST(tokenPath.getTokenRefresh()), userHandler::listenRefreshToken)
+                .andRoute(POST(tokenPath.getLogout()), userHandler::listenLogout)
+                .andRoute(POST(tokenPath.getTokensRevoke()), userHandler::listenRevokeToken)
+                .andRoute(GET(tokenPath.getJwks()), userHandler::listenJwks)
+                .andRoute(POST(tokenPath.getAuthorizeBatch()), userHandler::listenAuthorizeBatch);
     }
 }
@@ -1,18 +1,29 @@
 package crediya.authentication.api.config;
 
 import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.RefreshTokenRepository;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
 import crediya.authentication.model.role.gateways.RoleRepository;
 import crediya.authentication.usecase.auth.LoginUseCase;
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
+import crediya.authentication.usecase.auth.TokenRevocationUseCase;
 import crediya.authentication.usecase.user.UserUseCase;
 import crediya.authentication.model.auth.gateways.JwtTokenManager;
 import crediya.authentication.model.user.gateways.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
-@EnableConfigurationProperties({SecurityProperties.class, UserPath.class})
+@EnableConfigurationProperties({SecurityProperties.class, UserPath.class, PasswordHashingProperties.class,
+        PaginationProperties.class, BatchImportProperties.class, TokenPath.class, LoginThrottleProperties.class,
+        SigningProperties.class, AuthorizationProperties.class, ClientAddressProperties.class})
 public class AuthenticationConfig {
     
     @Bean
@@ -34,20 +45,41 @@ public class AuthenticationConfig {
             }
         };
     }
+
+    @Bean
+    public ReactivePasswordEncoder reactivePasswordEncoder(PasswordEncoder passwordEncoder,
+                                                           PasswordHashingProperties passwordHashingProperties,
+                                                           MeterRegistry meterRegistry) {
+        return new BoundedReactivePasswordEncoder(passwordEncoder, passwordHashingProperties, meterRegistry);
+    }
     
     // AuthorizationService bean is now provided by @Service annotation in crediya.authentication.api.config.AuthorizationService
     
     @Bean
     public LoginUseCase loginUseCase(UserRepository userRepository, 
-                                   PasswordEncoder passwordEncoder, 
-                                   JwtTokenManager jwtTokenManager) {
-        return new LoginUseCase(userRepository, passwordEncoder, jwtTokenManager);
+                                   ReactivePasswordEncoder passwordEncoder, 
+                                   RefreshTokenUseCase refreshTokenUseCase) {
+        return new LoginUseCase(userRepository, passwordEncoder, refreshTokenUseCase);
+    }
+    
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(RefreshTokenRepository refreshTokenRepository,
+                                                   UserRepository userRepository,
+                                                   JwtTokenManager jwtTokenManager,
+                                                   @Value("${jwt.refresh-expiration:7d}") Duration refreshExpiration) {
+        return new RefreshTokenUseCase(refreshTokenRepository, userRepository, jwtTokenManager, refreshExpiration);
     }
     
     @Bean
     public UserUseCase userUseCase(UserRepository userRepository, 
                                  RoleRepository roleRepository, 
-                                 PasswordEncoder passwordEncoder) {
+                                 ReactivePasswordEncoder passwordEncoder) {
         return new UserUseCase(userRepository, roleRepository, passwordEncoder);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public TokenRevocationUseCase tokenRevocationUseCase(RevokedTokenRepository revokedTokenRepository,
+                                                         JwtTokenManager jwtTokenManager) {
+        return new TokenRevocationUseCase(revokedTokenRepository, jwtTokenManager.getTokenLifetime());
+    }
+}
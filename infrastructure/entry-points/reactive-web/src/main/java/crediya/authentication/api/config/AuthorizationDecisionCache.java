@@ -0,0 +1,94 @@
+package crediya.authentication.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
+import crediya.authentication.model.role.RoleType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of authorization decisions keyed by (subject, role, permission, target).
+ * Misses of a batch are decided together in one call. Disabled unless
+ * {@code security.authorization.decision-cache.enabled} is set.
+ */
+@Component
+public class AuthorizationDecisionCache {
+
+    private static final String CACHE_NAME = "auth.authorization.decisions";
+
+    private final Cache<DecisionKey, AuthorizationResult> cache;
+
+    public AuthorizationDecisionCache(AuthorizationProperties authorizationProperties, MeterRegistry meterRegistry) {
+        AuthorizationProperties.DecisionCache properties = authorizationProperties.getDecisionCache();
+        if (!properties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Results in the order of {@code checks}; {@code decider} receives only the checks not
+     * cached and must answer them in the order given.
+     */
+    public List<AuthorizationResult> getAll(String subject, RoleType roleType, List<PermissionCheck> checks,
+                                            Function<List<PermissionCheck>, List<AuthorizationResult>> decider) {
+        if (cache == null) {
+            return decider.apply(checks);
+        }
+        List<DecisionKey> keys = new ArrayList<>(checks.size());
+        for (PermissionCheck check : checks) {
+            keys.add(new DecisionKey(subject, roleType, check.getPermission(), check.getTargetResourceId()));
+        }
+        Map<DecisionKey, AuthorizationResult> decided = cache.getAll(keys, missing -> decide(missing, decider));
+        List<AuthorizationResult> results = new ArrayList<>(keys.size());
+        for (DecisionKey key : keys) {
+            results.add(decided.get(key));
+        }
+        return results;
+    }
+
+    /**
+     * Drops every decision, e.g. after role permissions change.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static Map<DecisionKey, AuthorizationResult> decide(
+            Set<? extends DecisionKey> missing,
+            Function<List<PermissionCheck>, List<AuthorizationResult>> decider) {
+        List<DecisionKey> keys = List.copyOf(missing);
+        List<PermissionCheck> checks = new ArrayList<>(keys.size());
+        for (DecisionKey key : keys) {
+            checks.add(PermissionCheck.of(key.permission(), key.targetResourceId()));
+        }
+        List<AuthorizationResult> results = decider.apply(checks);
+        Map<DecisionKey, AuthorizationResult> decided = new HashMap<>(keys.size() * 2);
+        for (int i = 0; i < keys.size(); i++) {
+            decided.put(keys.get(i), results.get(i));
+        }
+        return decided;
+    }
+
+    private record DecisionKey(String subject, RoleType roleType, Permission permission, String targetResourceId) {
+    }
+}
@@ -0,0 +1,24 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.authorization")
+public class AuthorizationProperties {
+    // Upper bound on checks per POST /authorize:batch request
+    private int maxBatchSize = 100;
+    private DecisionCache decisionCache = new DecisionCache();
+
+    @Getter
+    @Setter
+    public static class DecisionCache {
+        private boolean enabled = false;
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
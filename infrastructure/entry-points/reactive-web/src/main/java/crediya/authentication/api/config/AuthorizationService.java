@@ -3,13 +3,13 @@ package crediya.authentication.api.config;
 import crediya.authentication.model.auth.AuthorizationContext;
 import crediya.authentication.model.auth.AuthorizationResult;
 import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
 import crediya.authentication.model.role.RoleType;
 import crediya.authentication.usecase.auth.AuthorizationUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
 
 /**
  * Infrastructure layer authorization service that bridges web layer with domain authorization
@@ -25,35 +25,51 @@ public class AuthorizationService {
     
     
     /**
-     * Main authorization method - checks permission for current user
+     * Main authorization method - checks permission for current user. The role comes from the
+     * verified token, so this is a synchronous, in-memory decision.
      */
-    public Mono<AuthorizationResult> authorize(ServerWebExchange exchange, Permission permission) {
+    public AuthorizationResult authorize(ServerWebExchange exchange, Permission permission) {
         return authorize(exchange, permission, null);
     }
     
     /**
      * Authorization with target resource - for resource-level permissions  
      */
-    public Mono<AuthorizationResult> authorize(ServerWebExchange exchange, Permission permission, String targetResourceId) {
-        log.debug("Starting authorization check for permission: {} with targetResourceId: {}", permission, targetResourceId);
-        
+    public AuthorizationResult authorize(ServerWebExchange exchange, Permission permission, String targetResourceId) {
         AuthorizationContext context = securityContextExtractor.extractAuthorizationContext(exchange, targetResourceId);
         
         if (context == null) {
             log.warn("Failed to extract authorization context from exchange for permission: {}", permission);
-            return Mono.just(AuthorizationResult.denied(permission, "Invalid security context"));
+            return AuthorizationResult.invalidContext(permission);
         }
         
-        log.debug("Authorization context extracted, delegating to use case for permission: {}", permission);
-        return authorizationUseCase.authorize(context, permission)
-                .doOnNext(result -> log.debug("Authorization result for permission {}: {}", permission, result.isAuthorized()));
+        AuthorizationResult result = authorizationUseCase.decide(context, permission);
+        log.debug("Authorization result for permission {}: {}", permission, result.isAuthorized());
+        return result;
+    }
+    
+    /**
+     * Authorization straight from verified claims, for callers that run before the exchange
+     * carries them (the route authorization filter)
+     */
+    public AuthorizationResult authorize(VerifiedToken verifiedToken, Permission permission) {
+        RoleType roleType;
+        try {
+            roleType = RoleType.fromCanonicalName(verifiedToken.getRoleName());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid role name: {}", verifiedToken.getRoleName());
+            return AuthorizationResult.invalidContext(permission);
+        }
+        if (verifiedToken.getSubject() == null || roleType == null) {
+            return AuthorizationResult.invalidContext(permission);
+        }
+        return authorizationUseCase.decide(AuthorizationContext.of(verifiedToken.getSubject(), roleType), permission);
     }
     
     /**
      * Quick boolean check for permissions
      */
-    public Mono<Boolean> hasPermission(ServerWebExchange exchange, Permission permission) {
-        return authorize(exchange, permission)
-                .map(AuthorizationResult::isAuthorized);
+    public boolean hasPermission(ServerWebExchange exchange, Permission permission) {
+        return authorize(exchange, permission).isAuthorized();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.PermissionCheck;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.auth.gateways.JwtTokenManager;
+import crediya.authentication.model.role.RoleType;
+import crediya.authentication.usecase.auth.AuthorizationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers many permission checks for one token: the token is verified (and checked against
+ * the revocation list) once, then every check is decided from its claims in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchAuthorizationService {
+
+    private final JwtTokenManager jwtTokenManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthorizationUseCase authorizationUseCase;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+
+    /**
+     * Empty for an invalid, expired or revoked token.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        return verifiedTokenCache.getOrVerify(token, jwtTokenManager::verify)
+                .filter(verifiedToken -> !tokenRevocationList.isRevoked(verifiedToken.getTokenId()));
+    }
+
+    /**
+     * One result per check, in request order.
+     */
+    public List<AuthorizationResult> authorizeAll(VerifiedToken verifiedToken, List<PermissionCheck> checks) {
+        RoleType roleType;
+        try {
+            roleType = RoleType.fromCanonicalName(verifiedToken.getRoleName());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid role name: {}", verifiedToken.getRoleName());
+            roleType = null;
+        }
+        if (verifiedToken.getSubject() == null || roleType == null) {
+            List<AuthorizationResult> invalid = new ArrayList<>(checks.size());
+            checks.forEach(check -> invalid.add(AuthorizationResult.invalidContext(check.getPermission())));
+            return invalid;
+        }
+        RoleType role = roleType;
+        return authorizationDecisionCache.getAll(verifiedToken.getSubject(), role, checks,
+                misses -> authorizationUseCase.decideAll(verifiedToken.getSubject(), role, misses));
+    }
+}
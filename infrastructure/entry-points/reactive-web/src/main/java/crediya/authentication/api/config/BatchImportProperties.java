@@ -0,0 +1,22 @@
+package crediya.authentication.api.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "routes.batch-import")
+public class BatchImportProperties {
+    // Users written per multi-row INSERT; each binds 10 parameters and PostgreSQL allows 65535 per statement
+    @Min(1)
+    @Max(6553)
+    private int chunkSize = 500;
+    // Items hashed at once; keep at or below the hashing pool size so single sign-ups still get queue slots
+    @Min(1)
+    private int hashConcurrency = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,103 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.model.auth.gateways.ReactivePasswordEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the blocking {@link PasswordEncoder} on a dedicated, bounded pool so BCrypt never
+ * executes on reactor-netty event-loop threads. When the pool and its queue are full the
+ * returned Mono fails fast with {@link RejectedExecutionException}.
+ */
+@Slf4j
+public class BoundedReactivePasswordEncoder implements ReactivePasswordEncoder, DisposableBean {
+
+    private static final String SCHEDULER_NAME = "password-hashing";
+    private static final String HASH_LATENCY_METRIC = "auth.password.hash.latency";
+    private static final String QUEUE_WAIT_METRIC = "auth.password.hash.queue.wait";
+    private static final String QUEUE_DEPTH_METRIC = "auth.password.hash.queue.depth";
+    private static final String REJECTED_METRIC = "auth.password.hash.rejected";
+    private static final String OPERATION_TAG = "operation";
+    private static final String ENCODE_OPERATION = "encode";
+    private static final String MATCHES_OPERATION = "matches";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final Timer encodeLatency;
+    private final Timer matchesLatency;
+    private final Timer encodeQueueWait;
+    private final Timer matchesQueueWait;
+    private final Counter rejected;
+
+    public BoundedReactivePasswordEncoder(PasswordEncoder delegate,
+                                          PasswordHashingProperties properties,
+                                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name(SCHEDULER_NAME + "-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.scheduler = Schedulers.fromExecutorService(executor, SCHEDULER_NAME);
+
+        this.encodeLatency = timer(HASH_LATENCY_METRIC, ENCODE_OPERATION, meterRegistry);
+        this.matchesLatency = timer(HASH_LATENCY_METRIC, MATCHES_OPERATION, meterRegistry);
+        this.encodeQueueWait = timer(QUEUE_WAIT_METRIC, ENCODE_OPERATION, meterRegistry);
+        this.matchesQueueWait = timer(QUEUE_WAIT_METRIC, MATCHES_OPERATION, meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH_METRIC, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<String> encode(String rawPassword) {
+        return offload(() -> delegate.encode(rawPassword), encodeQueueWait, encodeLatency);
+    }
+
+    @Override
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword), matchesQueueWait, matchesLatency);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private <T> Mono<T> offload(Callable<T> task, Timer queueWait, Timer latency) {
+        return Mono.defer(() -> {
+                    long enqueuedAt = System.nanoTime();
+                    return Mono.fromCallable(() -> {
+                        queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                        return latency.recordCallable(task);
+                    }).subscribeOn(scheduler);
+                })
+                .doOnError(RejectedExecutionException.class, error -> {
+                    rejected.increment();
+                    log.warn("Password hashing pool saturated, rejecting request: {}", error.getMessage());
+                });
+    }
+
+    private static Timer timer(String name, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .tag(OPERATION_TAG, operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.client-address")
+public class ClientAddressProperties {
+    // IPs or CIDR ranges of the proxies in front of the service; empty means X-Forwarded-For is ignored
+    private List<String> trustedProxies = new ArrayList<>();
+}
@@ -0,0 +1,51 @@
+package crediya.authentication.api.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * A serialized JWKS document and its strong ETag, both computed once per key set so the
+ * endpoint only copies bytes.
+ */
+public final class JsonWebKeySet {
+
+    public static final JsonWebKeySet EMPTY = of("{\"keys\":[]}");
+
+    private final byte[] body;
+    private final String eTag;
+
+    private JsonWebKeySet(byte[] body, String eTag) {
+        this.body = body;
+        this.eTag = eTag;
+    }
+
+    static JsonWebKeySet of(String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        return new JsonWebKeySet(body, "\"" + digest(body) + "\"");
+    }
+
+    /**
+     * The shared body; callers must not modify it.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Quoted strong validator derived from the body.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
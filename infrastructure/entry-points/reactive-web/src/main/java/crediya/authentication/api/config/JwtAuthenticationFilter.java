@@ -1,84 +1,92 @@
 package crediya.authentication.api.config;
 
+import crediya.authentication.model.auth.VerifiedToken;
 import crediya.authentication.model.auth.gateways.JwtTokenManager;
 import crediya.authentication.api.constants.JwtConstants;
-import org.springframework.core.io.buffer.DataBuffer;
+import crediya.authentication.api.exception.ErrorResponseWriter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
+/**
+ * Single access gate for every request: resolves the route in the compiled
+ * {@link RouteAuthorizationTable}, authenticates the bearer token, rejects revoked tokens and
+ * checks the route's permission, answering 401/403 before any handler decodes the body.
+ * API paths without a declared rule are refused, not just authenticated.
+ */
 @Component
 public class JwtAuthenticationFilter implements WebFilter {
     
+    private static final ErrorResponseWriter UNAUTHORIZED = ErrorResponseWriter.of(
+            HttpStatus.UNAUTHORIZED, JwtConstants.UNAUTHORIZED_ERROR, JwtConstants.ACCESS_DENIED_MESSAGE);
+    
     private final JwtTokenManager jwtTokenManager;
-    private final SecurityProperties securityProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RouteAuthorizationTable routeAuthorizationTable;
+    private final AuthorizationService authorizationService;
+    private final TokenRevocationList tokenRevocationList;
     
-    public JwtAuthenticationFilter(JwtTokenManager jwtTokenManager, SecurityProperties securityProperties) {
+    public JwtAuthenticationFilter(JwtTokenManager jwtTokenManager,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   RouteAuthorizationTable routeAuthorizationTable,
+                                   AuthorizationService authorizationService,
+                                   TokenRevocationList tokenRevocationList) {
         this.jwtTokenManager = jwtTokenManager;
-        this.securityProperties = securityProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.routeAuthorizationTable = routeAuthorizationTable;
+        this.authorizationService = authorizationService;
+        this.tokenRevocationList = tokenRevocationList;
     }
     
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        String path = exchange.getRequest().getPath().value();
+        ServerHttpRequest request = exchange.getRequest();
+        RouteAuthorizationTable.Route route = routeAuthorizationTable.match(
+                request.getMethod(), request.getPath().pathWithinApplication());
         
         // Skip authentication for public endpoints
-        if (isPublicPath(path)) {
+        if (route.isPublic()) {
+            route.recordPublic();
             return chain.filter(exchange);
         }
         
-        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         
         if (authHeader == null || !authHeader.startsWith(JwtConstants.BEARER_PREFIX)) {
+            route.recordUnauthenticated();
             return unauthorized(exchange);
         }
         
         String token = authHeader.substring(JwtConstants.BEARER_PREFIX.length());
         
-        if (!jwtTokenManager.validateToken(token)) {
+        // Parse and verify once (or reuse a cached verification); downstream code reads the claims from the exchange
+        Optional<VerifiedToken> verifiedToken = verifiedTokenCache.getOrVerify(token, jwtTokenManager::verify);
+        // Revocation is checked on every request, cached verification or not
+        if (verifiedToken.isEmpty() || tokenRevocationList.isRevoked(verifiedToken.get().getTokenId())) {
+            route.recordUnauthenticated();
             return unauthorized(exchange);
         }
         
-        // Add user context to exchange attributes
-        String userId = jwtTokenManager.getUserIdFromToken(token);
-        String roleName = jwtTokenManager.getRoleFromToken(token);
+        if (route.isDenied() || route.getPermission() != null
+                && !authorizationService.authorize(verifiedToken.get(), route.getPermission()).isAuthorized()) {
+            route.recordDenied();
+            return route.getForbidden().write(exchange.getResponse());
+        }
         
-        exchange.getAttributes().put(JwtConstants.USER_ID_ATTRIBUTE, userId);
-        exchange.getAttributes().put(JwtConstants.ROLE_ATTRIBUTE, roleName);
+        route.recordGranted();
+        exchange.getAttributes().put(JwtConstants.VERIFIED_TOKEN_ATTRIBUTE, verifiedToken.get());
         
         return chain.filter(exchange);
     }
     
-    private boolean isPublicPath(String path) {
-        for (String publicPath : securityProperties.getPublicPaths()) {
-            if (path.equals(publicPath)) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
     private Mono<Void> unauthorized(ServerWebExchange exchange) {
-        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-        exchange.getResponse().getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        
-        String errorResponse = String.format(
-            JwtConstants.UNAUTHORIZED_JSON_TEMPLATE,
-            JwtConstants.TIMESTAMP_FIELD, LocalDateTime.now(),
-            JwtConstants.STATUS_FIELD, JwtConstants.UNAUTHORIZED_STATUS_CODE,
-            JwtConstants.ERROR_FIELD, JwtConstants.UNAUTHORIZED_ERROR,
-            JwtConstants.MESSAGE_FIELD, JwtConstants.ACCESS_DENIED_MESSAGE
-        );
-        
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(errorResponse.getBytes());
-        return exchange.getResponse().writeWith(Mono.just(buffer));
+        return UNAUTHORIZED.write(exchange.getResponse());
     }
-}
\ No newline at end of file
+}
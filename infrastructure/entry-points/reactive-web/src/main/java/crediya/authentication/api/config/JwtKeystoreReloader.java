@@ -0,0 +1,115 @@
+package crediya.authentication.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Watches {@code jwt.signing.keystore} and hands a freshly loaded key set to
+ * {@link JwtTokenManagerImpl#reloadSigningKeys(SigningKeys)} whenever the file changes or a
+ * published key's certificate becomes valid, so a key can be added, activated or retired
+ * without a restart. Activation only follows the keystore while
+ * {@code jwt.signing.active-key-id} is unset; a configured id is read once at startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.signing.keystore")
+public class JwtKeystoreReloader implements InitializingBean, DisposableBean {
+
+    private final JwtTokenManagerImpl jwtTokenManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SigningProperties signingProperties;
+    private final Path keystoreFile;
+    private Disposable subscription;
+    // Only touched from the serialized reload pipeline
+    private FileTime loadedModified;
+
+    public JwtKeystoreReloader(
+            JwtTokenManagerImpl jwtTokenManager,
+            VerifiedTokenCache verifiedTokenCache,
+            SigningProperties signingProperties) {
+        this.jwtTokenManager = jwtTokenManager;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.signingProperties = signingProperties;
+        this.keystoreFile = Path.of(signingProperties.getKeystore());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(Duration.ZERO, signingProperties.getReloadInterval(), Schedulers.boundedElastic())
+                .concatMap(tick -> lastModified()
+                        .filter(this::isReloadDue)
+                        .flatMap(this::reload)
+                        .onErrorResume(e -> {
+                            log.warn("Keeping current signing keys, reload of {} failed: {}", keystoreFile, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private boolean isReloadDue(FileTime modified) {
+        if (loadedModified == null) {
+            // The first tick only records the timestamp of the keystore loaded at startup
+            loadedModified = modified;
+            return isActivationDue();
+        }
+        return !modified.equals(loadedModified) || isActivationDue();
+    }
+
+    private boolean isActivationDue() {
+        SigningKeys current = jwtTokenManager.getSigningKeys();
+        Instant nextActivation = current != null ? current.getNextActivation() : null;
+        return nextActivation != null && !Instant.now().isBefore(nextActivation);
+    }
+
+    private Mono<Void> reload(FileTime modified) {
+        return loadKeys()
+                .doOnNext(signingKeys -> {
+                    jwtTokenManager.reloadSigningKeys(signingKeys);
+                    // Claims verified under a retired key must not outlive it
+                    verifiedTokenCache.invalidateAll();
+                    loadedModified = modified;
+                })
+                .then();
+    }
+
+    private Mono<FileTime> lastModified() {
+        return Mono.fromCallable(() -> Files.getLastModifiedTime(keystoreFile))
+                .onErrorResume(IOException.class, e -> {
+                    log.warn("Could not stat signing keystore {}: {}", keystoreFile, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<SigningKeys> loadKeys() {
+        String password = signingProperties.getKeystorePassword();
+        return Mono.fromCallable(() -> SigningKeys.load(keystoreFile,
+                        password != null ? password.toCharArray() : new char[0],
+                        signingProperties.getActiveKeyId()))
+                .onErrorResume(IllegalStateException.class, e -> {
+                    // Keep the current keys and retry on the next tick; the file may be mid-rotation
+                    log.warn("Keeping current signing keys: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,90 @@
+package crediya.authentication.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Watches the file referenced by {@code jwt.secret-file} (e.g. a mounted Kubernetes secret)
+ * and hands new contents to {@link JwtTokenManagerImpl#reloadSecret(String)}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.secret-file")
+public class JwtSecretReloader implements InitializingBean, DisposableBean {
+
+    private final JwtTokenManagerImpl jwtTokenManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Path secretFile;
+    private final Duration reloadInterval;
+    private Disposable subscription;
+    // Only touched from the serialized reload pipeline
+    private String appliedSecret;
+
+    public JwtSecretReloader(
+            JwtTokenManagerImpl jwtTokenManager,
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${jwt.secret-file}") String secretFile,
+            @Value("${jwt.secret-reload-interval:30s}") Duration reloadInterval) {
+        this.jwtTokenManager = jwtTokenManager;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.secretFile = Path.of(secretFile);
+        this.reloadInterval = reloadInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(Duration.ZERO, reloadInterval, Schedulers.boundedElastic())
+                .concatMap(tick -> readSecret()
+                        .flatMap(this::apply)
+                        .onErrorResume(e -> {
+                            // A rejected secret (e.g. too short for HS256) keeps the current key and the loop alive
+                            log.warn("Keeping current JWT secret, reload from {} failed: {}", secretFile, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<Void> apply(String secret) {
+        if (secret.equals(appliedSecret)) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+            jwtTokenManager.reloadSecret(secret);
+            // Claims verified under the previous key must not outlive it
+            verifiedTokenCache.invalidateAll();
+            appliedSecret = secret;
+        });
+    }
+
+    private Mono<String> readSecret() {
+        try {
+            String secret = Files.readString(secretFile, StandardCharsets.UTF_8).trim();
+            return secret.isEmpty() ? Mono.empty() : Mono.just(secret);
+        } catch (IOException e) {
+            // Keep the current key; the file may be mid-rotation
+            log.warn("Could not read JWT secret file {}: {}", secretFile, e.getMessage());
+            return Mono.empty();
+        }
+    }
+}
@@ -1,73 +1,129 @@
 package crediya.authentication.api.config;
 
+import crediya.authentication.model.auth.VerifiedToken;
 import crediya.authentication.model.auth.gateways.JwtTokenManager;
 import crediya.authentication.api.constants.JwtConstants;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * Signs with the active key of {@code jwt.signing.keystore} (ES256 or EdDSA, with a
+ * {@code kid} header) when one is configured, otherwise with the HMAC {@code jwt.secret}.
+ * In keystore mode a token without {@code kid} is still accepted if the secret verifies it,
+ * so tokens issued before the switch keep working until they expire.
+ */
+@Slf4j
 @Component
 public class JwtTokenManagerImpl implements JwtTokenManager {
     
-    private final String jwtSecret;
-    private final Long jwtExpiration;
+    private final Duration tokenLifetime;
     private final String jwtIssuer;
     private final String jwtAudience;
     
+    // Keys and parser are immutable and thread-safe; swapped as a unit when the secret or keystore changes
+    private volatile SigningMaterial signingMaterial;
+
+    public JwtTokenManagerImpl(String jwtSecret, Long jwtExpiration, String jwtIssuer, String jwtAudience) {
+        this(jwtSecret, jwtExpiration, jwtIssuer, jwtAudience, null);
+    }
+
+    @Autowired
     public JwtTokenManagerImpl(
-            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.secret:}") String jwtSecret,
             @Value("${jwt.expiration}") Long jwtExpiration,
             @Value("${jwt.issuer:crediya-auth-service}") String jwtIssuer,
-            @Value("${jwt.audience:crediya-app}") String jwtAudience) {
-        this.jwtSecret = jwtSecret;
-        this.jwtExpiration = jwtExpiration;
+            @Value("${jwt.audience:crediya-app}") String jwtAudience,
+            SigningProperties signingProperties) {
+        this.tokenLifetime = Duration.ofMillis(jwtExpiration);
         this.jwtIssuer = jwtIssuer;
         this.jwtAudience = jwtAudience;
+        this.signingMaterial = buildSigningMaterial(jwtSecret, loadSigningKeys(signingProperties), 0);
     }
 
     @Override
     public String generateToken(String userId, String roleName) {
+        return generateToken(userId, roleName, null);
+    }
+
+    @Override
+    public String generateToken(String userId, String roleName, String sessionId) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + jwtExpiration);
+        Date validity = new Date(now.getTime() + tokenLifetime.toMillis());
+        SigningMaterial material = signingMaterial;
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userId)
                 .claim(JwtConstants.ROLE_CLAIM, roleName)
                 .issuer(jwtIssuer)
                 .audience().add(jwtAudience).and()  // Fixed: added .and() to return to JwtBuilder
                 .issuedAt(now)
                 .expiration(validity)
-                .id(java.util.UUID.randomUUID().toString())
-                .signWith(getSigningKey())
-                .compact();
+                .id(java.util.UUID.randomUUID().toString());
+        if (sessionId != null) {
+            builder.claim(JwtConstants.SESSION_CLAIM, sessionId);
+        }
+        SigningKeys signingKeys = material.signingKeys();
+        if (signingKeys != null) {
+            return builder.header().keyId(signingKeys.getActiveKeyId()).and()
+                    .signWith(signingKeys.getSigningKey(), signingKeys.getAlgorithm())
+                    .compact();
+        }
+        return builder.signWith(material.hmacKey()).compact();
     }
     
+    @Override
+    public Duration getTokenLifetime() {
+        return tokenLifetime;
+    }
+
     @Override
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+    
+    @Override
+    public Optional<VerifiedToken> verify(String token) {
         try {
             if (token == null || token.trim().isEmpty()) {
-                return false;
+                return Optional.empty();
             }
             
             // This will throw JwtException if signature is invalid
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            // Expiry, issuer and audience are enforced by the prebuilt parser as well
+            Claims claims = getClaimsFromToken(token);
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                // The parser only checks exp when it is present; a token without one would never expire
+                return Optional.empty();
+            }
             
-            return !claims.getExpiration().before(new Date()) &&
-                   jwtIssuer.equals(claims.getIssuer()) &&
-                   claims.getAudience().contains(jwtAudience);
+            return Optional.of(VerifiedToken.builder()
+                    .subject(claims.getSubject())
+                    .roleName(claims.get(JwtConstants.ROLE_CLAIM, String.class))
+                    .tokenId(claims.getId())
+                    .expiresAt(expiration.toInstant())
+                    .sessionId(claims.get(JwtConstants.SESSION_CLAIM, String.class))
+                    .build());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
     
@@ -82,16 +138,96 @@ public class JwtTokenManagerImpl implements JwtTokenManager {
         return claims.get(JwtConstants.ROLE_CLAIM, String.class);
     }
 
+    /**
+     * Public keys for downstream verification; empty while signing with the HMAC secret.
+     */
+    public JsonWebKeySet getJsonWebKeySet() {
+        SigningKeys signingKeys = signingMaterial.signingKeys();
+        return signingKeys != null ? signingKeys.getJsonWebKeySet() : JsonWebKeySet.EMPTY;
+    }
+
+    SigningKeys getSigningKeys() {
+        return signingMaterial.signingKeys();
+    }
+
+    /**
+     * Increases with every reload of the secret or the keys. A verification result is only
+     * current while the generation read before verifying is still the current one.
+     */
+    public long getSigningGeneration() {
+        return signingMaterial.generation();
+    }
+
+    /**
+     * Replaces the signing key and parser when the secret changes. Tokens signed with the
+     * previous secret stop validating as soon as this returns.
+     */
+    public synchronized void reloadSecret(String jwtSecret) {
+        SigningMaterial current = signingMaterial;
+        if (jwtSecret == null || jwtSecret.equals(current.secret())) {
+            return;
+        }
+        signingMaterial = buildSigningMaterial(jwtSecret, current.signingKeys(), current.generation() + 1);
+        log.info("JWT signing secret reloaded");
+    }
+
+    /**
+     * Swaps in a new key set, e.g. after a key was added, activated or retired. Tokens whose
+     * {@code kid} is no longer in the set stop validating as soon as this returns.
+     */
+    public synchronized void reloadSigningKeys(SigningKeys signingKeys) {
+        // Synchronized with reloadSecret so neither reload overwrites the other's half of the material
+        SigningMaterial current = signingMaterial;
+        signingMaterial = buildSigningMaterial(current.secret(), signingKeys, current.generation() + 1);
+        log.info("JWT signing keys reloaded, active key {}", signingKeys.getActiveKeyId());
+    }
+
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())  // Updated from setSigningKey
-                .build()
+        return signingMaterial.parser()
                 .parseSignedClaims(token)     // Updated from parseClaimsJws
                 .getPayload();                // Updated from getBody
     }
     
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static SigningKeys loadSigningKeys(SigningProperties properties) {
+        if (properties == null || properties.getKeystore() == null || properties.getKeystore().isBlank()) {
+            return null;
+        }
+        String password = properties.getKeystorePassword();
+        return SigningKeys.load(Path.of(properties.getKeystore()),
+                password != null ? password.toCharArray() : new char[0], properties.getActiveKeyId());
+    }
+
+    private SigningMaterial buildSigningMaterial(String jwtSecret, SigningKeys signingKeys, long generation) {
+        boolean hasSecret = jwtSecret != null && !jwtSecret.isEmpty();
+        if (signingKeys == null && !hasSecret) {
+            throw new IllegalStateException("Either jwt.secret or jwt.signing.keystore must be configured");
+        }
+        SecretKey hmacKey = hasSecret ? Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)) : null;
+        JwtParser parser;
+        if (signingKeys == null) {
+            parser = Jwts.parser()
+                    .verifyWith(hmacKey)  // Updated from setSigningKey
+                    .requireIssuer(jwtIssuer)
+                    .requireAudience(jwtAudience)
+                    .build();
+        } else {
+            parser = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            // The parser rejects a key that does not fit the header's alg
+                            String keyId = header.getKeyId();
+                            return keyId != null ? signingKeys.getVerificationKey(keyId) : hmacKey;
+                        }
+                    })
+                    .requireIssuer(jwtIssuer)
+                    .requireAudience(jwtAudience)
+                    .build();
+        }
+        return new SigningMaterial(jwtSecret, hmacKey, signingKeys, parser, generation);
+    }
+
+    private record SigningMaterial(String secret, SecretKey hmacKey, SigningKeys signingKeys, JwtParser parser,
+                                   long generation) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.api.constants.ErrorMessages;
+import crediya.authentication.api.constants.LogMessages;
+import crediya.authentication.api.exception.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per client IP and per email login budgets, checked before the user lookup and BCrypt so
+ * that a credential-stuffing run is turned away at the cost of a map lookup. Disabled by
+ * {@code security.login-throttle.enabled=false}.
+ */
+@Component
+public class LoginThrottle implements InitializingBean, DisposableBean {
+
+    static final String IP_LIMITER = "ip";
+    static final String EMAIL_LIMITER = "email";
+
+    // Rejections come in bursts during an attack, so the body is pre-serialized
+    private static final ErrorResponseWriter TOO_MANY_REQUESTS = ErrorResponseWriter.of(
+            HttpStatus.TOO_MANY_REQUESTS, ErrorMessages.TOO_MANY_REQUESTS, LogMessages.TOO_MANY_LOGIN_ATTEMPTS_MESSAGE);
+
+    private final SecurityContextExtractor securityContextExtractor;
+    private final TokenBucketLimiter perIp;
+    private final TokenBucketLimiter perEmail;
+    private Disposable evictionSubscription;
+
+    public LoginThrottle(LoginThrottleProperties properties,
+                         SecurityContextExtractor securityContextExtractor,
+                         MeterRegistry meterRegistry) {
+        this.securityContextExtractor = securityContextExtractor;
+        if (!properties.isEnabled()) {
+            this.perIp = null;
+            this.perEmail = null;
+            return;
+        }
+        this.perIp = new TokenBucketLimiter(IP_LIMITER, properties.getPerIp(), properties.getStripes(),
+                properties.getMaxBuckets(), properties.getWheelSlots(), meterRegistry, System::nanoTime);
+        this.perEmail = new TokenBucketLimiter(EMAIL_LIMITER, properties.getPerEmail(), properties.getStripes(),
+                properties.getMaxBuckets(), properties.getWheelSlots(), meterRegistry, System::nanoTime);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (perIp == null) {
+            return;
+        }
+        // Buckets in stripes nobody is hitting are only reclaimed here
+        Duration sweepInterval = min(perIp.getTickInterval(), perEmail.getTickInterval());
+        evictionSubscription = Flux.interval(sweepInterval, sweepInterval)
+                .onBackpressureDrop()
+                .subscribe(tick -> {
+                    perIp.evictIdle();
+                    perEmail.evictIdle();
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (evictionSubscription != null) {
+            evictionSubscription.dispose();
+        }
+    }
+
+    /**
+     * Spends one attempt from the caller's IP budget. Returns 0 when allowed, otherwise the
+     * nanoseconds until the next attempt is.
+     */
+    public long acquireForClient(ServerWebExchange exchange) {
+        return perIp == null ? 0 : perIp.tryAcquire(securityContextExtractor.extractClientIp(exchange));
+    }
+
+    /**
+     * Spends one attempt from the budget of an already normalized email.
+     */
+    public long acquireForEmail(String email) {
+        return perEmail == null ? 0 : perEmail.tryAcquire(email);
+    }
+
+    /**
+     * 429 with Retry-After rounded up to whole seconds.
+     */
+    public Mono<ServerResponse> reject(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return TOO_MANY_REQUESTS.withRetryAfter(Long.toString(seconds)).toServerResponse();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,38 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+    private boolean enabled = true;
+    private Limit perIp = new Limit(30, Duration.ofMinutes(1));
+    private Limit perEmail = new Limit(5, Duration.ofMinutes(5));
+    // Power of two; each stripe is locked independently
+    private int stripes = 64;
+    private int maxBuckets = 100_000;
+    private int wheelSlots = 64;
+
+    /**
+     * Up to {@code capacity} attempts in a burst, refilled continuously over {@code refillPeriod}.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private Duration refillPeriod;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
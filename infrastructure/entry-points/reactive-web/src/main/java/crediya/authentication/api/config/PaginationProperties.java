@@ -0,0 +1,14 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "routes.pagination")
+public class PaginationProperties {
+    private int defaultSize = 50;
+    // Hard cap for ?limit= and the batch size used when streaming NDJSON exports
+    private int maxSize = 500;
+}
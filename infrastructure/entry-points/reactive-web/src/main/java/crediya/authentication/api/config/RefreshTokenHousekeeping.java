@@ -0,0 +1,52 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Deletes expired rows from {@code refresh_tokens} every {@code jwt.refresh-cleanup-interval}.
+ * Every node runs it; the delete is idempotent, so concurrent runs only repeat the work.
+ */
+@Slf4j
+@Component
+public class RefreshTokenHousekeeping implements InitializingBean, DisposableBean {
+
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final Duration cleanupInterval;
+    private Disposable cleanupSubscription;
+
+    public RefreshTokenHousekeeping(RefreshTokenUseCase refreshTokenUseCase,
+                                    @Value("${jwt.refresh-cleanup-interval:1h}") Duration cleanupInterval) {
+        this.refreshTokenUseCase = refreshTokenUseCase;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        cleanupSubscription = Flux.interval(cleanupInterval, cleanupInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refreshTokenUseCase.deleteExpired()
+                        .doOnNext(deleted -> log.debug("Deleted {} expired refresh tokens", deleted))
+                        .onErrorResume(error -> {
+                            log.warn("Refresh token cleanup failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (cleanupSubscription != null) {
+            cleanupSubscription.dispose();
+        }
+    }
+}
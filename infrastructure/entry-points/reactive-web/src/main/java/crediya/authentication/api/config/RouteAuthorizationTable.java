@@ -0,0 +1,244 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.api.exception.ErrorResponseWriter;
+import crediya.authentication.model.auth.Permission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route to access rule table, compiled once at startup. Every route is matched with
+ * {@link PathPattern#matches}, on decoded segments without matrix parameters, exactly as the
+ * router does; literal paths are only pre-selected through a hash lookup on that decoded
+ * value. Paths under a denied prefix that no route lists are refused rather than merely
+ * authenticated. Each route owns its pre-serialized 403 body and pre-registered decision
+ * counters, so a plain request allocates nothing to be classified and counted.
+ */
+public final class RouteAuthorizationTable {
+
+    static final String DECISIONS_METRIC = "auth.route.decisions";
+    static final String UNMATCHED_ROUTE = "unmatched";
+    static final String UNLISTED_ROUTE = "unlisted";
+
+    private final Map<String, List<Route>> literalRoutes;
+    private final List<Route> patternRoutes;
+    private final List<Route> unlisted;
+    private final Route unmatched;
+
+    private RouteAuthorizationTable(Map<String, List<Route>> literalRoutes, List<Route> patternRoutes,
+                                   List<Route> unlisted, Route unmatched) {
+        this.literalRoutes = literalRoutes;
+        this.patternRoutes = patternRoutes;
+        this.unlisted = unlisted;
+        this.unmatched = unmatched;
+    }
+
+    public static Builder builder(MeterRegistry meterRegistry) {
+        return new Builder(meterRegistry);
+    }
+
+    /**
+     * The first declared route matching method and path. Paths that match nothing are denied
+     * when they fall under a {@link Builder#denyUnlisted denied prefix}; anything else only
+     * requires an authenticated caller.
+     */
+    public Route match(HttpMethod method, PathContainer path) {
+        List<Route> candidates = literalRoutes.get(decodedValue(path));
+        if (candidates != null) {
+            for (Route route : candidates) {
+                if (route.matches(method, path)) {
+                    return route;
+                }
+            }
+        }
+        for (Route route : patternRoutes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        for (Route route : unlisted) {
+            if (route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return unmatched;
+    }
+
+    // The path as the router sees it: segments decoded and stripped of ;matrix parameters
+    private static String decodedValue(PathContainer path) {
+        String raw = path.value();
+        if (raw.indexOf('%') < 0 && raw.indexOf(';') < 0) {
+            return raw;
+        }
+        StringBuilder decoded = new StringBuilder(raw.length());
+        for (PathContainer.Element element : path.elements()) {
+            decoded.append(element instanceof PathContainer.PathSegment segment
+                    ? segment.valueToMatch()
+                    : element.value());
+        }
+        return decoded.toString();
+    }
+
+    public static final class Route {
+
+        private final HttpMethod method;
+        private final PathPattern pattern;
+        private final Permission permission;
+        private final boolean publicAccess;
+        private final boolean denyAll;
+        private final ErrorResponseWriter forbidden;
+        private final Counter publicCounter;
+        private final Counter unauthenticatedCounter;
+        private final Counter deniedCounter;
+        private final Counter grantedCounter;
+
+        private Route(MeterRegistry meterRegistry, String name, HttpMethod method, PathPattern pattern,
+                      Permission permission, boolean publicAccess, String deniedMessage) {
+            this(meterRegistry, name, method, pattern, permission, publicAccess, false, deniedMessage);
+        }
+
+        private Route(MeterRegistry meterRegistry, String name, HttpMethod method, PathPattern pattern,
+                      Permission permission, boolean publicAccess, boolean denyAll, String deniedMessage) {
+            this.method = method;
+            this.pattern = pattern;
+            this.permission = permission;
+            this.publicAccess = publicAccess;
+            this.denyAll = denyAll;
+            this.forbidden = deniedMessage != null
+                    ? ErrorResponseWriter.errorOnly(HttpStatus.FORBIDDEN, deniedMessage)
+                    : null;
+            this.publicCounter = counter(meterRegistry, name, "public");
+            this.unauthenticatedCounter = counter(meterRegistry, name, "unauthenticated");
+            this.deniedCounter = counter(meterRegistry, name, "denied");
+            this.grantedCounter = counter(meterRegistry, name, "granted");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String route, String outcome) {
+            return Counter.builder(DECISIONS_METRIC)
+                    .description("Access decisions taken by the route authorization filter")
+                    .tag("route", route)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(HttpMethod requestMethod, PathContainer path) {
+            return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+        }
+
+        public boolean isPublic() {
+            return publicAccess;
+        }
+
+        /**
+         * True for paths no route lists under a denied prefix; authenticated callers get the 403.
+         */
+        public boolean isDenied() {
+            return denyAll;
+        }
+
+        /**
+         * Permission the caller's role must hold, or null when authentication is enough.
+         */
+        public Permission getPermission() {
+            return permission;
+        }
+
+        public ErrorResponseWriter getForbidden() {
+            return forbidden;
+        }
+
+        public void recordPublic() {
+            publicCounter.increment();
+        }
+
+        public void recordUnauthenticated() {
+            unauthenticatedCounter.increment();
+        }
+
+        public void recordDenied() {
+            deniedCounter.increment();
+        }
+
+        public void recordGranted() {
+            grantedCounter.increment();
+        }
+    }
+
+    public static final class Builder {
+
+        private final MeterRegistry meterRegistry;
+        private final PathPatternParser parser = PathPatternParser.defaultInstance;
+        private final Map<String, List<Route>> literalRoutes = new HashMap<>();
+        private final List<Route> patternRoutes = new ArrayList<>();
+        private final List<Route> unlisted = new ArrayList<>();
+
+        private Builder(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        /**
+         * Paths (or path patterns) open to anonymous callers on every method.
+         */
+        public Builder publicPaths(List<String> paths) {
+            for (String path : paths) {
+                add(new Route(meterRegistry, path, null, parser.parse(path), null, true, null));
+            }
+            return this;
+        }
+
+        /**
+         * Requires the permission on method and path; callers without it get a 403 whose
+         * body is {@code {"error":"<deniedMessage>"}}.
+         */
+        public Builder require(HttpMethod method, String path, Permission permission, String deniedMessage) {
+            String name = method.name() + " " + path;
+            add(new Route(meterRegistry, name, method, parser.parse(path), permission, false, deniedMessage));
+            return this;
+        }
+
+        /**
+         * Names a route that only needs a valid token, so its decisions are counted under it
+         * rather than under the unmatched route.
+         */
+        public Builder authenticated(HttpMethod method, String path) {
+            String name = method.name() + " " + path;
+            add(new Route(meterRegistry, name, method, parser.parse(path), null, false, null));
+            return this;
+        }
+
+        /**
+         * Refuses, on every method, paths under the pattern (e.g. {@code /api/**}) that no
+         * other route lists, so a route added to the router without a rule here fails closed.
+         */
+        public Builder denyUnlisted(String pattern, String deniedMessage) {
+            unlisted.add(new Route(meterRegistry, UNLISTED_ROUTE + " " + pattern, null, parser.parse(pattern),
+                    null, false, true, deniedMessage));
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            Map<String, List<Route>> literals = new HashMap<>();
+            literalRoutes.forEach((path, routes) -> literals.put(path, List.copyOf(routes)));
+            Route unmatched = new Route(meterRegistry, UNMATCHED_ROUTE, null, null, null, false, null);
+            return new RouteAuthorizationTable(Map.copyOf(literals), List.copyOf(patternRoutes),
+                    List.copyOf(unlisted), unmatched);
+        }
+
+        private void add(Route route) {
+            if (route.pattern.hasPatternSyntax()) {
+                patternRoutes.add(route);
+            } else {
+                literalRoutes.computeIfAbsent(route.pattern.getPatternString(), path -> new ArrayList<>()).add(route);
+            }
+        }
+    }
+}
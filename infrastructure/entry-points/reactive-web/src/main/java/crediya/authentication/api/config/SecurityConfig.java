@@ -1,15 +1,23 @@
 package crediya.authentication.api.config;
 
+import crediya.authentication.api.constants.HandlerConstants;
+import crediya.authentication.model.auth.Permission;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 
+import java.util.List;
+
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
+    private static final String API_PATHS = "/api/**";
+
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
         return http
@@ -19,4 +27,30 @@ public class SecurityConfig {
                 .formLogin(formLogin -> formLogin.disable())
                 .build();
     }
+
+    /**
+     * Access rules enforced by {@link JwtAuthenticationFilter}; keep in step with the routes
+     * declared in RouterRest. API paths not listed are refused; anything else outside the API
+     * only needs a valid token.
+     */
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable(SecurityProperties securityProperties,
+                                                           UserPath userPath,
+                                                           TokenPath tokenPath,
+                                                           MeterRegistry meterRegistry) {
+        return RouteAuthorizationTable.builder(meterRegistry)
+                .publicPaths(securityProperties.getPublicPaths())
+                .publicPaths(List.of(tokenPath.getTokenRefresh(), tokenPath.getJwks(), tokenPath.getAuthorizeBatch()))
+                .require(HttpMethod.POST, userPath.getUsers(), Permission.CREATE_USER,
+                        HandlerConstants.INSUFFICIENT_PERMISSIONS_CREATE_USERS)
+                .require(HttpMethod.POST, userPath.getUsersBatch(), Permission.CREATE_USER,
+                        HandlerConstants.INSUFFICIENT_PERMISSIONS_CREATE_USERS)
+                .require(HttpMethod.GET, userPath.getUsers(), Permission.VIEW_ALL_USERS,
+                        HandlerConstants.INSUFFICIENT_PERMISSIONS_VIEW_USERS)
+                .authenticated(HttpMethod.POST, tokenPath.getLogout())
+                .require(HttpMethod.POST, tokenPath.getTokensRevoke(), Permission.REVOKE_TOKENS,
+                        HandlerConstants.INSUFFICIENT_PERMISSIONS_REVOKE_TOKENS)
+                .denyUnlisted(API_PATHS, HandlerConstants.ROUTE_NOT_PERMITTED)
+                .build();
+    }
 }
\ No newline at end of file
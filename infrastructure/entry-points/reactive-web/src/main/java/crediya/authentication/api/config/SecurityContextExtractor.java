@@ -2,12 +2,16 @@ package crediya.authentication.api.config;
 
 import crediya.authentication.api.constants.JwtConstants;
 import crediya.authentication.model.auth.AuthorizationContext;
+import crediya.authentication.model.auth.VerifiedToken;
 import crediya.authentication.model.constants.AuthorizationMessages;
 import crediya.authentication.model.role.RoleType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
 @Slf4j
 @Component
 public class SecurityContextExtractor {
@@ -17,6 +21,12 @@ public class SecurityContextExtractor {
     private static final String USER_AGENT_HEADER = "User-Agent";
     private static final String UNKNOWN_CLIENT_IP = "unknown";
     
+    private final TrustedProxies trustedProxies;
+    
+    public SecurityContextExtractor(ClientAddressProperties clientAddressProperties) {
+        this.trustedProxies = TrustedProxies.of(clientAddressProperties.getTrustedProxies());
+    }
+    
     /**
      * Extracts authorization context from ServerWebExchange
      */
@@ -57,18 +67,27 @@ public class SecurityContextExtractor {
         }
     }
     
+    /**
+     * Extracts the verified token claims stored by JwtAuthenticationFilter
+     */
+    public VerifiedToken extractVerifiedToken(ServerWebExchange exchange) {
+        return exchange.getAttribute(JwtConstants.VERIFIED_TOKEN_ATTRIBUTE);
+    }
+    
     /**
      * Extracts user ID from the security context
      */
     public String extractUserId(ServerWebExchange exchange) {
-        return (String) exchange.getAttributes().get(JwtConstants.USER_ID_ATTRIBUTE);
+        VerifiedToken verifiedToken = extractVerifiedToken(exchange);
+        return verifiedToken != null ? verifiedToken.getSubject() : null;
     }
     
     /**
      * Extracts role name from the security context
      */
     public String extractRoleName(ServerWebExchange exchange) {
-        return (String) exchange.getAttributes().get(JwtConstants.ROLE_ATTRIBUTE);
+        VerifiedToken verifiedToken = extractVerifiedToken(exchange);
+        return verifiedToken != null ? verifiedToken.getRoleName() : null;
     }
     
     /**
@@ -81,7 +100,8 @@ public class SecurityContextExtractor {
         }
         
         try {
-            return RoleType.fromName(roleName);
+            // The role claim is signed by this service in canonical form
+            return RoleType.fromCanonicalName(roleName);
         } catch (IllegalArgumentException e) {
             log.warn("Invalid role name: {}", roleName);
             return null;
@@ -89,22 +109,23 @@ public class SecurityContextExtractor {
     }
     
     /**
-     * Extracts client IP from headers or connection info
+     * Extracts client IP from the connection. X-Forwarded-For is only believed when the
+     * connection comes from a trusted proxy, and then only up to the first untrusted hop.
      */
     public String extractClientIp(ServerWebExchange exchange) {
-        // First check X-Forwarded-For header
-        String xForwardedFor = exchange.getRequest().getHeaders().getFirst(CLIENT_IP_HEADER);
-        if (xForwardedFor != null && !xForwardedFor.trim().isEmpty()) {
-            // X-Forwarded-For can contain multiple IPs, take the first one
-            return xForwardedFor.split(",")[0].trim();
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return UNKNOWN_CLIENT_IP;
         }
-        
-        // Fall back to remote address
-        if (exchange.getRequest().getRemoteAddress() != null) {
-            return exchange.getRequest().getRemoteAddress().getAddress().getHostAddress();
+        InetAddress remote = remoteAddress.getAddress();
+        if (remote == null) {
+            return remoteAddress.getHostString();
         }
-        
-        return UNKNOWN_CLIENT_IP;
+        if (trustedProxies.isEmpty()) {
+            return remote.getHostAddress();
+        }
+        String forwardedFor = exchange.getRequest().getHeaders().getFirst(CLIENT_IP_HEADER);
+        return trustedProxies.resolveClient(remote, forwardedFor).getHostAddress();
     }
     
     /**
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -12,4 +13,24 @@ import java.util.ArrayList;
 @ConfigurationProperties(prefix = "security.jwt")
 public class SecurityProperties {
     private List<String> publicPaths = new ArrayList<>();
-}
\ No newline at end of file
+    private TokenCache tokenCache = new TokenCache();
+    private Revocation revocation = new Revocation();
+
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = false;
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Revocation {
+        private Duration refreshInterval = Duration.ofSeconds(5);
+        // Re-read window for revocations stamped before the last refresh but committed after it
+        private Duration refreshOverlap = Duration.ofSeconds(30);
+        private long expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+    }
+}
@@ -0,0 +1,217 @@
+package crediya.authentication.api.config;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Asymmetric keys read from a PKCS12 keystore: every private key entry is a key id (its
+ * alias), the active one signs and all of them verify. Keeping the previous key in the
+ * keystore after switching the active one lets tokens it signed run out their lifetime.
+ * Without a configured active key id the keystore decides: the key whose certificate became
+ * valid most recently signs, and a key whose certificate is not valid yet is only published.
+ * Supports P-256 (ES256) and Ed25519 (EdDSA) keys.
+ */
+public final class SigningKeys {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int P256_COORDINATE_BYTES = 32;
+    private static final int ED25519_KEY_BYTES = 32;
+    private static final String ED25519 = "Ed25519";
+
+    private final String activeKeyId;
+    private final PrivateKey signingKey;
+    private final SignatureAlgorithm algorithm;
+    private final Map<String, PublicKey> verificationKeys;
+    private final JsonWebKeySet jsonWebKeySet;
+    private final Instant nextActivation;
+
+    private SigningKeys(String activeKeyId, PrivateKey signingKey, SignatureAlgorithm algorithm,
+                        Map<String, PublicKey> verificationKeys, JsonWebKeySet jsonWebKeySet,
+                        Instant nextActivation) {
+        this.activeKeyId = activeKeyId;
+        this.signingKey = signingKey;
+        this.algorithm = algorithm;
+        this.verificationKeys = verificationKeys;
+        this.jsonWebKeySet = jsonWebKeySet;
+        this.nextActivation = nextActivation;
+    }
+
+    /**
+     * Loads every private key entry of the keystore. A blank {@code activeKeyId} lets the
+     * certificates' start dates pick the signing key.
+     */
+    public static SigningKeys load(Path keystoreFile, char[] password, String activeKeyId) {
+        try (InputStream in = Files.newInputStream(keystoreFile)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password);
+            return from(keyStore, password, activeKeyId, Instant.now());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load signing keystore " + keystoreFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    static SigningKeys from(KeyStore keyStore, char[] password, String activeKeyId, Instant now)
+            throws GeneralSecurityException {
+        // Sorted so the JWKS bytes, and therefore its ETag, only change when the keys do
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        Map<String, PrivateKey> privateKeys = new TreeMap<>();
+        Map<String, Instant> validFrom = new TreeMap<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (!keyStore.isKeyEntry(alias)) {
+                continue;
+            }
+            Key key = keyStore.getKey(alias, password);
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (!(key instanceof PrivateKey privateKey) || certificate == null) {
+                continue;
+            }
+            algorithmFor(alias, certificate.getPublicKey());
+            publicKeys.put(alias, certificate.getPublicKey());
+            privateKeys.put(alias, privateKey);
+            validFrom.put(alias, certificate instanceof X509Certificate x509
+                    ? x509.getNotBefore().toInstant() : Instant.EPOCH);
+        }
+        if (publicKeys.isEmpty()) {
+            throw new IllegalStateException("Signing keystore contains no private key entries");
+        }
+
+        String active = activeKeyId;
+        Instant nextActivation = null;
+        if (active == null || active.isBlank()) {
+            active = null;
+            Instant activeFrom = null;
+            for (Map.Entry<String, Instant> entry : validFrom.entrySet()) {
+                Instant from = entry.getValue();
+                if (from.isAfter(now)) {
+                    nextActivation = nextActivation == null || from.isBefore(nextActivation) ? from : nextActivation;
+                } else if (activeFrom == null || !from.isBefore(activeFrom)) {
+                    active = entry.getKey();
+                    activeFrom = from;
+                }
+            }
+            if (active == null) {
+                throw new IllegalStateException("Signing keystore has no key whose certificate is valid yet");
+            }
+        }
+        PrivateKey signingKey = privateKeys.get(active);
+        if (signingKey == null) {
+            throw new IllegalStateException("Signing keystore has no key with id " + active);
+        }
+        return new SigningKeys(active, signingKey, algorithmFor(active, publicKeys.get(active)),
+                Collections.unmodifiableMap(publicKeys), JsonWebKeySet.of(toJwks(publicKeys)), nextActivation);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns null when the id is unknown, e.g. for a key already retired.
+     */
+    public PublicKey getVerificationKey(String keyId) {
+        return keyId == null ? null : verificationKeys.get(keyId);
+    }
+
+    public JsonWebKeySet getJsonWebKeySet() {
+        return jsonWebKeySet;
+    }
+
+    /**
+     * When a published key's certificate becomes valid and it should take over signing;
+     * null when no key is waiting or the active key id is configured.
+     */
+    Instant getNextActivation() {
+        return nextActivation;
+    }
+
+    private static SignatureAlgorithm algorithmFor(String alias, PublicKey publicKey) {
+        if (publicKey instanceof ECPublicKey ecKey
+                && ecKey.getParams().getCurve().getField().getFieldSize() == 256) {
+            return Jwts.SIG.ES256;
+        }
+        if (publicKey instanceof EdECPublicKey edKey && ED25519.equalsIgnoreCase(edKey.getParams().getName())) {
+            return Jwts.SIG.EdDSA;
+        }
+        throw new IllegalStateException("Key " + alias + " is neither P-256 nor Ed25519");
+    }
+
+    private static String toJwks(Map<String, PublicKey> publicKeys) {
+        StringBuilder json = new StringBuilder(256 * publicKeys.size()).append("{\"keys\":[");
+        boolean first = true;
+        for (Map.Entry<String, PublicKey> entry : publicKeys.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendJwk(json, entry.getKey(), entry.getValue());
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendJwk(StringBuilder json, String keyId, PublicKey publicKey) {
+        String kid = new String(JsonStringEncoder.getInstance().quoteAsString(keyId));
+        if (publicKey instanceof ECPublicKey ecKey) {
+            json.append("{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\"").append(kid)
+                    .append("\",\"use\":\"sig\",\"alg\":\"ES256\",\"x\":\"")
+                    .append(BASE64URL.encodeToString(unsigned(ecKey.getW().getAffineX(), P256_COORDINATE_BYTES)))
+                    .append("\",\"y\":\"")
+                    .append(BASE64URL.encodeToString(unsigned(ecKey.getW().getAffineY(), P256_COORDINATE_BYTES)))
+                    .append("\"}");
+        } else {
+            // X.509 SubjectPublicKeyInfo ends with the raw 32-byte Ed25519 key
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_BYTES, encoded.length);
+            json.append("{\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"kid\":\"").append(kid)
+                    .append("\",\"use\":\"sig\",\"alg\":\"EdDSA\",\"x\":\"")
+                    .append(BASE64URL.encodeToString(raw))
+                    .append("\"}");
+        }
+    }
+
+    // Fixed-width big-endian, as JWK coordinates require
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] fixed = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, length - copy, copy);
+        return fixed;
+    }
+
+    List<String> keyIds() {
+        return List.copyOf(verificationKeys.keySet());
+    }
+}
@@ -0,0 +1,21 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class SigningProperties {
+    // PKCS12 file with one private key entry per key id (alias); unset keeps HMAC with jwt.secret
+    private String keystore;
+    private String keystorePassword;
+    // Pins the alias that signs new tokens and is only read at startup. Unset, the key whose
+    // certificate became valid most recently signs, so activation follows the keystore file
+    private String activeKeyId;
+    private Duration jwksMaxAge = Duration.ofMinutes(5);
+    private Duration reloadInterval = Duration.ofSeconds(30);
+}
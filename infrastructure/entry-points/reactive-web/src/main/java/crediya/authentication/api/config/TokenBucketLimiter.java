@@ -0,0 +1,210 @@
+package crediya.authentication.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token buckets keyed by an arbitrary string, split across independently locked
+ * stripes. Each stripe indexes its buckets in a time wheel by last use; a bucket idle for the
+ * time it takes to refill completely is dropped, which loses nothing since a new bucket starts
+ * full. Stripes advance their wheel when used and on {@link #evictIdle()}. When a stripe
+ * reaches its share of {@code maxBuckets} the least recently used slot is dropped early.
+ */
+public final class TokenBucketLimiter {
+
+    static final String REQUESTS_METRIC = "auth.login.throttle.requests";
+    static final String BUCKETS_METRIC = "auth.login.throttle.buckets";
+    static final String EVICTIONS_METRIC = "auth.login.throttle.evictions";
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxBucketsPerStripe;
+    private final int capacity;
+    private final double tokensPerNano;
+    private final long tickNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger liveBuckets = new AtomicInteger();
+    private final Counter allowed;
+    private final Counter rejected;
+    private final Counter idleEvictions;
+    private final Counter capacityEvictions;
+
+    public TokenBucketLimiter(String name, LoginThrottleProperties.Limit limit, int stripes, int maxBuckets,
+                              int wheelSlots, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (limit.getCapacity() < 1 || limit.getRefillPeriod().isNegative() || limit.getRefillPeriod().isZero()) {
+            throw new IllegalArgumentException("Token bucket needs a positive capacity and refill period");
+        }
+        if (stripes < 1 || Integer.bitCount(stripes) != 1 || wheelSlots < 2) {
+            throw new IllegalArgumentException("Stripes must be a power of two and the wheel needs two slots");
+        }
+        long refillNanos = limit.getRefillPeriod().toNanos();
+        this.capacity = limit.getCapacity();
+        this.tokensPerNano = (double) capacity / refillNanos;
+        // A bucket untouched for wheelSlots - 1 whole ticks has refilled completely
+        this.tickNanos = Math.max(1, -Math.floorDiv(-refillNanos, wheelSlots - 1));
+        this.stripeMask = stripes - 1;
+        this.maxBucketsPerStripe = Math.max(1, maxBuckets / stripes);
+        this.nanoClock = nanoClock;
+        this.stripes = new Stripe[stripes];
+        long startTick = Math.floorDiv(nanoClock.getAsLong(), tickNanos);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(wheelSlots, startTick);
+        }
+
+        this.allowed = Counter.builder(REQUESTS_METRIC).tag("limiter", name).tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REQUESTS_METRIC).tag("limiter", name).tag("result", "rejected")
+                .register(meterRegistry);
+        this.idleEvictions = Counter.builder(EVICTIONS_METRIC).tag("limiter", name).tag("cause", "idle")
+                .register(meterRegistry);
+        this.capacityEvictions = Counter.builder(EVICTIONS_METRIC).tag("limiter", name).tag("cause", "capacity")
+                .register(meterRegistry);
+        Gauge.builder(BUCKETS_METRIC, liveBuckets, AtomicInteger::get).tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 when allowed, otherwise the nanoseconds until
+     * the next token is available.
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        long tick = Math.floorDiv(now, tickNanos);
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        long waitNanos;
+        synchronized (stripe) {
+            stripe.advanceTo(tick);
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                    stripe.evictOldest();
+                }
+                bucket = new Bucket(capacity, now, tick);
+                stripe.buckets.put(key, bucket);
+                stripe.slot(tick).add(key);
+                liveBuckets.incrementAndGet();
+            } else {
+                bucket.refill(now, capacity, tokensPerNano);
+                if (bucket.tick != tick) {
+                    stripe.slot(bucket.tick).remove(key);
+                    stripe.slot(tick).add(key);
+                    bucket.tick = tick;
+                }
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                waitNanos = 0;
+            } else {
+                waitNanos = Math.max(1, (long) Math.ceil((1 - bucket.tokens) / tokensPerNano));
+            }
+        }
+        (waitNanos == 0 ? allowed : rejected).increment();
+        return waitNanos;
+    }
+
+    /**
+     * Advances every stripe to the current tick, dropping buckets that have refilled. Lets
+     * idle stripes shed memory and keeps the bucket gauge honest.
+     */
+    public void evictIdle() {
+        long tick = Math.floorDiv(nanoClock.getAsLong(), tickNanos);
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.advanceTo(tick);
+            }
+        }
+    }
+
+    /**
+     * Wheel resolution, i.e. the longest a refilled bucket can outlive its refill.
+     */
+    public Duration getTickInterval() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    int size() {
+        return liveBuckets.get();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private long tick;
+
+        private Bucket(double tokens, long refilledAt, long tick) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+            this.tick = tick;
+        }
+
+        private void refill(long now, int capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+
+    private final class Stripe {
+        private final Map<String, Bucket> buckets = new HashMap<>();
+        private final Set<String>[] wheel;
+        private long currentTick;
+
+        @SuppressWarnings("unchecked")
+        private Stripe(int wheelSlots, long startTick) {
+            this.wheel = new Set[wheelSlots];
+            for (int i = 0; i < wheelSlots; i++) {
+                wheel[i] = new HashSet<>();
+            }
+            this.currentTick = startTick;
+        }
+
+        private Set<String> slot(long tick) {
+            return wheel[(int) Math.floorMod(tick, (long) wheel.length)];
+        }
+
+        // Entering tick t reuses the slot of tick t - wheel.length, whose buckets are now full
+        private void advanceTo(long tick) {
+            long steps = Math.min(tick - currentTick, wheel.length);
+            for (long i = 1; i <= steps; i++) {
+                drop(slot(currentTick + i), idleEvictions);
+            }
+            currentTick = Math.max(currentTick, tick);
+        }
+
+        private void evictOldest() {
+            for (long i = 1; i <= wheel.length; i++) {
+                Set<String> oldest = slot(currentTick + i);
+                if (!oldest.isEmpty()) {
+                    drop(oldest, capacityEvictions);
+                    return;
+                }
+            }
+        }
+
+        private void drop(Set<String> slot, Counter evictions) {
+            int dropped = slot.size();
+            if (dropped == 0) {
+                return;
+            }
+            for (Iterator<String> keys = slot.iterator(); keys.hasNext(); ) {
+                buckets.remove(keys.next());
+                keys.remove();
+            }
+            liveBuckets.addAndGet(-dropped);
+            evictions.increment(dropped);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package crediya.authentication.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "routes.paths")
+public class TokenPath {
+    private String logout = "/api/v1/logout";
+    private String tokensRevoke = "/api/v1/tokens:revoke";
+    private String tokenRefresh = "/api/v1/token/refresh";
+    private String jwks = "/.well-known/jwks.json";
+    private String authorizeBatch = "/api/v1/authorize:batch";
+}
@@ -0,0 +1,148 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local view of the revoked token ids. A bloom filter answers "not revoked" for almost
+ * every token without touching the exact set; only filter hits are confirmed against it.
+ * Revocations made on this node apply immediately, the rest arrive through an incremental
+ * refresh every {@code security.jwt.revocation.refresh-interval}.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements InitializingBean, DisposableBean {
+
+    private static final String SIZE_METRIC = "auth.revocation.size";
+    private static final String REFRESH_METRIC = "auth.revocation.refresh";
+    private static final String FALSE_POSITIVE_METRIC = "auth.revocation.bloom.false.positives";
+    private static final String RESULT_TAG = "result";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final SecurityProperties.Revocation properties;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private final Counter falsePositives;
+    // token id -> token expiry
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    // Database time of the newest revocation seen; only the refresh loop moves it
+    private volatile Instant watermark = Instant.EPOCH;
+    private int evictedSinceRebuild;
+    private Disposable refreshSubscription;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               SecurityProperties securityProperties,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = securityProperties.getRevocation();
+        this.bloomFilter = new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.refreshSuccess = Counter.builder(REFRESH_METRIC).tag(RESULT_TAG, "success").register(meterRegistry);
+        this.refreshFailure = Counter.builder(REFRESH_METRIC).tag(RESULT_TAG, "failure").register(meterRegistry);
+        this.falsePositives = Counter.builder(FALSE_POSITIVE_METRIC).register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, revoked, Map::size).register(meterRegistry);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Applies a revocation on this node without waiting for the next refresh.
+     */
+    public void add(RevokedToken revokedToken) {
+        if (revokedToken.isExpiredAt(Instant.now())) {
+            return;
+        }
+        // Writers serialize with rebuilds so no id can land only in a filter being replaced
+        synchronized (this) {
+            revoked.put(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+            bloomFilter.put(revokedToken.getTokenId());
+        }
+    }
+
+    /**
+     * Pulls revocations recorded since the last refresh (minus an overlap for transactions that
+     * committed late), then drops expired ids locally and in the database.
+     */
+    public Mono<Void> refresh() {
+        Instant now = Instant.now();
+        Instant since = watermark.minus(properties.getRefreshOverlap());
+        return revokedTokenRepository.findActiveRevokedSince(since, now)
+                .doOnNext(this::add)
+                .reduce(watermark, (latest, revokedToken) ->
+                        revokedToken.getRevokedAt() != null && revokedToken.getRevokedAt().isAfter(latest)
+                                ? revokedToken.getRevokedAt()
+                                : latest)
+                .doOnNext(latest -> {
+                    watermark = latest;
+                    evictExpired(now);
+                })
+                .then(revokedTokenRepository.deleteExpired(now))
+                .doOnNext(deleted -> {
+                    refreshSuccess.increment();
+                    log.debug("Revocation list refreshed: {} active ids, {} expired rows deleted", revoked.size(), deleted);
+                })
+                .doOnError(error -> {
+                    refreshFailure.increment();
+                    log.warn("Revocation list refresh failed, keeping current ids: {}", error.getMessage());
+                })
+                .then();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refreshSubscription = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(error -> Mono.empty()))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshSubscription != null) {
+            refreshSubscription.dispose();
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        evictedSinceRebuild += before - revoked.size();
+        // Bloom filters cannot forget; rebuild once stale ids outnumber live ones or it is over capacity
+        if (evictedSinceRebuild > revoked.size() || revoked.size() > bloomFilter.capacity()) {
+            rebuildFilter();
+        }
+    }
+
+    private synchronized void rebuildFilter() {
+        long expected = Math.max(properties.getExpectedInsertions(), 2L * revoked.size());
+        BloomFilter rebuilt = new BloomFilter(expected, properties.getFalsePositiveRate());
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        evictedSinceRebuild = 0;
+    }
+}
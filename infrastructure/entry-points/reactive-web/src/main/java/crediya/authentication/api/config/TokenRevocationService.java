@@ -0,0 +1,63 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.api.constants.JwtConstants;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
+import crediya.authentication.usecase.auth.TokenRevocationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Persists revocations through the domain use case and applies them to this node right away:
+ * the id joins the local revocation list and the token leaves the verification cache.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final TokenRevocationUseCase tokenRevocationUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final TokenRevocationList tokenRevocationList;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SecurityContextExtractor securityContextExtractor;
+
+    /**
+     * Revokes the token the current request was authenticated with and the refresh tokens of
+     * the session it belongs to
+     */
+    public Mono<Void> logout(ServerWebExchange exchange) {
+        VerifiedToken verifiedToken = securityContextExtractor.extractVerifiedToken(exchange);
+        if (verifiedToken == null) {
+            return Mono.empty();
+        }
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return tokenRevocationUseCase.revoke(verifiedToken)
+                .doOnNext(revokedToken -> {
+                    tokenRevocationList.add(revokedToken);
+                    if (authHeader != null && authHeader.startsWith(JwtConstants.BEARER_PREFIX)) {
+                        verifiedTokenCache.invalidate(authHeader.substring(JwtConstants.BEARER_PREFIX.length()));
+                    }
+                    log.debug("Token {} revoked by logout", revokedToken.getTokenId());
+                })
+                .then(refreshTokenUseCase.revokeSession(verifiedToken.getSessionId()));
+    }
+
+    /**
+     * Revokes any token id; cached verifications of it are rejected by the revocation check
+     */
+    public Mono<Void> revoke(String tokenId, Instant expiresAt) {
+        return tokenRevocationUseCase.revoke(tokenId, expiresAt)
+                .doOnNext(revokedToken -> {
+                    tokenRevocationList.add(revokedToken);
+                    log.info("Token {} revoked by an administrator", revokedToken.getTokenId());
+                })
+                .then();
+    }
+}
@@ -0,0 +1,169 @@
+package crediya.authentication.api.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Address ranges ({@code 10.0.0.0/8}, {@code 192.168.1.10}, {@code ::1}) whose
+ * {@code X-Forwarded-For} is believed. The client is the rightmost hop not inside a range:
+ * everything left of it was written by the client itself and is never used. Hops are parsed
+ * as IP literals only, so a forwarded value can never trigger a DNS lookup.
+ */
+final class TrustedProxies {
+
+    private static final TrustedProxies NONE = new TrustedProxies(List.of());
+    private static final int IPV4_OCTETS = 4;
+    private static final int MAX_OCTET = 255;
+
+    private final List<Range> ranges;
+
+    private TrustedProxies(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    static TrustedProxies of(List<String> cidrs) {
+        if (cidrs == null || cidrs.isEmpty()) {
+            return NONE;
+        }
+        List<Range> ranges = new ArrayList<>(cidrs.size());
+        for (String cidr : cidrs) {
+            if (!cidr.isBlank()) {
+                ranges.add(Range.parse(cidr.trim()));
+            }
+        }
+        return ranges.isEmpty() ? NONE : new TrustedProxies(List.copyOf(ranges));
+    }
+
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    boolean contains(InetAddress address) {
+        for (Range range : ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The client address for a request received from {@code remote}: {@code remote} itself
+     * unless it is a trusted proxy, otherwise the rightmost untrusted hop of the
+     * comma-separated {@code forwardedFor} header.
+     */
+    InetAddress resolveClient(InetAddress remote, String forwardedFor) {
+        if (remote == null || forwardedFor == null || !contains(remote)) {
+            return remote;
+        }
+        InetAddress client = remote;
+        int end = forwardedFor.length();
+        while (end > 0) {
+            int start = forwardedFor.lastIndexOf(',', end - 1);
+            InetAddress hop = parseLiteral(forwardedFor.substring(start + 1, end).trim());
+            if (hop == null) {
+                // Not an address; stop at the last hop a trusted proxy vouched for
+                return client;
+            }
+            client = hop;
+            if (!contains(hop)) {
+                return hop;
+            }
+            end = Math.max(start, 0);
+        }
+        return client;
+    }
+
+    static InetAddress parseLiteral(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.indexOf(':') >= 0) {
+            String literal = value.startsWith("[") ? value : "[" + value + "]";
+            try {
+                // Brackets make the JDK parse an IPv6 literal and fail instead of resolving a name
+                return InetAddress.getByName(literal);
+            } catch (UnknownHostException e) {
+                return null;
+            }
+        }
+        return parseIpv4(value);
+    }
+
+    private static InetAddress parseIpv4(String value) {
+        byte[] octets = new byte[IPV4_OCTETS];
+        int octet = 0;
+        int current = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (current < 0 || octet == IPV4_OCTETS - 1) {
+                    return null;
+                }
+                octets[octet++] = (byte) current;
+                current = -1;
+            } else if (c >= '0' && c <= '9') {
+                current = (current < 0 ? 0 : current * 10) + (c - '0');
+                if (current > MAX_OCTET) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        if (current < 0 || octet != IPV4_OCTETS - 1) {
+            return null;
+        }
+        octets[octet] = (byte) current;
+        try {
+            return InetAddress.getByAddress(octets);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Range(byte[] network, int prefixLength) {
+
+        static Range parse(String cidr) {
+            int slash = cidr.indexOf('/');
+            String address = slash < 0 ? cidr : cidr.substring(0, slash);
+            InetAddress parsed = parseLiteral(address);
+            if (parsed == null) {
+                throw new IllegalArgumentException("Trusted proxy must be an IP address or CIDR range: " + cidr);
+            }
+            byte[] network = parsed.getAddress();
+            int maxLength = network.length * Byte.SIZE;
+            int prefixLength;
+            try {
+                prefixLength = slash < 0 ? maxLength : Integer.parseInt(cidr.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid prefix length in trusted proxy range: " + cidr, e);
+            }
+            if (prefixLength < 0 || prefixLength > maxLength) {
+                throw new IllegalArgumentException("Invalid prefix length in trusted proxy range: " + cidr);
+            }
+            return new Range(network, prefixLength);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] candidate = address.getAddress();
+            if (candidate.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / Byte.SIZE;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % Byte.SIZE;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (Byte.SIZE - remainingBits)) & 0xFF;
+            return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
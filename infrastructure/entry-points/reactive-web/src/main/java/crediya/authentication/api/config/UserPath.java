@@ -9,4 +9,5 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "routes.paths")
 public class UserPath {
     private String users = "/api/v1/users";
+    private String usersBatch = "/api/v1/users:batch";
 }
@@ -0,0 +1,138 @@
+package crediya.authentication.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import crediya.authentication.model.auth.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-capped cache of verified claims keyed by a 64-bit digest of the bearer token, so a
+ * client reusing its token skips signature verification. Entries live min(token exp, ttl)
+ * and are re-checked against the clock on every read. Each entry carries the signing
+ * generation read before it was verified and is only served while that generation is
+ * current, so a verification still running against a replaced secret or key set cannot
+ * repopulate the cache after {@link #invalidateAll()}. Disabled unless
+ * {@code security.jwt.token-cache.enabled} is set.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified.tokens";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Cache<Long, Entry> cache;
+    private final LongSupplier signingGeneration;
+
+    public VerifiedTokenCache(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        this(securityProperties, meterRegistry, () -> 0L);
+    }
+
+    @Autowired
+    public VerifiedTokenCache(SecurityProperties securityProperties, MeterRegistry meterRegistry,
+                              JwtTokenManagerImpl jwtTokenManager) {
+        this(securityProperties, meterRegistry, jwtTokenManager::getSigningGeneration);
+    }
+
+    VerifiedTokenCache(SecurityProperties securityProperties, MeterRegistry meterRegistry,
+                       LongSupplier signingGeneration) {
+        this.signingGeneration = signingGeneration;
+        SecurityProperties.TokenCache properties = securityProperties.getTokenCache();
+        if (!properties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        long ttlNanos = properties.getTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<Long, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Long key, Entry entry, long currentTime) {
+                        Instant expiresAt = entry.verifiedToken().getExpiresAt();
+                        if (expiresAt == null) {
+                            return 0;
+                        }
+                        long untilTokenExpiry = Duration.between(Instant.now(), expiresAt).toNanos();
+                        return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached claims for the token or verifies it and caches a successful result.
+     * Failed verifications are never cached.
+     */
+    public Optional<VerifiedToken> getOrVerify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        if (cache == null || token == null) {
+            return verifier.apply(token);
+        }
+        long key = digest(token);
+        // Read before verifying: a reload that lands mid-verification leaves the entry outdated
+        long generation = signingGeneration.getAsLong();
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.token().equals(token)) {
+            if (entry.generation() == generation && !entry.verifiedToken().isExpiredAt(Instant.now())) {
+                return Optional.of(entry.verifiedToken());
+            }
+            cache.invalidate(key);
+        }
+        Optional<VerifiedToken> verifiedToken = verifier.apply(token);
+        verifiedToken.ifPresent(verified -> cache.put(key, new Entry(token, verified, generation)));
+        return verifiedToken;
+    }
+
+    /**
+     * Drops a single token, e.g. when it is revoked.
+     */
+    public void invalidate(String token) {
+        if (cache != null && token != null) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * Drops every entry, e.g. after the signing secret is rotated, to free the memory; entries
+     * of an older signing generation would not be served anyway.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    // FNV-1a; collisions only cost a miss because the full token is compared on hit
+    private static long digest(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record Entry(String token, VerifiedToken verifiedToken, long generation) {
+    }
+}
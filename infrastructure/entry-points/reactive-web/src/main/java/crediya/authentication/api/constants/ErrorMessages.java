@@ -13,6 +13,15 @@ public final class ErrorMessages {
     public static final String CONFLICT = "Conflict";
     public static final String BAD_REQUEST = "Bad Request";
     public static final String UNAUTHORIZED = "Unauthorized";
+    public static final String SERVICE_UNAVAILABLE = "Service Unavailable";
+    public static final String TOO_MANY_REQUESTS = "Too Many Requests";
+    public static final String NOT_FOUND = "Not Found";
+    
+    // RFC 7807 problem type URIs; about:blank means the HTTP status says it all
+    public static final String PROBLEM_TYPE_DEFAULT = "about:blank";
+    public static final String PROBLEM_TYPE_VALIDATION_FAILED = "/problems/validation-failed";
+    public static final String PROBLEM_TYPE_CONSTRAINT_VIOLATION = "/problems/constraint-violation";
+    public static final String PROBLEM_TYPE_DUPLICATE_EMAIL = "/problems/duplicate-email";
     
     // Validation Messages (specific field validation messages are defined below)
     
@@ -23,12 +32,19 @@ public final class ErrorMessages {
     public static final String EMAIL_MUST_BE_VALID = "Email must be valid";
     public static final String PASSWORD_REQUIRED = "Password is required";
     public static final String BASE_SALARY_REQUIRED = "Base salary is required";
+    public static final String TOKEN_ID_REQUIRED = "Token id is required";
+    public static final String REFRESH_TOKEN_REQUIRED = "Refresh token is required";
+    public static final String AUTHORIZATION_TOKEN_REQUIRED = "Token is required";
+    public static final String PERMISSION_CHECKS_REQUIRED = "At least one permission check is required";
+    public static final String PERMISSION_REQUIRED = "Permission is required";
+    public static final String TOO_MANY_PERMISSION_CHECKS = "At most %d permission checks are allowed per request";
+    public static final String INVALID_VALUE = "Invalid value";
     
-    // Database Constraint Messages
-    public static final String NOT_NULL_CONSTRAINT = "not-null constraint";
-    public static final String DUPLICATE_KEY_VALUE = "duplicate key value";
-    public static final String USER_ID_CONSTRAINT = "user_id";
-    public static final String EMAIL_CONSTRAINT = "email";
+    // Constraint violations reported by the database
+    public static final String EMAIL_ALREADY_REGISTERED = "Email already registered";
+    public static final String BASE_SALARY_OUT_OF_RANGE = "Base salary is outside the allowed range";
+    public static final String ROLE_DOES_NOT_EXIST = "Role does not exist";
+    public static final String CONSTRAINT_VIOLATED = "A value violates a data constraint";
     
     // Authentication Messages
     public static final String LOGIN_REQUEST_RECEIVED = "Login request received from: {}";
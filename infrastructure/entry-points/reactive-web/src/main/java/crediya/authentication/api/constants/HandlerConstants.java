@@ -4,35 +4,55 @@ public final class HandlerConstants {
     
     // HTTP Headers
     public static final String USER_AGENT_HEADER = "User-Agent";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // Conditional requests
+    public static final String ETAG_LIST_SEPARATOR = ",";
+    public static final String WEAK_ETAG_PREFIX = "W/";
+    public static final String ANY_ETAG = "*";
+    
+    // Pagination query parameters
+    public static final String LIMIT_QUERY_PARAM = "limit";
+    public static final String AFTER_QUERY_PARAM = "after";
     
     // Default values
     public static final String UNKNOWN_ADDRESS = "unknown";
+    public static final String RETRY_AFTER_SECONDS = "1";
     
     // Validation binding result names
     public static final String USER_CREATE_REQUEST_BINDING_NAME = "userCreateRequest";
     public static final String LOGIN_REQUEST_BINDING_NAME = "loginRequest";
+    public static final String TOKEN_REVOCATION_REQUEST_BINDING_NAME = "tokenRevocationRequest";
+    public static final String REFRESH_TOKEN_REQUEST_BINDING_NAME = "refreshTokenRequest";
+    public static final String AUTHORIZATION_BATCH_REQUEST_BINDING_NAME = "authorizationBatchRequest";
     
     // Token configuration
     public static final String BEARER_TOKEN_TYPE = "Bearer";
-    public static final Long DEFAULT_TOKEN_EXPIRATION_SECONDS = 86400L; // 24 hours
 
     public static final String USER_AUTHENTICATED_SUCCESS = "User authenticated successfully";
 
     // Error messages for authorization
     public static final String INSUFFICIENT_PERMISSIONS_CREATE_USERS = "Insufficient permissions to create users";
     public static final String INSUFFICIENT_PERMISSIONS_VIEW_USERS = "Insufficient permissions to view all users";
+    public static final String INSUFFICIENT_PERMISSIONS_REVOKE_TOKENS = "Insufficient permissions to revoke tokens";
+    public static final String ROUTE_NOT_PERMITTED = "Access to this route is not permitted";
     
     // Validation messages
     public static final String VALIDATION_FAILED_PREFIX = "Validation failed: ";
     public static final String VALIDATION_ERROR_SEPARATOR = "; ";
+    public static final String INVALID_LIMIT_MESSAGE = "Query parameter 'limit' must be a positive integer";
+    public static final String INVALID_CURSOR_MESSAGE = "Query parameter 'after' must be a user id";
     
     // Log messages specific to Handler
     public static final String LOGIN_REQUEST_RECEIVED_LOG = "Login request received from: {}";
     public static final String LOGIN_VALIDATION_FAILED_LOG = "Login validation failed: {}";
+    public static final String LOGIN_THROTTLED_BY_IP_LOG = "Login attempt throttled by per-IP limit";
+    public static final String LOGIN_THROTTLED_BY_EMAIL_LOG = "Login attempt throttled by per-email limit";
     public static final String AUTHENTICATION_FAILED_LOG = "Authentication failed: {}";
-    
-    // JSON error response templates
-    public static final String ERROR_JSON_TEMPLATE = "{\"error\":\"%s\"}";
+    public static final String LOGOUT_FAILED_LOG = "Logout failed: {}";
+    public static final String TOKEN_REVOCATION_FAILED_LOG = "Token revocation failed: {}";
+    public static final String TOKEN_REFRESH_FAILED_LOG = "Token refresh failed: {}";
+    public static final String AUTHORIZATION_BATCH_FAILED_LOG = "Batch authorization failed: {}";
     
     private HandlerConstants() {
         // Utility class - prevent instantiation
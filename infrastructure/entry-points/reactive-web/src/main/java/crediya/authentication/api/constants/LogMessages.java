@@ -8,6 +8,7 @@ public final class LogMessages {
     
     // Request logging templates
     public static final String POST_REQUEST_RECEIVED = "Received POST request to create user from IP: {}, User-Agent: {}";
+    public static final String BATCH_POST_REQUEST_RECEIVED = "Received POST request to import users from IP: {}, User-Agent: {}";
     public static final String GET_REQUEST_RECEIVED = "Received GET request to retrieve all users from IP: {}, User-Agent: {}";
     
     // Processing logging templates
@@ -19,6 +20,7 @@ public final class LogMessages {
     // Error logging templates
     public static final String DOMAIN_VALIDATION_FAILED = "Domain validation failed: {}";
     public static final String POST_REQUEST_ERROR = "Error processing POST /users request: {}";
+    public static final String BATCH_POST_REQUEST_ERROR = "Error processing POST /users:batch request: {}";
     public static final String GET_REQUEST_ERROR = "Error processing GET /users request: {}";
     public static final String VALIDATION_FAILED = "Request validation failed: {}";
     
@@ -27,12 +29,15 @@ public final class LogMessages {
     public static final String DATA_INTEGRITY_VIOLATION = "Data integrity violation: {}";
     public static final String BUSINESS_VALIDATION_ERROR = "Business validation error: {}";
     public static final String UNEXPECTED_ERROR = "Unexpected error: {}";
+    public static final String REQUEST_REJECTED_SATURATED = "Request rejected, worker pool saturated: {}";
     
     // Error response messages
     public static final String EMAIL_ALREADY_REGISTERED = "Email already registered";
     public static final String DATA_CONFLICT_OCCURRED = "Data conflict occurred";
     public static final String VALIDATION_FAILED_MESSAGE = "Request validation failed";
     public static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred";
+    public static final String SERVICE_BUSY_MESSAGE = "Service is temporarily overloaded, please retry later";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS_MESSAGE = "Too many login attempts, please retry later";
     
     // Domain use case logging templates
     public static final String STARTING_USER_REGISTRATION = "Starting user registration use case";
@@ -0,0 +1,28 @@
+package crediya.authentication.api.dto;
+
+import crediya.authentication.api.constants.ErrorMessages;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorizationBatchRequest {
+
+    // The end user's access token, forwarded by the calling service
+    @NotBlank(message = ErrorMessages.AUTHORIZATION_TOKEN_REQUIRED)
+    private String token;
+
+    @NotEmpty(message = ErrorMessages.PERMISSION_CHECKS_REQUIRED)
+    private List<@Valid AuthorizationCheckRequest> checks;
+}
@@ -0,0 +1,15 @@
+package crediya.authentication.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AuthorizationBatchResponse {
+    private final String subject;
+    private final String role;
+    // Same order as the request's checks
+    private final List<AuthorizationDecisionResponse> decisions;
+}
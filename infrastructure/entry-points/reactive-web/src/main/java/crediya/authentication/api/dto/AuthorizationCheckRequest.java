@@ -0,0 +1,23 @@
+package crediya.authentication.api.dto;
+
+import crediya.authentication.api.constants.ErrorMessages;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorizationCheckRequest {
+
+    @NotBlank(message = ErrorMessages.PERMISSION_REQUIRED)
+    private String permission;
+
+    // Optional - for resource-level rules such as "own loan applications only"
+    private String targetResourceId;
+}
@@ -0,0 +1,13 @@
+package crediya.authentication.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuthorizationDecisionResponse {
+    private final String permission;
+    private final String targetResourceId;
+    private final boolean authorized;
+    private final String reason;
+}
@@ -9,4 +9,6 @@ public class LoginResponse {
     private final String token;
     private final String tokenType;
     private final Long expiresIn;
+    private final String refreshToken;
+    private final Long refreshExpiresIn;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package crediya.authentication.api.dto;
+
+import crediya.authentication.api.constants.ErrorMessages;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = ErrorMessages.REFRESH_TOKEN_REQUIRED)
+    private String refreshToken;
+}
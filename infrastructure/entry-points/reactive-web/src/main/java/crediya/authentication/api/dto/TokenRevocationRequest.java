@@ -0,0 +1,25 @@
+package crediya.authentication.api.dto;
+
+import crediya.authentication.api.constants.ErrorMessages;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationRequest {
+
+    @NotBlank(message = ErrorMessages.TOKEN_ID_REQUIRED)
+    private String tokenId;
+
+    // Optional; when absent the revocation is kept for the maximum token lifetime
+    private Instant expiresAt;
+}
@@ -0,0 +1,30 @@
+package crediya.authentication.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one item of a batch user import")
+public class UserImportResponse {
+
+    @Schema(description = "Zero-based position of the item in the request", example = "0")
+    private long index;
+
+    @Schema(description = "Email of the item", example = "john.doe@example.com")
+    private String email;
+
+    @Schema(description = "CREATED, ALREADY_EXISTS, REJECTED or FAILED", example = "CREATED")
+    private String status;
+
+    @Schema(description = "Identifier of the created user", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String userId;
+
+    @Schema(description = "Reason the item was not created", example = "Email already registered")
+    private String message;
+}
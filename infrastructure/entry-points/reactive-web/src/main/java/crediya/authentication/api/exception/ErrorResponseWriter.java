@@ -0,0 +1,109 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One error body serialized ahead of time. Bodies with a timestamp keep the JSON before and
+ * after it as UTF-8 bytes and write the current UTC time (yyyy-MM-ddTHH:mm:ss.SSSZ) straight
+ * into a buffer from the response's (pooled) factory; bodies without one are shared bytes.
+ * Create instances once, as constants, and reuse them for every response.
+ */
+public final class ErrorResponseWriter {
+
+    private final HttpStatus status;
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final String retryAfter;
+
+    private ErrorResponseWriter(HttpStatus status, byte[] prefix, byte[] suffix, String retryAfter) {
+        this.status = status;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * {@code {"timestamp":"...","status":<code>,"error":"...","message":"..."}}
+     */
+    public static ErrorResponseWriter of(HttpStatus status, String error, String message) {
+        String suffix = "\",\"status\":" + status.value()
+                + ",\"error\":\"" + escape(error)
+                + "\",\"message\":\"" + escape(message) + "\"}";
+        return new ErrorResponseWriter(status, utf8("{\"timestamp\":\""), utf8(suffix), null);
+    }
+
+    /**
+     * {@code {"error":"..."}}, without timestamp
+     */
+    public static ErrorResponseWriter errorOnly(HttpStatus status, String error) {
+        return new ErrorResponseWriter(status, utf8("{\"error\":\"" + escape(error) + "\"}"), null, null);
+    }
+
+    /**
+     * Same body, also sending Retry-After with the given number of seconds.
+     */
+    public ErrorResponseWriter withRetryAfter(String seconds) {
+        return new ErrorResponseWriter(status, prefix, suffix, seconds);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Writes status, headers and body to a raw response, e.g. from a WebFilter or exception handler.
+     */
+    public Mono<Void> write(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (retryAfter != null) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return response.writeWith(Mono.fromSupplier(() -> render(response.bufferFactory(), System.currentTimeMillis())));
+    }
+
+    /**
+     * The same response for functional endpoints.
+     */
+    public Mono<ServerResponse> toServerResponse() {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON);
+        if (retryAfter != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return builder.body((message, context) ->
+                message.writeWith(Mono.fromSupplier(() -> render(message.bufferFactory(), System.currentTimeMillis()))));
+    }
+
+    DataBuffer render(DataBufferFactory bufferFactory, long epochMillis) {
+        if (suffix == null) {
+            return bufferFactory.wrap(prefix);
+        }
+        char[] timestamp = new char[UtcTimestamps.LENGTH];
+        UtcTimestamps.write(timestamp, 0, epochMillis);
+        DataBuffer buffer = bufferFactory.allocateBuffer(prefix.length + timestamp.length + suffix.length);
+        buffer.write(prefix);
+        for (char c : timestamp) {
+            buffer.write((byte) c);
+        }
+        buffer.write(suffix);
+        return buffer;
+    }
+
+    private static String escape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,13 +1,18 @@
 package crediya.authentication.api.exception;
 
 import crediya.authentication.api.constants.ErrorMessages;
+import crediya.authentication.api.constants.HandlerConstants;
 import crediya.authentication.api.constants.LogMessages;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
 import crediya.authentication.model.exception.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,119 +20,107 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.reactive.resource.NoResourceFoundException;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final ErrorResponseWriter SERVICE_UNAVAILABLE = ErrorResponseWriter.of(
+            HttpStatus.SERVICE_UNAVAILABLE, ErrorMessages.SERVICE_UNAVAILABLE, LogMessages.SERVICE_BUSY_MESSAGE)
+            .withRetryAfter(HandlerConstants.RETRY_AFTER_SECONDS);
+
+    private static final Classification DATA_CONFLICT =
+            new Classification(ProblemType.CONFLICT, LogMessages.DATA_CONFLICT_OCCURRED);
+
+    private static final Map<Reason, Classification> BY_REASON = new EnumMap<>(Map.of(
+            Reason.DUPLICATE_EMAIL,
+            new Classification(ProblemType.DUPLICATE_EMAIL, ErrorMessages.EMAIL_ALREADY_REGISTERED),
+            Reason.INVALID_EMAIL,
+            new Classification(ProblemType.CONSTRAINT_VIOLATION, ErrorMessages.EMAIL_MUST_BE_VALID),
+            Reason.SALARY_OUT_OF_RANGE,
+            new Classification(ProblemType.CONSTRAINT_VIOLATION, ErrorMessages.BASE_SALARY_OUT_OF_RANGE),
+            Reason.UNKNOWN_ROLE,
+            new Classification(ProblemType.CONSTRAINT_VIOLATION, ErrorMessages.ROLE_DOES_NOT_EXIST),
+            Reason.CHECK_VIOLATION,
+            new Classification(ProblemType.CONSTRAINT_VIOLATION, ErrorMessages.CONSTRAINT_VIOLATED),
+            // Requests are validated before reaching the database, so a missing column is a server fault
+            Reason.MISSING_VALUE,
+            new Classification(ProblemType.INTERNAL_SERVER_ERROR, LogMessages.UNEXPECTED_ERROR_MESSAGE),
+            Reason.CONFLICT, DATA_CONFLICT));
+
     @ExceptionHandler(WebExchangeBindException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleValidationExceptions(WebExchangeBindException ex) {
-        log.error(LogMessages.VALIDATION_ERROR, "Request validation failed with {} field errors", ex.getFieldErrorCount());
-        
-        Map<String, String> fieldErrors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .collect(Collectors.toMap(
-                        error -> error.getField(),
-                        error -> error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value"
-                ));
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
-        errorResponse.put("error", ErrorMessages.VALIDATION_FAILED);
-        errorResponse.put("message", LogMessages.VALIDATION_FAILED_MESSAGE);
-        errorResponse.put("fieldErrors", fieldErrors);
-
-        return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+    public Mono<ResponseEntity<ProblemResponse>> handleValidationExceptions(WebExchangeBindException ex) {
+        // Client errors can arrive in bursts, so 4xx paths log at debug
+        log.debug(LogMessages.VALIDATION_ERROR, ex.getFieldErrorCount());
+
+        List<FieldError> errors = ex.getBindingResult().getFieldErrors();
+        List<ProblemResponse.FieldViolation> fieldErrors = new ArrayList<>(errors.size());
+        for (FieldError error : errors) {
+            String message = error.getDefaultMessage();
+            fieldErrors.add(new ProblemResponse.FieldViolation(error.getField(),
+                    message != null ? message : ErrorMessages.INVALID_VALUE));
+        }
+
+        return respond(ProblemResponse.of(ProblemType.VALIDATION_FAILED, LogMessages.VALIDATION_FAILED_MESSAGE)
+                .withFieldErrors(fieldErrors));
+    }
+
+    @ExceptionHandler(DataConstraintViolationException.class)
+    public Mono<ResponseEntity<ProblemResponse>> handleDataConstraintViolation(DataConstraintViolationException ex) {
+        log.error(LogMessages.DATA_INTEGRITY_VIOLATION, ex.getMessage());
+
+        Classification classification = BY_REASON.getOrDefault(ex.getReason(), DATA_CONFLICT);
+        return respond(ProblemResponse.of(classification.problemType(), classification.detail()));
     }
 
+    /**
+     * Violations the persistence adapter did not translate; without a reason they stay a 409.
+     */
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+    public Mono<ResponseEntity<ProblemResponse>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
         log.error(LogMessages.DATA_INTEGRITY_VIOLATION, ex.getMessage());
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        
-        String exceptionMessage = ex.getMessage() != null ? ex.getMessage().toLowerCase() : "";
-        
-        if (exceptionMessage.contains("not-null constraint") && exceptionMessage.contains("user_id")) {
-            errorResponse.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-            errorResponse.put("error", ErrorMessages.INTERNAL_SERVER_ERROR);
-            errorResponse.put("message", LogMessages.UNEXPECTED_ERROR_MESSAGE);
-            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
-        } else if (exceptionMessage.contains("duplicate key value") && exceptionMessage.contains("email")) {
-            errorResponse.put("status", HttpStatus.CONFLICT.value());
-            errorResponse.put("error", "Conflict");
-            errorResponse.put("message", LogMessages.EMAIL_ALREADY_REGISTERED);
-            return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
-        } else {
-            errorResponse.put("status", HttpStatus.CONFLICT.value());
-            errorResponse.put("error", "Conflict");
-            errorResponse.put("message", LogMessages.DATA_CONFLICT_OCCURRED);
-            return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
-        }
+        return respond(ProblemResponse.of(DATA_CONFLICT.problemType(), DATA_CONFLICT.detail()));
     }
 
     @ExceptionHandler(ValidationException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleDomainValidationException(ValidationException ex) {
-        log.error(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
-        errorResponse.put("error", ErrorMessages.BAD_REQUEST);
-        errorResponse.put("message", ex.getMessage());
-
-        return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+    public Mono<ResponseEntity<ProblemResponse>> handleDomainValidationException(ValidationException ex) {
+        log.debug(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
+        return respond(ProblemResponse.of(ProblemType.BAD_REQUEST, ex.getMessage()));
     }
 
     @ExceptionHandler(BusinessRuleViolationException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleBusinessRuleViolation(BusinessRuleViolationException ex) {
-        log.error(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.CONFLICT.value());
-        errorResponse.put("error", "Conflict");
-        errorResponse.put("message", ex.getMessage());
-
-        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
+    public Mono<ResponseEntity<ProblemResponse>> handleBusinessRuleViolation(BusinessRuleViolationException ex) {
+        log.debug(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
+        return respond(ProblemResponse.of(ProblemType.CONFLICT, ex.getMessage()));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleValidationException(IllegalArgumentException ex) {
-        log.error(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
-        errorResponse.put("error", "Bad Request");
-        errorResponse.put("message", ex.getMessage());
+    public Mono<ResponseEntity<ProblemResponse>> handleValidationException(IllegalArgumentException ex) {
+        log.debug(LogMessages.BUSINESS_VALIDATION_ERROR, ex.getMessage());
+        return respond(ProblemResponse.of(ProblemType.BAD_REQUEST, ex.getMessage()));
+    }
 
-        return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+    @ExceptionHandler(RejectedExecutionException.class)
+    public Mono<Void> handleRejectedExecution(RejectedExecutionException ex, ServerHttpResponse response) {
+        log.warn(LogMessages.REQUEST_REJECTED_SATURATED, ex.getMessage());
+        // Fired in bursts when the hashing pool is saturated, so the body is pre-serialized
+        return SERVICE_UNAVAILABLE.write(response);
     }
 
     @ExceptionHandler(NoResourceFoundException.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleNoResourceFoundException(NoResourceFoundException ex) {
-        log.error("Resource not found: {}", ex.getMessage());
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
-        errorResponse.put("error", "Not Found");
-        errorResponse.put("message", ErrorMessages.RESOURCE_NOT_FOUND);
-        errorResponse.put("details", ex.getMessage());
-
-        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse));
+    public Mono<ResponseEntity<ProblemResponse>> handleNoResourceFoundException(NoResourceFoundException ex) {
+        log.debug("Resource not found: {}", ex.getMessage());
+        return respond(ProblemResponse.of(ProblemType.NOT_FOUND, ErrorMessages.RESOURCE_NOT_FOUND)
+                .withDetails(ex.getMessage()));
     }
 
     @ExceptionHandler(Exception.class)
-    public Mono<ResponseEntity<Map<String, Object>>> handleGenericException(Exception ex) {
+    public Mono<ResponseEntity<ProblemResponse>> handleGenericException(Exception ex) {
         // Avoid calling getMessage() on WebExchangeBindException as it requires MethodParameter
         if (ex instanceof WebExchangeBindException) {
             String errorMessage = "Validation error with " + ((WebExchangeBindException) ex).getFieldErrorCount() + " field errors";
@@ -139,12 +132,15 @@ public class GlobalExceptionHandler {
             log.error(LogMessages.UNEXPECTED_ERROR, ex.getMessage(), ex);
         }
         
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        errorResponse.put("error", "Internal Server Error");
-        errorResponse.put("message", LogMessages.UNEXPECTED_ERROR_MESSAGE);
+        return respond(ProblemResponse.of(ProblemType.INTERNAL_SERVER_ERROR, LogMessages.UNEXPECTED_ERROR_MESSAGE));
+    }
+
+    private static Mono<ResponseEntity<ProblemResponse>> respond(ProblemResponse problem) {
+        return Mono.just(ResponseEntity.status(problem.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem));
+    }
 
-        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
+    private record Classification(ProblemType problemType, String detail) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Error body in RFC 7807 shape ({@code type}, {@code title}, {@code status}, {@code detail}).
+ * {@code error} and {@code message} are also written, as extension members, so existing
+ * clients and the pre-serialized 401/403/503 bodies keep reading the same fields.
+ *
+ * @param fieldErrors request fields that failed validation, in binding order; empty otherwise
+ * @param details     extra diagnostic text, e.g. the unmatched path on a 404; may be null
+ */
+@JsonSerialize(using = ProblemResponseSerializer.class)
+public record ProblemResponse(
+        ProblemType problemType,
+        String detail,
+        Instant timestamp,
+        List<FieldViolation> fieldErrors,
+        String details) {
+
+    public ProblemResponse {
+        fieldErrors = fieldErrors == null ? List.of() : fieldErrors;
+    }
+
+    public static ProblemResponse of(ProblemType problemType, String detail) {
+        return new ProblemResponse(problemType, detail, Instant.now(), List.of(), null);
+    }
+
+    public ProblemResponse withFieldErrors(List<FieldViolation> fieldErrors) {
+        return new ProblemResponse(problemType, detail, timestamp, fieldErrors, details);
+    }
+
+    public ProblemResponse withDetails(String details) {
+        return new ProblemResponse(problemType, detail, timestamp, fieldErrors, details);
+    }
+
+    public int status() {
+        return problemType.getStatus().value();
+    }
+
+    public String title() {
+        return problemType.getTitle();
+    }
+
+    public record FieldViolation(String field, String message) {
+    }
+}
@@ -0,0 +1,87 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streams a {@link ProblemResponse} field by field with pre-encoded names, instead of
+ * Jackson introspecting a {@code Map<String, Object>} and resolving a serializer per value.
+ * Field errors are written as an object keyed by field; the first message per field wins.
+ */
+public class ProblemResponseSerializer extends StdSerializer<ProblemResponse> {
+
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DETAIL = new SerializedString("detail");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString FIELD_ERRORS = new SerializedString("fieldErrors");
+    private static final SerializableString DETAILS = new SerializedString("details");
+
+    public ProblemResponseSerializer() {
+        super(ProblemResponse.class);
+    }
+
+    @Override
+    public void serialize(ProblemResponse problem, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        ProblemType problemType = problem.problemType();
+        generator.writeStartObject();
+        generator.writeFieldName(TYPE);
+        generator.writeString(problemType.serializedType());
+        generator.writeFieldName(TITLE);
+        generator.writeString(problemType.serializedTitle());
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(problem.status());
+        generator.writeFieldName(DETAIL);
+        generator.writeString(problem.detail());
+        generator.writeFieldName(TIMESTAMP);
+        char[] timestamp = new char[UtcTimestamps.LENGTH];
+        UtcTimestamps.write(timestamp, 0, problem.timestamp().toEpochMilli());
+        generator.writeString(timestamp, 0, timestamp.length);
+        generator.writeFieldName(ERROR);
+        generator.writeString(problemType.serializedTitle());
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(problem.detail());
+        if (!problem.fieldErrors().isEmpty()) {
+            writeFieldErrors(problem, generator);
+        }
+        if (problem.details() != null) {
+            generator.writeFieldName(DETAILS);
+            generator.writeString(problem.details());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeFieldErrors(ProblemResponse problem, JsonGenerator generator) throws IOException {
+        generator.writeFieldName(FIELD_ERRORS);
+        generator.writeStartObject();
+        List<ProblemResponse.FieldViolation> fieldErrors = problem.fieldErrors();
+        for (int i = 0; i < fieldErrors.size(); i++) {
+            String field = fieldErrors.get(i).field();
+            if (isFirstOccurrence(fieldErrors, i, field)) {
+                generator.writeFieldName(field);
+                generator.writeString(fieldErrors.get(i).message());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    // Few fields per request, so a backwards scan is cheaper than a HashSet
+    private static boolean isFirstOccurrence(List<ProblemResponse.FieldViolation> fieldErrors, int index, String field) {
+        for (int i = 0; i < index; i++) {
+            if (fieldErrors.get(i).field().equals(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
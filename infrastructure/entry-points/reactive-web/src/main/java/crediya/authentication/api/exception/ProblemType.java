@@ -0,0 +1,56 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import crediya.authentication.api.constants.ErrorMessages;
+import org.springframework.http.HttpStatus;
+
+/**
+ * RFC 7807 problem types returned by {@link GlobalExceptionHandler}. The {@code type} and
+ * {@code title} members are JSON-escaped once here instead of on every response.
+ */
+public enum ProblemType {
+
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, ErrorMessages.PROBLEM_TYPE_DEFAULT, ErrorMessages.BAD_REQUEST),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST, ErrorMessages.PROBLEM_TYPE_VALIDATION_FAILED, ErrorMessages.VALIDATION_FAILED),
+    CONSTRAINT_VIOLATION(HttpStatus.BAD_REQUEST, ErrorMessages.PROBLEM_TYPE_CONSTRAINT_VIOLATION, ErrorMessages.BAD_REQUEST),
+    NOT_FOUND(HttpStatus.NOT_FOUND, ErrorMessages.PROBLEM_TYPE_DEFAULT, ErrorMessages.NOT_FOUND),
+    CONFLICT(HttpStatus.CONFLICT, ErrorMessages.PROBLEM_TYPE_DEFAULT, ErrorMessages.CONFLICT),
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, ErrorMessages.PROBLEM_TYPE_DUPLICATE_EMAIL, ErrorMessages.CONFLICT),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessages.PROBLEM_TYPE_DEFAULT,
+            ErrorMessages.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+    private final String type;
+    private final String title;
+    private final SerializableString serializedType;
+    private final SerializableString serializedTitle;
+
+    ProblemType(HttpStatus status, String type, String title) {
+        this.status = status;
+        this.type = type;
+        this.title = title;
+        this.serializedType = new SerializedString(type);
+        this.serializedTitle = new SerializedString(title);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    SerializableString serializedType() {
+        return serializedType;
+    }
+
+    SerializableString serializedTitle() {
+        return serializedTitle;
+    }
+}
@@ -0,0 +1,52 @@
+package crediya.authentication.api.exception;
+
+/**
+ * Writes epoch millis as UTC ISO-8601 with millisecond precision (yyyy-MM-ddTHH:mm:ss.SSSZ),
+ * always {@value #LENGTH} ASCII characters, without going through java.time formatters.
+ */
+final class UtcTimestamps {
+
+    static final int LENGTH = 24;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private UtcTimestamps() {
+    }
+
+    // Civil date from epoch days (H. Hinnant's days_from_civil inverse), written digit by digit
+    static void write(char[] target, int offset, long epochMillis) {
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int position = writeDigits(target, offset, year, 1_000);
+        target[position++] = '-';
+        position = writeDigits(target, position, month, 10);
+        target[position++] = '-';
+        position = writeDigits(target, position, day, 10);
+        target[position++] = 'T';
+        position = writeDigits(target, position, millisOfDay / 3_600_000, 10);
+        target[position++] = ':';
+        position = writeDigits(target, position, millisOfDay / 60_000 % 60, 10);
+        target[position++] = ':';
+        position = writeDigits(target, position, millisOfDay / 1_000 % 60, 10);
+        target[position++] = '.';
+        position = writeDigits(target, position, millisOfDay % 1_000, 100);
+        target[position] = 'Z';
+    }
+
+    private static int writeDigits(char[] target, int position, int value, int highestDivisor) {
+        for (int divisor = highestDivisor; divisor > 0; divisor /= 10) {
+            target[position++] = (char) ('0' + value / divisor % 10);
+        }
+        return position;
+    }
+}
@@ -1,8 +1,10 @@
 package crediya.authentication.api.mapper;
 
 import crediya.authentication.api.dto.UserCreateRequest;
+import crediya.authentication.api.dto.UserImportResponse;
 import crediya.authentication.api.dto.UserResponse;
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserImportResult;
 import crediya.authentication.model.valueobjects.Email;
 import crediya.authentication.model.valueobjects.Salary;
 import org.mapstruct.Mapper;
@@ -23,6 +25,8 @@ public interface UserResponseMapper {
     @Mapping(source = "email", target = "email", qualifiedByName = "emailToString")
     @Mapping(source = "baseSalary", target = "baseSalary", qualifiedByName = "salaryToBigDecimal")
     UserResponse toResponse(User user);
+
+    UserImportResponse toImportResponse(UserImportResult result);
     
     @Named("stringToEmail")
     default Email stringToEmail(String email) {
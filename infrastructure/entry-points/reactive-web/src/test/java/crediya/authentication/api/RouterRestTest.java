@@ -1,43 +1,71 @@
 package crediya.authentication.api;
 
 import crediya.authentication.api.config.UserPath;
+import crediya.authentication.api.config.BatchImportProperties;
+import crediya.authentication.api.config.PaginationProperties;
 import crediya.authentication.api.config.TestSecurityConfig;
-import crediya.authentication.api.config.AuthorizationService;
+import crediya.authentication.api.config.TokenPath;
+import crediya.authentication.api.config.TokenRevocationService;
+import crediya.authentication.api.config.LoginThrottle;
+import crediya.authentication.api.config.JsonWebKeySet;
+import crediya.authentication.api.config.JwtTokenManagerImpl;
+import crediya.authentication.api.config.SigningProperties;
+import crediya.authentication.api.config.AuthorizationProperties;
+import crediya.authentication.api.config.BatchAuthorizationService;
 import crediya.authentication.api.config.CorsConfig;
 import crediya.authentication.api.config.SecurityHeadersConfig;
 import crediya.authentication.api.exception.GlobalExceptionHandler;
 import crediya.authentication.api.dto.UserCreateRequest;
+import crediya.authentication.api.dto.UserImportResponse;
 import crediya.authentication.api.dto.UserResponse;
 import crediya.authentication.api.mapper.UserResponseMapper;
 import crediya.authentication.model.user.User;
+import crediya.authentication.model.user.UserImportItem;
+import crediya.authentication.model.user.UserImportResult;
 import crediya.authentication.usecase.user.UserUseCase;
 import crediya.authentication.usecase.auth.LoginUseCase;
-import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
+import crediya.authentication.model.auth.AuthenticationResult;
+import crediya.authentication.model.auth.AuthorizationResult;
 import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.auth.gateways.PasswordEncoder;
 import org.assertj.core.api.Assertions;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.validation.Validator;
+import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doNothing;
 
 
@@ -51,7 +79,8 @@ import static org.mockito.Mockito.doNothing;
     "spring.security.user.name=test",
     "spring.security.user.password=test"
 })
-@EnableConfigurationProperties(UserPath.class)
+@EnableConfigurationProperties({UserPath.class, TokenPath.class, PaginationProperties.class, BatchImportProperties.class,
+        SigningProperties.class, AuthorizationProperties.class})
 class RouterRestTest {
 
     @Autowired
@@ -63,6 +92,9 @@ class RouterRestTest {
     @MockitoBean
     private LoginUseCase loginUseCase;
     
+    @MockitoBean
+    private RefreshTokenUseCase refreshTokenUseCase;
+    
     @MockitoBean
     private UserResponseMapper userMapper;
     
@@ -70,10 +102,19 @@ class RouterRestTest {
     private Validator validator;
     
     @MockitoBean
-    private AuthorizationService authorizationService;
+    private PasswordEncoder passwordEncoder;
     
     @MockitoBean
-    private PasswordEncoder passwordEncoder;
+    private TokenRevocationService tokenRevocationService;
+    
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+    
+    @MockitoBean
+    private JwtTokenManagerImpl jwtTokenManager;
+    
+    @MockitoBean
+    private BatchAuthorizationService batchAuthorizationService;
 
     private final String users = "/api/v1/users";
 
@@ -102,12 +143,6 @@ class RouterRestTest {
             .email("correo@deprueba.com")
             .build();
 
-    @BeforeEach
-    void setUp() {
-        // Mock authorization service to allow access for new permission-based method
-        when(authorizationService.hasPermission(any(), any())).thenReturn(Mono.just(true));
-    }
-
     @Test
     void shouldPostSaveUser() {
         // Infrastructure test focuses on HTTP/JSON concerns, not domain logic
@@ -147,7 +182,7 @@ class RouterRestTest {
         // Mock the flow: Use Case returns domain objects -> Mapper converts to DTOs
         User mockUser1 = mock(User.class);
         User mockUser2 = mock(User.class);
-        when(userUseCase.getAllUsers()).thenReturn(Flux.just(mockUser1, mockUser2));
+        when(userUseCase.getUsersPage(null, 50)).thenReturn(Flux.just(mockUser1, mockUser2));
         when(userMapper.toResponse(mockUser1)).thenReturn(expectedUserResponse);
         when(userMapper.toResponse(mockUser2)).thenReturn(user2Response);
 
@@ -166,6 +201,284 @@ class RouterRestTest {
                 });
     }
 
+    @Test
+    void shouldReturnNextCursorWhenPageIsFull() {
+        String after = "550e8400-e29b-41d4-a716-446655440000";
+        User mockUser = mock(User.class);
+        when(userUseCase.getUsersPage(after, 1)).thenReturn(Flux.just(mockUser));
+        when(userMapper.toResponse(mockUser)).thenReturn(expectedUserResponse);
+
+        webTestClient.get()
+                .uri(users + "?limit=1&after=" + after)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", expectedUserResponse.getId())
+                .expectBodyList(UserResponse.class)
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldCapPageSizeAtConfiguredMaximum() {
+        when(userUseCase.getUsersPage(any(), anyInt())).thenReturn(Flux.empty());
+
+        webTestClient.get()
+                .uri(users + "?limit=100000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor");
+
+        verify(userUseCase).getUsersPage(null, 500);
+    }
+
+    @Test
+    void shouldRejectInvalidPaginationParameters() {
+        webTestClient.get()
+                .uri(users + "?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get()
+                .uri(users + "?after=not-a-user-id")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldStreamUsersAsNdjson() {
+        User mockUser1 = mock(User.class);
+        User mockUser2 = mock(User.class);
+        when(userUseCase.streamUsers(null, 500)).thenReturn(Flux.just(mockUser1, mockUser2));
+        when(userMapper.toResponse(mockUser1)).thenReturn(expectedUserResponse);
+        when(userMapper.toResponse(mockUser2)).thenReturn(expectedUserResponse);
+
+        Flux<UserResponse> body = webTestClient.get()
+                .uri(users)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(UserResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextCount(2)
+                .verifyComplete();
+        verify(userUseCase).streamUsers(eq(null), eq(500));
+    }
+
+    @Test
+    void shouldImportUsersAndStreamPerItemResults() {
+        doNothing().when(validator).validate(any(), any());
+        when(userMapper.toDomain(any(UserCreateRequest.class))).thenReturn(mock(User.class));
+        when(userUseCase.importUsers(any(), eq(500), anyInt())).thenAnswer(invocation -> {
+            Flux<UserImportItem> items = invocation.getArgument(0);
+            return items.map(item -> UserImportResult.alreadyExists(item.getIndex(), "correo@deprueba.com", "Email already registered"));
+        });
+        when(userMapper.toImportResponse(any())).thenAnswer(invocation -> {
+            UserImportResult result = invocation.getArgument(0);
+            return UserImportResponse.builder()
+                    .index(result.getIndex())
+                    .email(result.getEmail())
+                    .status(result.getStatus().name())
+                    .message(result.getMessage())
+                    .build();
+        });
+
+        Flux<UserImportResponse> body = webTestClient.post()
+                .uri("/api/v1/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(createRequest, createRequest))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(UserImportResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .assertNext(result -> assertEquals(0, result.getIndex()))
+                .assertNext(result -> {
+                    assertEquals(1, result.getIndex());
+                    assertEquals("ALREADY_EXISTS", result.getStatus());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRevokeCurrentTokenOnLogout() {
+        when(tokenRevocationService.logout(any())).thenReturn(Mono.empty());
+
+        webTestClient.post()
+                .uri("/api/v1/logout")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(tokenRevocationService).logout(any());
+    }
+
+    @Test
+    void shouldRevokeTokenById() {
+        when(tokenRevocationService.revoke("jti-123", null)).thenReturn(Mono.empty());
+
+        webTestClient.post()
+                .uri("/api/v1/tokens:revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"tokenId\":\"jti-123\"}")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(tokenRevocationService).revoke("jti-123", null);
+    }
+
+    @Test
+    void shouldThrottleLoginByClientBeforeReadingCredentials() {
+        when(loginThrottle.acquireForClient(any())).thenReturn(2_500_000_000L);
+        when(loginThrottle.reject(2_500_000_000L)).thenReturn(ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "3")
+                .build());
+
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"user@example.com\",\"password\":\"secret\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "3");
+
+        verify(loginThrottle, never()).acquireForEmail(any());
+        verify(loginUseCase, never()).authenticate(any());
+    }
+
+    @Test
+    void shouldThrottleLoginByNormalizedEmail() {
+        when(loginThrottle.acquireForEmail("user@example.com")).thenReturn(1L);
+        when(loginThrottle.reject(1L)).thenReturn(ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS).build());
+
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\" User@Example.com \",\"password\":\"secret\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        verify(loginUseCase, never()).authenticate(any());
+    }
+
+    @Test
+    void shouldIssueNewTokensForRefreshToken() {
+        when(refreshTokenUseCase.refresh("refresh-1")).thenReturn(Mono.just(AuthenticationResult.builder()
+                .token("access-2")
+                .expiresIn(Duration.ofMinutes(15))
+                .refreshToken("refresh-2")
+                .refreshTokenExpiresIn(Duration.ofDays(7))
+                .build()));
+
+        webTestClient.post()
+                .uri("/api/v1/token/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"refreshToken\":\"refresh-1\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isEqualTo("access-2")
+                .jsonPath("$.tokenType").isEqualTo("Bearer")
+                .jsonPath("$.expiresIn").isEqualTo(900)
+                .jsonPath("$.refreshToken").isEqualTo("refresh-2")
+                .jsonPath("$.refreshExpiresIn").isEqualTo(604800);
+    }
+
+    @Test
+    void shouldRejectInvalidRefreshToken() {
+        when(refreshTokenUseCase.refresh("stale")).thenReturn(
+                Mono.error(new BusinessRuleViolationException("Invalid or expired refresh token")));
+
+        webTestClient.post()
+                .uri("/api/v1/token/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"refreshToken\":\"stale\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void shouldServeJwksWithStrongETag() {
+        when(jwtTokenManager.getJsonWebKeySet()).thenReturn(JsonWebKeySet.EMPTY);
+
+        webTestClient.get()
+                .uri("/.well-known/jwks.json")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, JsonWebKeySet.EMPTY.getETag())
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=300, public")
+                .expectBody().json("{\"keys\":[]}");
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenJwksETagMatches() {
+        when(jwtTokenManager.getJsonWebKeySet()).thenReturn(JsonWebKeySet.EMPTY);
+
+        webTestClient.get()
+                .uri("/.well-known/jwks.json")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + JsonWebKeySet.EMPTY.getETag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, JsonWebKeySet.EMPTY.getETag())
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldDecideEveryCheckOfABatchFromOneToken() {
+        VerifiedToken verifiedToken = VerifiedToken.builder().subject("customer-1").roleName("CUSTOMER").build();
+        when(batchAuthorizationService.verify("user-token")).thenReturn(Optional.of(verifiedToken));
+        when(batchAuthorizationService.authorizeAll(eq(verifiedToken), any())).thenReturn(List.of(
+                AuthorizationResult.authorized(Permission.VIEW_OWN_LOAN_APPLICATION),
+                AuthorizationResult.denied(Permission.APPROVE_LOAN_APPLICATION, "Role CUSTOMER does not have permission APPROVE_LOAN_APPLICATION")));
+
+        webTestClient.post()
+                .uri("/api/v1/authorize:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"token\":\"user-token\",\"checks\":["
+                        + "{\"permission\":\"VIEW_OWN_LOAN_APPLICATION\",\"targetResourceId\":\"customer-1\"},"
+                        + "{\"permission\":\"APPROVE_LOAN_APPLICATION\"}]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.subject").isEqualTo("customer-1")
+                .jsonPath("$.decisions.length()").isEqualTo(2)
+                .jsonPath("$.decisions[0].authorized").isEqualTo(true)
+                .jsonPath("$.decisions[0].targetResourceId").isEqualTo("customer-1")
+                .jsonPath("$.decisions[1].permission").isEqualTo("APPROVE_LOAN_APPLICATION")
+                .jsonPath("$.decisions[1].authorized").isEqualTo(false);
+
+        verify(batchAuthorizationService).authorizeAll(eq(verifiedToken), argThat((List<PermissionCheck> checks) ->
+                checks.size() == 2 && "customer-1".equals(checks.get(0).getTargetResourceId())));
+    }
+
+    @Test
+    void shouldRejectBatchWithInvalidToken() {
+        when(batchAuthorizationService.verify("revoked-token")).thenReturn(Optional.empty());
+
+        webTestClient.post()
+                .uri("/api/v1/authorize:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"token\":\"revoked-token\",\"checks\":[{\"permission\":\"CREATE_USER\"}]}")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(batchAuthorizationService, never()).authorizeAll(any(), any());
+    }
+
+    @Test
+    void shouldRejectBatchWithUnknownPermissionBeforeVerifyingToken() {
+        webTestClient.post()
+                .uri("/api/v1/authorize:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"token\":\"user-token\",\"checks\":[{\"permission\":\"FLY\"}]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(batchAuthorizationService, never()).verify(any());
+    }
+
     @Test
     void shouldGetNotFoundWhenPathIsIncorrect() {
         webTestClient.post()
@@ -0,0 +1,84 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.PermissionCheck;
+import crediya.authentication.model.role.RoleType;
+import crediya.authentication.usecase.auth.AuthorizationUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationDecisionCacheTest {
+
+    private static final String SUBJECT = "customer-1";
+
+    private final AuthorizationUseCase authorizationUseCase = new AuthorizationUseCase(null);
+    private final List<List<PermissionCheck>> decided = new ArrayList<>();
+    private AuthorizationProperties authorizationProperties;
+
+    @BeforeEach
+    void setUp() {
+        authorizationProperties = new AuthorizationProperties();
+        authorizationProperties.getDecisionCache().setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should decide only the checks not cached and keep request order")
+    void shouldDecideOnlyMissesInRequestOrder() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(authorizationProperties, new SimpleMeterRegistry());
+        PermissionCheck own = PermissionCheck.of(Permission.VIEW_OWN_LOAN_APPLICATION, SUBJECT);
+        PermissionCheck other = PermissionCheck.of(Permission.VIEW_OWN_LOAN_APPLICATION, "customer-2");
+        PermissionCheck approve = PermissionCheck.of(Permission.APPROVE_LOAN_APPLICATION, null);
+
+        cache.getAll(SUBJECT, RoleType.CUSTOMER, List.of(own), decider(RoleType.CUSTOMER));
+        List<AuthorizationResult> results = cache.getAll(SUBJECT, RoleType.CUSTOMER, List.of(other, own, approve),
+                decider(RoleType.CUSTOMER));
+
+        assertThat(results).extracting(AuthorizationResult::isAuthorized).containsExactly(false, true, false);
+        assertThat(results.get(2).getPermission()).isEqualTo(Permission.APPROVE_LOAN_APPLICATION);
+        assertThat(decided).hasSize(2);
+        assertThat(decided.get(1)).extracting(PermissionCheck::getTargetResourceId)
+                .containsExactlyInAnyOrder("customer-2", null);
+    }
+
+    @Test
+    @DisplayName("Should keep decisions of different roles for the same subject apart")
+    void shouldKeyDecisionsByRole() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(authorizationProperties, new SimpleMeterRegistry());
+        List<PermissionCheck> checks = List.of(PermissionCheck.of(Permission.CREATE_USER, null));
+
+        AuthorizationResult asCustomer = cache.getAll(SUBJECT, RoleType.CUSTOMER, checks, decider(RoleType.CUSTOMER)).get(0);
+        AuthorizationResult asAdvisor = cache.getAll(SUBJECT, RoleType.ADVISOR, checks, decider(RoleType.ADVISOR)).get(0);
+
+        assertThat(asCustomer.isAuthorized()).isFalse();
+        assertThat(asAdvisor.isAuthorized()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should decide every check when the cache is disabled")
+    void shouldPassThroughWhenDisabled() {
+        authorizationProperties.getDecisionCache().setEnabled(false);
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(authorizationProperties, new SimpleMeterRegistry());
+        List<PermissionCheck> checks = List.of(PermissionCheck.of(Permission.CREATE_LOAN_APPLICATION, SUBJECT));
+
+        cache.getAll(SUBJECT, RoleType.CUSTOMER, checks, decider(RoleType.CUSTOMER));
+        cache.getAll(SUBJECT, RoleType.CUSTOMER, checks, decider(RoleType.CUSTOMER));
+
+        assertThat(decided).hasSize(2);
+    }
+
+    private Function<List<PermissionCheck>, List<AuthorizationResult>> decider(RoleType roleType) {
+        return checks -> {
+            decided.add(checks);
+            return authorizationUseCase.decideAll(SUBJECT, roleType, checks);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package crediya.authentication.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchImportPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(PropertiesConfiguration.class);
+
+    @Test
+    void shouldAcceptChunkSizeWithinBindParameterLimit() {
+        contextRunner.withPropertyValues("routes.batch-import.chunk-size=6553")
+                .run(context -> assertThat(context.getBean(BatchImportProperties.class).getChunkSize())
+                        .isEqualTo(6553));
+    }
+
+    @Test
+    void shouldFailStartupWhenChunkSizeExceedsBindParameterLimit() {
+        contextRunner.withPropertyValues("routes.batch-import.chunk-size=6554")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void shouldFailStartupWhenChunkSizeIsZero() {
+        contextRunner.withPropertyValues("routes.batch-import.chunk-size=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void shouldFailStartupWhenHashConcurrencyIsZero() {
+        contextRunner.withPropertyValues("routes.batch-import.hash-concurrency=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(BatchImportProperties.class)
+    static class PropertiesConfiguration {
+    }
+}
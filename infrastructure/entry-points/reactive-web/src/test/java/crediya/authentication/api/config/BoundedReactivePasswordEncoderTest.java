@@ -0,0 +1,101 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.gateways.PasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedReactivePasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private BoundedReactivePasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(0);
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        encoder = new BoundedReactivePasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(String rawPassword) {
+                awaitRelease();
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String encodedPassword) {
+                awaitRelease();
+                return encodedPassword.equals("hashed-" + rawPassword);
+            }
+        }, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash off the calling thread")
+    void shouldHashOffTheCallingThread() {
+        String callingThread = Thread.currentThread().getName();
+
+        StepVerifier.create(encoder.encode("secret")
+                        .map(hash -> hash + "@" + Thread.currentThread().getName()))
+                .assertNext(result -> {
+                    assertThat(result).startsWith("hashed-secret@password-hashing-");
+                    assertThat(result).doesNotEndWith("@" + callingThread);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should verify passwords and record latency and queue wait")
+    void shouldVerifyPasswordsAndRecordMetrics() {
+        StepVerifier.create(encoder.matches("secret", "hashed-secret"))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("auth.password.hash.latency").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash.queue.wait").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject fast when pool and queue are saturated")
+    void shouldRejectFastWhenSaturated() {
+        release = new CountDownLatch(1);
+        // One task occupies the single worker, a second fills the queue
+        encoder.encode("first").subscribe();
+        encoder.encode("second").subscribe();
+
+        StepVerifier.create(encoder.encode("third"))
+                .expectError(RejectedExecutionException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
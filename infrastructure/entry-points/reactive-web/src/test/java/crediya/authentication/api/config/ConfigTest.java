@@ -6,6 +6,7 @@ import crediya.authentication.api.dto.UserResponse;
 import crediya.authentication.api.mapper.UserResponseMapper;
 import crediya.authentication.usecase.user.UserUseCase;
 import crediya.authentication.usecase.auth.LoginUseCase;
+import crediya.authentication.usecase.auth.RefreshTokenUseCase;
 import crediya.authentication.model.auth.gateways.PasswordEncoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,17 +19,18 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 
 @ContextConfiguration(classes = {RouterRest.class, Handler.class})
 @WebFluxTest
 @Import({CorsConfig.class, SecurityHeadersConfig.class, TestSecurityConfig.class})
-@EnableConfigurationProperties(UserPath.class)
+@EnableConfigurationProperties({UserPath.class, TokenPath.class, PaginationProperties.class, BatchImportProperties.class,
+        SigningProperties.class, AuthorizationProperties.class})
 @TestPropertySource(properties = {
     "routes.paths.users=/api/v1/users",
     "routes.paths.login=/api/v1/login",
@@ -48,13 +50,25 @@ class ConfigTest {
     private LoginUseCase loginUseCase;
     
     @MockitoBean
-    private UserResponseMapper userMapper;
+    private RefreshTokenUseCase refreshTokenUseCase;
     
     @MockitoBean
-    private AuthorizationService authorizationService;
+    private UserResponseMapper userMapper;
     
     @MockitoBean
     private PasswordEncoder passwordEncoder;
+    
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+    
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+    
+    @MockitoBean
+    private JwtTokenManagerImpl jwtTokenManager;
+    
+    @MockitoBean
+    private BatchAuthorizationService batchAuthorizationService;
 
     private final UserResponse userResponseOne = UserResponse.builder()
             .id("123456789")
@@ -85,12 +99,9 @@ class ConfigTest {
     @BeforeEach
     void setUp() {
         // Mock the use case to return any domain objects (we don't care about structure)
-        when(userUseCase.getAllUsers()).thenReturn(Flux.empty());
+        when(userUseCase.getUsersPage(any(), anyInt())).thenReturn(Flux.empty());
         // Mock the mapper to return the DTOs we want to test
-        when(userMapper.toResponse(any())).thenReturn(userResponseOne, userResponseTwo);
-        // Mock authorization service to allow access for new permission-based method
-        when(authorizationService.hasPermission(any(), any())).thenReturn(Mono.just(true));
-    }
+        when(userMapper.toResponse(any())).thenReturn(userResponseOne, userResponseTwo);    }
 
     @Test
     void corsConfigurationShouldAllowOrigins() {
@@ -107,4 +118,17 @@ class ConfigTest {
                 .expectHeader().valueEquals("Pragma", "no-cache")
                 .expectHeader().valueEquals("Referrer-Policy", "strict-origin-when-cross-origin");
     }
-}
\ No newline at end of file
+
+    @Test
+    void jwksShouldKeepItsOwnCacheControl() {
+        when(jwtTokenManager.getJsonWebKeySet()).thenReturn(JsonWebKeySet.EMPTY);
+
+        webTestClient.get()
+                .uri("/.well-known/jwks.json")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Cache-Control", "max-age=300, public")
+                .expectHeader().doesNotExist("Pragma")
+                .expectHeader().valueEquals("X-Content-Type-Options", "nosniff");
+    }
+}
@@ -0,0 +1,248 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.api.constants.JwtConstants;
+import crediya.authentication.model.auth.AuthorizationResult;
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.gateways.JwtTokenManager;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import crediya.authentication.model.role.RoleType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String USERS = "/api/v1/users";
+    private static final String USERS_BATCH = "/api/v1/users:batch";
+    private static final String TOKENS_REVOKE = "/api/v1/tokens:revoke";
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtTokenManager jwtTokenManager;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList tokenRevocationList;
+    private JwtAuthenticationFilter filter;
+    private AtomicBoolean chained;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RouteAuthorizationTable table = RouteAuthorizationTable.builder(meterRegistry)
+                .publicPaths(List.of("/api/v1/login", "/actuator/**"))
+                .require(HttpMethod.POST, USERS, Permission.CREATE_USER, "Insufficient permissions to create users")
+                .require(HttpMethod.GET, USERS, Permission.VIEW_ALL_USERS, "Insufficient permissions to view all users")
+                .require(HttpMethod.POST, USERS_BATCH, Permission.CREATE_USER, "Insufficient permissions to create users")
+                .require(HttpMethod.POST, TOKENS_REVOKE, Permission.REVOKE_TOKENS, "Insufficient permissions to revoke tokens")
+                .denyUnlisted("/api/**", "Access to this route is not permitted")
+                .build();
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, new SecurityProperties(), meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtTokenManager,
+                new VerifiedTokenCache(new SecurityProperties(), meterRegistry), table, authorizationService,
+                tokenRevocationList);
+        chained = new AtomicBoolean();
+        chain = exchange -> {
+            chained.set(true);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("Should pass literal and pattern public paths through without a token")
+    void shouldPassPublicPathsThrough() {
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.post("/api/v1/login")), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/actuator/prometheus")), chain)).verifyComplete();
+
+        assertThat(chained).isTrue();
+        assertThat(decisions("/actuator/**", "public")).isEqualTo(1);
+        verifyNoInteractions(jwtTokenManager, authorizationService);
+    }
+
+    @Test
+    @DisplayName("Should reject a missing bearer token with 401 before the handler runs")
+    void shouldRejectMissingToken() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(USERS));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(chained).isFalse();
+        assertThat(decisions("GET " + USERS, "unauthenticated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a valid token whose id has been revoked")
+    void shouldRejectRevokedToken() {
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(token("ADMIN")));
+        tokenRevocationList.add(RevokedToken.builder()
+                .tokenId("token-id")
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build());
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(USERS)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(chained).isFalse();
+        verifyNoInteractions(authorizationService);
+    }
+
+    @Test
+    @DisplayName("Should answer 403 with the route's body when the role lacks the permission")
+    void shouldRejectDeniedRequests() {
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(token("CUSTOMER")));
+        when(authorizationService.authorize(any(VerifiedToken.class), any(Permission.class)))
+                .thenReturn(AuthorizationResult.deniedForRole(RoleType.CUSTOMER, Permission.VIEW_ALL_USERS));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(USERS)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"error\":\"Insufficient permissions to view all users\"}")
+                .verifyComplete();
+        assertThat(chained).isFalse();
+        assertThat(decisions("GET " + USERS, "denied")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should expose the verified token and continue when the permission is granted")
+    void shouldContinueGrantedRequests() {
+        VerifiedToken verifiedToken = token("ADMIN");
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(verifiedToken));
+        when(authorizationService.authorize(verifiedToken, Permission.CREATE_USER))
+                .thenReturn(AuthorizationResult.authorized(Permission.CREATE_USER));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post(USERS)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(chained).isTrue();
+        assertThat(exchange.<VerifiedToken>getAttribute(JwtConstants.VERIFIED_TOKEN_ATTRIBUTE)).isSameAs(verifiedToken);
+        assertThat(decisions("POST " + USERS, "granted")).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "POST, /api/v1/users;x=1, POST /api/v1/users, CREATE_USER",
+            "GET, /api/v1/users;x, GET /api/v1/users, VIEW_ALL_USERS",
+            "POST, /api/v1/users%3Abatch, POST /api/v1/users:batch, CREATE_USER",
+            "POST, /api/v1/tokens%3Arevoke, POST /api/v1/tokens:revoke, REVOKE_TOKENS"
+    })
+    @DisplayName("Should resolve encoded and matrix-parameter paths to the route the router serves")
+    void shouldMatchDecodedPaths(String method, String rawPath, String route, Permission permission) {
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(token("CUSTOMER")));
+        when(authorizationService.authorize(any(VerifiedToken.class), eq(permission)))
+                .thenReturn(AuthorizationResult.deniedForRole(RoleType.CUSTOMER, permission));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.method(HttpMethod.valueOf(method), URI.create(rawPath))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(chained).isFalse();
+        assertThat(decisions(route, "denied")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse API routes without a declared rule even with a valid token")
+    void shouldDenyUnlistedApiRoutes() {
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(token("ADMIN")));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.delete(USERS)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"error\":\"Access to this route is not permitted\"}")
+                .verifyComplete();
+        assertThat(chained).isFalse();
+        assertThat(decisions(RouteAuthorizationTable.UNLISTED_ROUTE + " /api/**", "denied")).isEqualTo(1);
+        verifyNoInteractions(authorizationService);
+    }
+
+    @Test
+    @DisplayName("Should ask unlisted API routes for a token before refusing them")
+    void shouldAuthenticateUnlistedApiRoutesFirst() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v2/anything"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(chained).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only require authentication on paths outside the API without a declared rule")
+    void shouldOnlyAuthenticateUnlistedRoutes() {
+        when(jwtTokenManager.verify(TOKEN)).thenReturn(Optional.of(token("CUSTOMER")));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/v3/api-docs")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(chained).isTrue();
+        assertThat(decisions(RouteAuthorizationTable.UNMATCHED_ROUTE, "granted")).isEqualTo(1);
+        verifyNoInteractions(authorizationService);
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    private static VerifiedToken token(String roleName) {
+        return VerifiedToken.builder()
+                .subject("user123")
+                .roleName(roleName)
+                .tokenId("token-id")
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    private double decisions(String route, String outcome) {
+        return meterRegistry.get(RouteAuthorizationTable.DECISIONS_METRIC)
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
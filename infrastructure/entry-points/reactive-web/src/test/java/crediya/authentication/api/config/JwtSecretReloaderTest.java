@@ -0,0 +1,72 @@
+package crediya.authentication.api.config;
+
+import io.jsonwebtoken.security.WeakKeyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtSecretReloaderTest {
+
+    private static final String WEAK_SECRET = "too-short";
+    private static final String VALID_SECRET = "rotated-secret-key-that-is-also-at-least-256-bits-long-for-hs256";
+
+    @TempDir
+    Path directory;
+
+    private final JwtTokenManagerImpl jwtTokenManager = mock(JwtTokenManagerImpl.class);
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private JwtSecretReloader reloader;
+
+    @AfterEach
+    void tearDown() {
+        if (reloader != null) {
+            reloader.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep reloading after a secret is rejected")
+    void shouldKeepReloadingAfterRejectedSecret() throws IOException {
+        Path secretFile = Files.writeString(directory.resolve("jwt-secret"), WEAK_SECRET);
+        doThrow(new WeakKeyException("key too short")).when(jwtTokenManager).reloadSecret(WEAK_SECRET);
+        reloader = new JwtSecretReloader(jwtTokenManager, verifiedTokenCache, secretFile.toString(),
+                Duration.ofMillis(20));
+
+        reloader.afterPropertiesSet();
+        verify(jwtTokenManager, timeout(2000).atLeastOnce()).reloadSecret(WEAK_SECRET);
+        verify(verifiedTokenCache, never()).invalidateAll();
+
+        Files.writeString(secretFile, VALID_SECRET);
+
+        verify(jwtTokenManager, timeout(2000)).reloadSecret(VALID_SECRET);
+        verify(verifiedTokenCache, timeout(2000)).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should apply an unchanged secret only once")
+    void shouldApplyUnchangedSecretOnce() throws IOException, InterruptedException {
+        Path secretFile = Files.writeString(directory.resolve("jwt-secret"), VALID_SECRET);
+        reloader = new JwtSecretReloader(jwtTokenManager, verifiedTokenCache, secretFile.toString(),
+                Duration.ofMillis(20));
+
+        reloader.afterPropertiesSet();
+        verify(jwtTokenManager, timeout(2000)).reloadSecret(VALID_SECRET);
+        Thread.sleep(100);
+
+        verify(jwtTokenManager, times(1)).reloadSecret(VALID_SECRET);
+        verify(verifiedTokenCache, times(1)).invalidateAll();
+    }
+}
@@ -1,19 +1,35 @@
 package crediya.authentication.api.config;
 
+import crediya.authentication.model.auth.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenManagerImplTest {
 
+    private static final String TEST_SECRET = "test-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm-testing";
+
     private JwtTokenManagerImpl jwtTokenManager;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
-        String testSecret = "test-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm-testing";
+        String testSecret = TEST_SECRET;
         Long testExpiration = 3600000L; // 1 hour
         String testIssuer = "crediya-auth-service";
         String testAudience = "crediya-app";
@@ -33,6 +49,18 @@ class JwtTokenManagerImplTest {
         assertThat(token.split("\\.")).hasSize(3); // JWT has 3 parts: header.payload.signature
     }
 
+    @Test
+    @DisplayName("Should expose the configured lifetime and sign tokens that expire after it")
+    void shouldExposeConfiguredTokenLifetime() {
+        Instant before = Instant.now();
+
+        VerifiedToken verified = jwtTokenManager.verify(jwtTokenManager.generateToken("user123", "ADMIN")).orElseThrow();
+
+        assertThat(jwtTokenManager.getTokenLifetime()).isEqualTo(Duration.ofHours(1));
+        assertThat(verified.getExpiresAt())
+                .isBetween(before.plus(Duration.ofHours(1)).minusSeconds(1), Instant.now().plus(Duration.ofHours(1)));
+    }
+
     @Test
     @DisplayName("Should generate different tokens for different users")
     void shouldGenerateDifferentTokensForDifferentUsers() {
@@ -278,4 +306,177 @@ class JwtTokenManagerImplTest {
         assertThat(jwtTokenManager.validateToken(token1)).isTrue();
         assertThat(jwtTokenManager.validateToken(token2)).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should verify token once and expose all claims")
+    void shouldVerifyTokenOnceAndExposeAllClaims() {
+        String token = jwtTokenManager.generateToken("user123", "ADVISOR");
+
+        Optional<VerifiedToken> verified = jwtTokenManager.verify(token);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getSubject()).isEqualTo("user123");
+        assertThat(verified.get().getRoleName()).isEqualTo("ADVISOR");
+        assertThat(verified.get().getTokenId()).isNotBlank();
+        assertThat(verified.get().getExpiresAt()).isAfter(Instant.now());
+        assertThat(verified.get().isExpiredAt(Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should carry the session id of the refresh-token family when one is given")
+    void shouldCarrySessionId() {
+        String family = "5f0c7c1e-8a7e-4d0b-9f43-2a6a1d3e9b11";
+
+        assertThat(jwtTokenManager.verify(jwtTokenManager.generateToken("user123", "ADVISOR", family)))
+                .get().extracting(VerifiedToken::getSessionId).isEqualTo(family);
+        assertThat(jwtTokenManager.verify(jwtTokenManager.generateToken("user123", "ADVISOR")))
+                .get().extracting(VerifiedToken::getSessionId).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return empty verification for invalid tokens")
+    void shouldReturnEmptyVerificationForInvalidTokens() {
+        String token = jwtTokenManager.generateToken("user123", "ADMIN");
+        String tamperedToken = token.substring(0, token.length() - 1) + "X";
+
+        assertThat(jwtTokenManager.verify(tamperedToken)).isEmpty();
+        assertThat(jwtTokenManager.verify("not.a.valid.jwt.token")).isEmpty();
+        assertThat(jwtTokenManager.verify(null)).isEmpty();
+        assertThat(jwtTokenManager.verify("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject token issued for a different audience")
+    void shouldRejectTokenIssuedForDifferentAudience() {
+        JwtTokenManagerImpl otherAudienceManager = new JwtTokenManagerImpl(
+                "test-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm-testing",
+                3600000L, "crediya-auth-service", "other-app");
+        String token = otherAudienceManager.generateToken("user123", "ADMIN");
+
+        assertThat(jwtTokenManager.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject token issued by a different issuer")
+    void shouldRejectTokenIssuedByDifferentIssuer() {
+        JwtTokenManagerImpl otherIssuerManager = new JwtTokenManagerImpl(
+                "test-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm-testing",
+                3600000L, "other-issuer", "crediya-app");
+        String token = otherIssuerManager.generateToken("user123", "ADMIN");
+
+        assertThat(jwtTokenManager.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a correctly signed token without an expiration")
+    void shouldRejectTokenWithoutExpiration() {
+        String token = Jwts.builder()
+                .subject("user123")
+                .claim("role", "ADMIN")
+                .issuer("crediya-auth-service")
+                .audience().add("crediya-app").and()
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtTokenManager.verify(token)).isEmpty();
+        assertThat(jwtTokenManager.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should sign and verify with the new key after the secret is reloaded")
+    void shouldUseNewKeyAfterSecretReload() {
+        String oldToken = jwtTokenManager.generateToken("user123", "ADMIN");
+
+        jwtTokenManager.reloadSecret("rotated-secret-key-that-is-also-at-least-256-bits-long-for-hs256");
+        String newToken = jwtTokenManager.generateToken("user123", "ADMIN");
+
+        assertThat(jwtTokenManager.validateToken(oldToken)).isFalse();
+        assertThat(jwtTokenManager.validateToken(newToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep existing tokens valid when reloaded with the same secret")
+    void shouldKeepTokensValidWhenReloadedWithSameSecret() {
+        String token = jwtTokenManager.generateToken("user123", "ADMIN");
+
+        jwtTokenManager.reloadSecret("test-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm-testing");
+        jwtTokenManager.reloadSecret(null);
+
+        assertThat(jwtTokenManager.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should sign with the active keystore key and name it in the kid header")
+    void shouldSignWithActiveKeystoreKey() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        JwtTokenManagerImpl keystoreManager = keystoreManager(null, keystore, "2026-01");
+
+        String token = keystoreManager.generateToken("user123", "ADMIN");
+
+        assertThat(header(token)).contains("\"kid\":\"2026-01\"").contains("\"alg\":\"ES256\"");
+        assertThat(keystoreManager.verify(token)).map(VerifiedToken::getSubject).contains("user123");
+        assertThat(keystoreManager.getJsonWebKeySet().getETag()).isNotEqualTo(JsonWebKeySet.EMPTY.getETag());
+    }
+
+    @Test
+    @DisplayName("Should keep verifying tokens of the previous key after the active key changes")
+    void shouldVerifyPreviousKeyAfterRotation() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        JwtTokenManagerImpl keystoreManager = keystoreManager(null, keystore, "2026-01");
+        String oldToken = keystoreManager.generateToken("user123", "ADMIN");
+
+        TestKeystores.addEd25519Key(keystore, "2026-02");
+        keystoreManager.reloadSigningKeys(
+                SigningKeys.load(keystore, TestKeystores.PASSWORD.toCharArray(), "2026-02"));
+        String newToken = keystoreManager.generateToken("user123", "ADMIN");
+
+        assertThat(header(newToken)).contains("\"kid\":\"2026-02\"").contains("\"alg\":\"EdDSA\"");
+        assertThat(keystoreManager.validateToken(oldToken)).isTrue();
+        assertThat(keystoreManager.validateToken(newToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens whose kid is unknown to the keystore")
+    void shouldRejectUnknownKeyId() {
+        Path current = tempDir.resolve("current.p12");
+        Path other = tempDir.resolve("other.p12");
+        TestKeystores.addEs256Key(current, "2026-01");
+        TestKeystores.addEs256Key(other, "2026-99");
+
+        String foreignToken = keystoreManager(null, other, null).generateToken("user123", "ADMIN");
+
+        assertThat(keystoreManager(null, current, null).verify(foreignToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should accept HMAC tokens without kid while migrating to the keystore")
+    void shouldAcceptHmacTokensDuringMigration() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        String hmacToken = jwtTokenManager.generateToken("user123", "ADMIN");
+
+        assertThat(keystoreManager(TEST_SECRET, keystore, null).validateToken(hmacToken)).isTrue();
+        assertThat(keystoreManager(null, keystore, null).validateToken(hmacToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should publish an empty key set while signing with the HMAC secret")
+    void shouldPublishEmptyKeySetForHmac() {
+        assertThat(jwtTokenManager.getJsonWebKeySet()).isSameAs(JsonWebKeySet.EMPTY);
+    }
+
+    private static JwtTokenManagerImpl keystoreManager(String secret, Path keystore, String activeKeyId) {
+        SigningProperties properties = new SigningProperties();
+        properties.setKeystore(keystore.toString());
+        properties.setKeystorePassword(TestKeystores.PASSWORD);
+        properties.setActiveKeyId(activeKeyId);
+        return new JwtTokenManagerImpl(secret, 3600000L, "crediya-auth-service", "crediya-app", properties);
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+package crediya.authentication.api.config;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeysTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should sign with the active key and publish every key in the keystore")
+    void shouldPublishAllKeysAndSignWithActiveOne() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        TestKeystores.addEd25519Key(keystore, "2026-02");
+
+        SigningKeys keys = load(keystore, "2026-02");
+
+        assertThat(keys.getActiveKeyId()).isEqualTo("2026-02");
+        assertThat(keys.getAlgorithm()).isEqualTo(Jwts.SIG.EdDSA);
+        assertThat(keys.keyIds()).containsExactly("2026-01", "2026-02");
+        assertThat(keys.getVerificationKey("2026-01")).isNotNull();
+        assertThat(keys.getVerificationKey("retired")).isNull();
+        assertThat(new String(keys.getJsonWebKeySet().getBody(), StandardCharsets.UTF_8))
+                .contains("\"kid\":\"2026-01\",\"use\":\"sig\",\"alg\":\"ES256\"")
+                .contains("\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"kid\":\"2026-02\"")
+                .doesNotContain("\"d\"");
+    }
+
+    @Test
+    @DisplayName("Should derive the same ETag for the same keys and a new one when they change")
+    void shouldDeriveETagFromKeys() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        String first = load(keystore, null).getJsonWebKeySet().getETag();
+
+        String again = load(keystore, null).getJsonWebKeySet().getETag();
+        TestKeystores.addEs256Key(keystore, "2026-02");
+        String rotated = load(keystore, "2026-01").getJsonWebKeySet().getETag();
+
+        assertThat(first).startsWith("\"").endsWith("\"").isEqualTo(again);
+        assertThat(rotated).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should reject an active key id the keystore does not hold")
+    void shouldRejectUnknownActiveKeyId() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        TestKeystores.addEs256Key(keystore, "2026-02");
+
+        assertThatThrownBy(() -> load(keystore, "2025-12"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2025-12");
+    }
+
+    @Test
+    @DisplayName("Should sign with the most recently valid certificate when no active key id is set")
+    void shouldActivateNewestValidKey() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addKey(keystore, "b-previous", "EC", "-groupname", "secp256r1", "-startdate", "-2d");
+        TestKeystores.addKey(keystore, "a-current", "EC", "-groupname", "secp256r1", "-startdate", "-1d");
+
+        SigningKeys keys = load(keystore, null);
+
+        assertThat(keys.getActiveKeyId()).isEqualTo("a-current");
+        assertThat(keys.getNextActivation()).isNull();
+        assertThat(load(keystore, "b-previous").getActiveKeyId()).isEqualTo("b-previous");
+    }
+
+    @Test
+    @DisplayName("Should publish a key before its certificate is valid and activate it afterwards")
+    void shouldPublishPendingKeyBeforeActivation() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addEs256Key(keystore, "2026-01");
+        TestKeystores.addKey(keystore, "2026-02", "EC", "-groupname", "secp256r1", "-startdate", "+1d");
+
+        SigningKeys keys = load(keystore, null);
+
+        assertThat(keys.getActiveKeyId()).isEqualTo("2026-01");
+        assertThat(keys.getVerificationKey("2026-02")).isNotNull();
+        assertThat(keys.getNextActivation()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should fail when no certificate in the keystore is valid yet")
+    void shouldRequireValidCertificate() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addKey(keystore, "2026-02", "EC", "-groupname", "secp256r1", "-startdate", "+1d");
+
+        assertThatThrownBy(() -> load(keystore, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("valid yet");
+    }
+
+    @Test
+    @DisplayName("Should reject keys other than P-256 and Ed25519")
+    void shouldRejectUnsupportedKeys() {
+        Path keystore = tempDir.resolve("signing.p12");
+        TestKeystores.addKey(keystore, "legacy", "RSA");
+
+        assertThatThrownBy(() -> load(keystore, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("neither P-256 nor Ed25519");
+    }
+
+    private static SigningKeys load(Path keystore, String activeKeyId) {
+        return SigningKeys.load(keystore, TestKeystores.PASSWORD.toCharArray(), activeKeyId);
+    }
+}
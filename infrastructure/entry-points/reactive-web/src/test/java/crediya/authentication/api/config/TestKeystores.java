@@ -0,0 +1,52 @@
+package crediya.authentication.api.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds self-signed key pairs to a PKCS12 file with the JDK keytool, since the JDK has no
+ * public API for issuing the certificate a key entry needs.
+ */
+final class TestKeystores {
+
+    static final String PASSWORD = "changeit";
+
+    private TestKeystores() {
+    }
+
+    static void addEs256Key(Path keystore, String alias) {
+        addKey(keystore, alias, "EC", "-groupname", "secp256r1");
+    }
+
+    static void addEd25519Key(Path keystore, String alias) {
+        addKey(keystore, alias, "Ed25519");
+    }
+
+    static void addKey(Path keystore, String alias, String keyAlgorithm, String... extra) {
+        List<String> args = new ArrayList<>(List.of("-genkeypair", "-alias", alias, "-keyalg", keyAlgorithm,
+                "-dname", "CN=" + alias, "-validity", "1", "-storetype", "PKCS12",
+                "-keystore", keystore.toString(), "-storepass", PASSWORD));
+        args.addAll(List.of(extra));
+        run(args);
+    }
+
+    private static void run(List<String> args) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "keytool").toString());
+        command.addAll(args);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes());
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("keytool failed: " + output);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package crediya.authentication.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(-5 * SECOND);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity and report the wait for the next token")
+    void shouldAllowBurstThenReject() {
+        TokenBucketLimiter limiter = limiter(3, Duration.ofSeconds(3), 1_000);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isCloseTo(SECOND, within(1_000L));
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+
+        clock.addAndGet(SECOND + TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+
+        assertThat(meterRegistry.get("auth.login.throttle.requests").tag("limiter", "ip").tag("result", "allowed")
+                .counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("auth.login.throttle.requests").tag("limiter", "ip").tag("result", "rejected")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop buckets once they have refilled and start them full again")
+    void shouldEvictRefilledBuckets() {
+        TokenBucketLimiter limiter = limiter(2, Duration.ofSeconds(2), 1_000);
+        limiter.tryAcquire("a@example.com");
+        limiter.tryAcquire("a@example.com");
+        assertThat(meterRegistry.get("auth.login.throttle.buckets").gauge().value()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(2).plus(limiter.getTickInterval()).toNanos());
+        limiter.evictIdle();
+
+        assertThat(meterRegistry.get("auth.login.throttle.buckets").gauge().value()).isZero();
+        assertThat(meterRegistry.get("auth.login.throttle.evictions").tag("cause", "idle").counter().count())
+                .isEqualTo(1);
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the number of live buckets bounded")
+    void shouldBoundLiveBuckets() {
+        TokenBucketLimiter limiter = limiter(5, Duration.ofMinutes(1), 16);
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("user" + i + "@example.com");
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(16);
+        assertThat(meterRegistry.get("auth.login.throttle.evictions").tag("cause", "capacity").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reject a stripe count that is not a power of two")
+    void shouldRejectInvalidStripeCount() {
+        assertThatThrownBy(() -> new TokenBucketLimiter("ip", new LoginThrottleProperties.Limit(1, Duration.ofSeconds(1)),
+                3, 100, 8, meterRegistry, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenBucketLimiter limiter(int capacity, Duration refillPeriod, int maxBuckets) {
+        return new TokenBucketLimiter("ip", new LoginThrottleProperties.Limit(capacity, refillPeriod),
+                4, maxBuckets, 8, meterRegistry, clock::get);
+    }
+}
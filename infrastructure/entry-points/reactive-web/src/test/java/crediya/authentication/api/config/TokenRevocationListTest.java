@@ -0,0 +1,104 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.RevokedToken;
+import crediya.authentication.model.auth.gateways.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityProperties securityProperties;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityProperties = new SecurityProperties();
+        revocationList = new TokenRevocationList(revokedTokenRepository, securityProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should apply local revocations immediately and ignore unknown ids")
+    void shouldApplyLocalRevocations() {
+        revocationList.add(revoked("jti-1", Instant.now().plusSeconds(60), null));
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not keep revocations of tokens that already expired")
+    void shouldIgnoreExpiredRevocations() {
+        revocationList.add(revoked("jti-1", Instant.now().minusSeconds(1), null));
+
+        assertThat(revocationList.isRevoked("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read only revocations newer than the last refresh, minus the overlap")
+    void shouldRefreshIncrementally() {
+        Instant revokedAt = Instant.parse("2026-01-01T00:00:00Z");
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        when(revokedTokenRepository.findActiveRevokedSince(since.capture(), any()))
+                .thenReturn(Flux.just(revoked("jti-1", Instant.now().plusSeconds(60), revokedAt)))
+                .thenReturn(Flux.empty());
+        when(revokedTokenRepository.deleteExpired(any())).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(revocationList.refresh()).verifyComplete();
+        StepVerifier.create(revocationList.refresh()).verifyComplete();
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(since.getAllValues().get(1))
+                .isEqualTo(revokedAt.minus(securityProperties.getRevocation().getRefreshOverlap()));
+        verify(revokedTokenRepository, times(2)).deleteExpired(any());
+        assertThat(meterRegistry.get("auth.revocation.refresh").tag("result", "success").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("auth.revocation.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep current ids when a refresh fails")
+    void shouldKeepIdsWhenRefreshFails() {
+        revocationList.add(revoked("jti-1", Instant.now().plusSeconds(60), null));
+        when(revokedTokenRepository.findActiveRevokedSince(any(), any()))
+                .thenReturn(Flux.error(new RuntimeException("connection lost")));
+        when(revokedTokenRepository.deleteExpired(any())).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(revocationList.refresh()).expectError(RuntimeException.class).verify();
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(meterRegistry.get("auth.revocation.refresh").tag("result", "failure").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static RevokedToken revoked(String tokenId, Instant expiresAt, Instant revokedAt) {
+        return RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package crediya.authentication.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrustedProxiesTest {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final TrustedProxies trustedProxies = TrustedProxies.of(List.of("10.0.0.0/8", "192.168.1.10", "::1"));
+
+    @Test
+    @DisplayName("Should key on the remote address and ignore X-Forwarded-For when no proxy is trusted")
+    void shouldIgnoreForwardedForWithoutTrustedProxies() {
+        SecurityContextExtractor extractor = new SecurityContextExtractor(new ClientAddressProperties());
+
+        assertThat(extractor.extractClientIp(exchange("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For sent by a client that is not a trusted proxy")
+    void shouldIgnoreForwardedForFromUntrustedPeers() {
+        assertThat(extractor().extractClientIp(exchange("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("Should take the rightmost untrusted hop when the peer is a trusted proxy")
+    void shouldTakeRightmostUntrustedHop() {
+        assertThat(extractor().extractClientIp(exchange("10.0.0.2", "198.51.100.1, 203.0.113.7, 10.0.0.5")))
+                .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the nearest trusted hop when a forwarded value is not an address")
+    void shouldStopAtValuesThatAreNotAddresses() {
+        assertThat(extractor().extractClientIp(exchange("10.0.0.2", "attacker.example.com, 10.0.0.5")))
+                .isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    @DisplayName("Should use the remote address when a trusted proxy sends no X-Forwarded-For")
+    void shouldUseRemoteAddressWithoutHeader() {
+        assertThat(extractor().extractClientIp(exchange("192.168.1.10", null))).isEqualTo("192.168.1.10");
+    }
+
+    @Test
+    @DisplayName("Should match addresses against CIDR ranges")
+    void shouldMatchRanges() throws Exception {
+        TrustedProxies ranges = TrustedProxies.of(List.of("172.16.0.0/12"));
+
+        assertThat(ranges.contains(InetAddress.getByName("172.31.255.255"))).isTrue();
+        assertThat(ranges.contains(InetAddress.getByName("172.32.0.0"))).isFalse();
+        assertThat(trustedProxies.contains(InetAddress.getByName("::1"))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.2.3", "256.1.1.1", "1..2.3", "1.2.3.4.", "fe80::zz", "localhost"})
+    @DisplayName("Should parse only IP literals from forwarded values")
+    void shouldRejectNonLiterals(String value) {
+        assertThat(TrustedProxies.parseLiteral(value)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject trusted proxy entries that are not addresses or ranges")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> TrustedProxies.of(List.of("proxy.internal")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TrustedProxies.of(List.of("10.0.0.0/33")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SecurityContextExtractor extractor() {
+        ClientAddressProperties properties = new ClientAddressProperties();
+        properties.setTrustedProxies(List.of("10.0.0.0/8", "192.168.1.10", "::1"));
+        return new SecurityContextExtractor(properties);
+    }
+
+    private static MockServerWebExchange exchange(String remoteAddress, String forwardedFor) {
+        MockServerHttpRequest.BodyBuilder request = MockServerHttpRequest.post("/api/v1/login")
+                .remoteAddress(new InetSocketAddress(remoteAddress, 443));
+        if (forwardedFor != null) {
+            request.header(FORWARDED_FOR, forwardedFor);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,137 @@
+package crediya.authentication.api.config;
+
+import crediya.authentication.model.auth.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityProperties securityProperties;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityProperties = new SecurityProperties();
+        securityProperties.getTokenCache().setEnabled(true);
+        securityProperties.getTokenCache().setMaxSize(100);
+        securityProperties.getTokenCache().setTtl(Duration.ofMinutes(5));
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeated requests from the cache")
+    void shouldServeRepeatedRequestsFromCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry);
+        Function<String, Optional<VerifiedToken>> verifier = countingVerifier(Instant.now().plusSeconds(3600));
+
+        Optional<VerifiedToken> first = cache.getOrVerify(TOKEN, verifier);
+        Optional<VerifiedToken> second = cache.getOrVerify(TOKEN, verifier);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(verifications).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never cache failed verifications")
+    void shouldNotCacheFailedVerifications() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry);
+        Function<String, Optional<VerifiedToken>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.getOrVerify(TOKEN, verifier)).isEmpty();
+        assertThat(cache.getOrVerify(TOKEN, verifier)).isEmpty();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not serve an entry whose token has expired")
+    void shouldNotServeExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry);
+        Function<String, Optional<VerifiedToken>> verifier = countingVerifier(Instant.now().minusSeconds(1));
+
+        cache.getOrVerify(TOKEN, verifier);
+        cache.getOrVerify(TOKEN, verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should re-verify a token after it is invalidated")
+    void shouldReverifyAfterInvalidation() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry);
+        Function<String, Optional<VerifiedToken>> verifier = countingVerifier(Instant.now().plusSeconds(3600));
+
+        cache.getOrVerify(TOKEN, verifier);
+        cache.invalidate(TOKEN);
+        cache.getOrVerify(TOKEN, verifier);
+        cache.invalidateAll();
+        cache.getOrVerify(TOKEN, verifier);
+
+        assertThat(verifications).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should not serve an entry verified before the signing material was reloaded")
+    void shouldNotServeEntryFromOlderSigningGeneration() {
+        AtomicLong generation = new AtomicLong();
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry, generation::get);
+        Function<String, Optional<VerifiedToken>> staleVerifier = token -> {
+            // The reload and its invalidateAll land while this verification is still running
+            generation.incrementAndGet();
+            cache.invalidateAll();
+            return countingVerifier(Instant.now().plusSeconds(3600)).apply(token);
+        };
+
+        cache.getOrVerify(TOKEN, staleVerifier);
+        cache.getOrVerify(TOKEN, countingVerifier(Instant.now().plusSeconds(3600)));
+        cache.getOrVerify(TOKEN, countingVerifier(Instant.now().plusSeconds(3600)));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should always delegate to the verifier when disabled")
+    void shouldAlwaysVerifyWhenDisabled() {
+        securityProperties.getTokenCache().setEnabled(false);
+        VerifiedTokenCache cache = new VerifiedTokenCache(securityProperties, meterRegistry);
+        Function<String, Optional<VerifiedToken>> verifier = countingVerifier(Instant.now().plusSeconds(3600));
+
+        cache.getOrVerify(TOKEN, verifier);
+        cache.getOrVerify(TOKEN, verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+    private Function<String, Optional<VerifiedToken>> countingVerifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Optional.of(VerifiedToken.builder()
+                    .subject("user123")
+                    .roleName("ADVISOR")
+                    .tokenId("token-id")
+                    .expiresAt(expiresAt)
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should render the same JSON as the previous String.format template with a UTC timestamp")
+    void shouldRenderTimestampedBody() throws Exception {
+        ErrorResponseWriter writer = ErrorResponseWriter.of(HttpStatus.UNAUTHORIZED, "Unauthorized", "Access denied.");
+        long epochMillis = Instant.parse("2024-02-29T23:59:58.007Z").toEpochMilli();
+
+        JsonNode body = objectMapper.readTree(render(writer, epochMillis));
+
+        assertThat(body.get("timestamp").asText()).isEqualTo("2024-02-29T23:59:58.007Z");
+        assertThat(body.get("status").asInt()).isEqualTo(401);
+        assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(body.get("message").asText()).isEqualTo("Access denied.");
+    }
+
+    @Test
+    @DisplayName("Should format timestamps exactly like Instant.toString for millisecond instants")
+    void shouldMatchInstantFormatting() throws Exception {
+        ErrorResponseWriter writer = ErrorResponseWriter.of(HttpStatus.BAD_REQUEST, "Bad Request", "x");
+        for (String instant : new String[]{"1970-01-01T00:00:00.000Z", "1999-12-31T23:59:59.999Z",
+                "2000-03-01T00:00:00.001Z", "2100-02-28T12:30:45.500Z"}) {
+            long epochMillis = Instant.parse(instant).toEpochMilli();
+            assertThat(objectMapper.readTree(render(writer, epochMillis)).get("timestamp").asText()).isEqualTo(instant);
+        }
+    }
+
+    @Test
+    @DisplayName("Should escape quotes and encode non-ASCII messages as UTF-8")
+    void shouldEscapeAndEncodeUtf8() throws Exception {
+        ErrorResponseWriter writer = ErrorResponseWriter.errorOnly(HttpStatus.FORBIDDEN, "Acción \"denegada\"");
+
+        assertThat(objectMapper.readTree(render(writer, 0)).get("error").asText()).isEqualTo("Acción \"denegada\"");
+    }
+
+    @Test
+    @DisplayName("Should set status, JSON content type and Retry-After on the response")
+    void shouldWriteToResponse() {
+        ErrorResponseWriter writer = ErrorResponseWriter.of(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", "Busy")
+                .withRetryAfter("1");
+        MockServerHttpResponse response = new MockServerHttpResponse();
+
+        StepVerifier.create(writer.write(response)).verifyComplete();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        StepVerifier.create(response.getBodyAsString())
+                .assertNext(body -> assertThat(body).contains("\"message\":\"Busy\""))
+                .verifyComplete();
+    }
+
+    private static String render(ErrorResponseWriter writer, long epochMillis) {
+        DataBuffer buffer = writer.render(DefaultDataBufferFactory.sharedInstance, epochMillis);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -2,13 +2,17 @@ package crediya.authentication.api.exception;
 
 import crediya.authentication.model.constants.DomainErrorMessages;
 import crediya.authentication.model.exception.BusinessRuleViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException;
+import crediya.authentication.model.exception.DataConstraintViolationException.Reason;
 import crediya.authentication.model.exception.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.support.WebExchangeBindException;
@@ -16,8 +20,7 @@ import org.springframework.web.reactive.resource.NoResourceFoundException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,17 +38,17 @@ class GlobalExceptionHandlerTest {
     void shouldHandleValidationExceptionWith400BadRequest() {
         ValidationException exception = new ValidationException("email", "cannot be null");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleDomainValidationException(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(400);
-                assertThat(response.getBody().get("error")).isEqualTo("Bad Request");
-                assertThat(response.getBody().get("message")).asString().contains("email");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(400);
+                assertThat(response.getBody().title()).isEqualTo("Bad Request");
+                assertThat(response.getBody().detail()).contains("email");
+                assertThat(response.getBody().timestamp()).isNotNull();
             })
             .verifyComplete();
     }
@@ -56,17 +59,17 @@ class GlobalExceptionHandlerTest {
         BusinessRuleViolationException exception =
                 new BusinessRuleViolationException(DomainErrorMessages.EMAIL_ALREADY_REGISTERED.formatted("test@example.com"));
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleBusinessRuleViolation(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(409);
-                assertThat(response.getBody().get("error")).isEqualTo("Conflict");
-                assertThat(response.getBody().get("message")).asString().contains("Email already registered");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(409);
+                assertThat(response.getBody().title()).isEqualTo("Conflict");
+                assertThat(response.getBody().detail()).contains("Email already registered");
+                assertThat(response.getBody().timestamp()).isNotNull();
             })
             .verifyComplete();
     }
@@ -81,23 +84,20 @@ class GlobalExceptionHandlerTest {
         
         WebExchangeBindException exception = new WebExchangeBindException(null, bindingResult);
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleValidationExceptions(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(400);
-                assertThat(response.getBody().get("error")).isEqualTo("Validation Failed");
-                assertThat(response.getBody().get("fieldErrors")).isInstanceOf(Map.class);
-                
-                @SuppressWarnings("unchecked")
-                Map<String, String> fieldErrors = (Map<String, String>) response.getBody().get("fieldErrors");
-                assertThat(fieldErrors).containsKey("firstName");
-                assertThat(fieldErrors).containsKey("email");
-                assertThat(fieldErrors.get("firstName")).isEqualTo("First name is required");
-                assertThat(fieldErrors.get("email")).isEqualTo("Email must be valid");
+                assertThat(response.getBody().status()).isEqualTo(400);
+                assertThat(response.getBody().title()).isEqualTo("Validation Failed");
+                assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+                assertThat(response.getBody().problemType()).isEqualTo(ProblemType.VALIDATION_FAILED);
+                assertThat(response.getBody().fieldErrors()).containsExactly(
+                    new ProblemResponse.FieldViolation("firstName", "First name is required"),
+                    new ProblemResponse.FieldViolation("email", "Email must be valid"));
             })
             .verifyComplete();
     }
@@ -108,16 +108,62 @@ class GlobalExceptionHandlerTest {
         DataIntegrityViolationException exception = 
             new DataIntegrityViolationException("Duplicate entry for email");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleDataIntegrityViolation(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(409);
-                assertThat(response.getBody().get("error")).isEqualTo("Conflict");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(409);
+                assertThat(response.getBody().title()).isEqualTo("Conflict");
+                assertThat(response.getBody().timestamp()).isNotNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer missing values as 500")
+    void shouldAnswerMissingValuesAs500() {
+        StepVerifier.create(globalExceptionHandler.handleDataConstraintViolation(violation(Reason.MISSING_VALUE)))
+            .assertNext(response -> {
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+                assertThat(response.getBody().status()).isEqualTo(500);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer unclassified violations with 409 Conflict")
+    void shouldAnswerUnclassifiedViolationsWith409() {
+        StepVerifier.create(globalExceptionHandler.handleDataConstraintViolation(violation(Reason.CONFLICT)))
+            .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should map each constraint reason to its problem type")
+    void shouldMapReasonsToProblemTypes() {
+        StepVerifier.create(globalExceptionHandler.handleDataConstraintViolation(violation(Reason.DUPLICATE_EMAIL)))
+            .assertNext(response -> {
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                assertThat(response.getBody().problemType()).isEqualTo(ProblemType.DUPLICATE_EMAIL);
+                assertThat(response.getBody().detail()).isEqualTo("Email already registered");
+            })
+            .verifyComplete();
+
+        StepVerifier.create(globalExceptionHandler.handleDataConstraintViolation(violation(Reason.SALARY_OUT_OF_RANGE)))
+            .assertNext(response -> {
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                assertThat(response.getBody().problemType()).isEqualTo(ProblemType.CONSTRAINT_VIOLATION);
+                assertThat(response.getBody().detail()).isEqualTo("Base salary is outside the allowed range");
+            })
+            .verifyComplete();
+
+        StepVerifier.create(globalExceptionHandler.handleDataConstraintViolation(violation(Reason.CHECK_VIOLATION)))
+            .assertNext(response -> {
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                assertThat(response.getBody().problemType()).isEqualTo(ProblemType.CONSTRAINT_VIOLATION);
             })
             .verifyComplete();
     }
@@ -127,38 +173,56 @@ class GlobalExceptionHandlerTest {
     void shouldHandleIllegalArgumentExceptionWith400BadRequest() {
         IllegalArgumentException exception = new IllegalArgumentException("Invalid argument");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleValidationException(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(400);
-                assertThat(response.getBody().get("error")).isEqualTo("Bad Request");
-                assertThat(response.getBody().get("message")).isEqualTo("Invalid argument");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(400);
+                assertThat(response.getBody().title()).isEqualTo("Bad Request");
+                assertThat(response.getBody().detail()).isEqualTo("Invalid argument");
+                assertThat(response.getBody().timestamp()).isNotNull();
             })
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should handle RejectedExecutionException with 503 Service Unavailable")
+    void shouldHandleRejectedExecutionExceptionWith503ServiceUnavailable() {
+        RejectedExecutionException exception = new RejectedExecutionException("pool saturated");
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        
+        StepVerifier.create(globalExceptionHandler.handleRejectedExecution(exception, response))
+            .verifyComplete();
+        
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        StepVerifier.create(response.getBodyAsString())
+            .assertNext(body -> assertThat(body)
+                .contains("\"status\":503")
+                .contains("\"error\":\"Service Unavailable\""))
+            .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should handle NoResourceFoundException with 404 Not Found")
     void shouldHandleNoResourceFoundExceptionWith404NotFound() {
         NoResourceFoundException exception = new NoResourceFoundException("api/v1/invalid-path");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleNoResourceFoundException(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(404);
-                assertThat(response.getBody().get("error")).isEqualTo("Not Found");
-                assertThat(response.getBody().get("message")).isEqualTo("The requested resource was not found");
-                assertThat(response.getBody().get("details")).asString().contains("api/v1/invalid-path");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(404);
+                assertThat(response.getBody().title()).isEqualTo("Not Found");
+                assertThat(response.getBody().detail()).isEqualTo("The requested resource was not found");
+                assertThat(response.getBody().details()).contains("api/v1/invalid-path");
+                assertThat(response.getBody().timestamp()).isNotNull();
             })
             .verifyComplete();
     }
@@ -168,17 +232,17 @@ class GlobalExceptionHandlerTest {
     void shouldHandleGenericExceptionWith500InternalServerError() {
         Exception exception = new RuntimeException("Unexpected error");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleGenericException(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
                 assertThat(response.getBody()).isNotNull();
-                assertThat(response.getBody().get("status")).isEqualTo(500);
-                assertThat(response.getBody().get("error")).isEqualTo("Internal Server Error");
-                assertThat(response.getBody().get("message")).asString().contains("An unexpected error occurred");
-                assertThat(response.getBody().get("timestamp")).isInstanceOf(LocalDateTime.class);
+                assertThat(response.getBody().status()).isEqualTo(500);
+                assertThat(response.getBody().title()).isEqualTo("Internal Server Error");
+                assertThat(response.getBody().detail()).contains("An unexpected error occurred");
+                assertThat(response.getBody().timestamp()).isNotNull();
             })
             .verifyComplete();
     }
@@ -192,15 +256,19 @@ class GlobalExceptionHandlerTest {
         
         ValidationException exception = new ValidationException("Field validation failed");
         
-        Mono<ResponseEntity<Map<String, Object>>> result = 
+        Mono<ResponseEntity<ProblemResponse>> result = 
             globalExceptionHandler.handleDomainValidationException(exception);
         
         StepVerifier.create(result)
             .assertNext(response -> {
                 // Should be 400 (ValidationException) not 409 (BusinessRuleViolationException)
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-                assertThat(response.getBody().get("status")).isEqualTo(400);
+                assertThat(response.getBody().status()).isEqualTo(400);
             })
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    private static DataConstraintViolationException violation(Reason reason) {
+        return new DataConstraintViolationException(reason, "insert failed", null);
+    }
+}
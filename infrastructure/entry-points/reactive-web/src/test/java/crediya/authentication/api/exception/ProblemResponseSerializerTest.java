@@ -0,0 +1,63 @@
+package crediya.authentication.api.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write RFC 7807 members plus the legacy error and message fields")
+    void shouldWriteProblemMembers() throws Exception {
+        ProblemResponse problem = new ProblemResponse(ProblemType.DUPLICATE_EMAIL, "Email already registered",
+                Instant.parse("2024-01-01T00:00:00Z"), List.of(), null);
+
+        JsonNode body = objectMapper.readTree(objectMapper.writeValueAsString(problem));
+
+        assertThat(body.get("type").asText()).isEqualTo("/problems/duplicate-email");
+        assertThat(body.get("title").asText()).isEqualTo("Conflict");
+        assertThat(body.get("status").asInt()).isEqualTo(409);
+        assertThat(body.get("detail").asText()).isEqualTo("Email already registered");
+        assertThat(body.get("timestamp").asText()).isEqualTo("2024-01-01T00:00:00.000Z");
+        assertThat(body.get("error").asText()).isEqualTo("Conflict");
+        assertThat(body.get("message").asText()).isEqualTo("Email already registered");
+        assertThat(body.has("fieldErrors")).isFalse();
+        assertThat(body.has("details")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write field errors as an object keeping the first message per field")
+    void shouldWriteFieldErrorsAsObject() throws Exception {
+        ProblemResponse problem = ProblemResponse.of(ProblemType.VALIDATION_FAILED, "Request validation failed")
+                .withFieldErrors(List.of(
+                        new ProblemResponse.FieldViolation("email", "Email is required"),
+                        new ProblemResponse.FieldViolation("firstName", "First name is required"),
+                        new ProblemResponse.FieldViolation("email", "Email must be valid")));
+
+        JsonNode fieldErrors = objectMapper.readTree(objectMapper.writeValueAsBytes(problem)).get("fieldErrors");
+
+        assertThat(fieldErrors.size()).isEqualTo(2);
+        assertThat(fieldErrors.get("email").asText()).isEqualTo("Email is required");
+        assertThat(fieldErrors.get("firstName").asText()).isEqualTo("First name is required");
+    }
+
+    @Test
+    @DisplayName("Should escape user-supplied text in detail and details")
+    void shouldEscapeDetail() throws Exception {
+        ProblemResponse problem = ProblemResponse.of(ProblemType.NOT_FOUND, "quote \" and \\ backslash")
+                .withDetails("path /café\n");
+
+        JsonNode body = objectMapper.readTree(objectMapper.writeValueAsBytes(problem));
+
+        assertThat(body.get("detail").asText()).isEqualTo("quote \" and \\ backslash");
+        assertThat(body.get("details").asText()).isEqualTo("path /café\n");
+    }
+}
@@ -0,0 +1,34 @@
+package crediya.authentication.loadtest;
+
+import reactor.blockhound.BlockHound;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts blocking calls made on Reactor and Netty non-blocking threads. Unlike the
+ * BlockHound JUnit integration it never throws, so the run keeps going and every
+ * incident ends up in the report.
+ */
+final class BlockingDetector {
+
+    private final LongAdder incidents = new LongAdder();
+    private final Map<String, LongAdder> byMethod = new ConcurrentHashMap<>();
+
+    void install() {
+        BlockHound.builder()
+                .blockingMethodCallback(method -> {
+                    incidents.increment();
+                    byMethod.computeIfAbsent(method.toString(), key -> new LongAdder()).increment();
+                })
+                .install();
+    }
+
+    LoadTestReport.Blocking report() {
+        Map<String, Long> counts = new TreeMap<>();
+        byMethod.forEach((method, count) -> counts.put(method, count.sum()));
+        return new LoadTestReport.Blocking(incidents.sum(), counts);
+    }
+}
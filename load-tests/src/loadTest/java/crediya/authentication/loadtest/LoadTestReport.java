@@ -0,0 +1,53 @@
+package crediya.authentication.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a run, serialized as report.json. Latencies are milliseconds.
+ */
+record LoadTestReport(
+        String startedAt,
+        Settings settings,
+        List<Workload> workloads,
+        Blocking blocking,
+        ConnectionPool connectionPool,
+        PasswordHashing passwordHashing) {
+
+    record Settings(int users, int concurrency, double warmupSeconds, double durationSeconds) {
+    }
+
+    record Workload(
+            String name,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            Map<Integer, Long> statusCounts,
+            Latency latency) {
+    }
+
+    record Latency(double min, double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+
+    /**
+     * Blocking calls detected on non-blocking threads, keyed by the blocking method.
+     */
+    record Blocking(long incidents, Map<String, Long> byMethod) {
+    }
+
+    /**
+     * {@code saturatedSampleRatio} is the share of samples in which every connection was in use.
+     */
+    record ConnectionPool(
+            int maxSize,
+            int peakAcquired,
+            int peakPending,
+            double saturatedSampleRatio,
+            long acquires,
+            double acquireMeanMillis,
+            double acquireMaxMillis) {
+    }
+
+    record PasswordHashing(int peakQueueDepth, long rejected) {
+    }
+}
@@ -0,0 +1,162 @@
+package crediya.authentication.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import crediya.authentication.MainApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+/**
+ * Entry point of {@code ./gradlew :load-tests:loadTest}: database, seed, application,
+ * workloads, report.
+ */
+public final class LoadTestRunner {
+
+    private static final String PASSWORD = "LoadTest123!";
+    private static final String USER_EMAIL_PREFIX = "loadtest.user";
+    private static final String ADMIN_EMAIL_PREFIX = "loadtest.admin";
+    private static final String CREATED_EMAIL_PREFIX = "loadtest.created";
+    private static final String CUSTOMER_ROLE = "CUSTOMER";
+    private static final String ADMIN_ROLE = "ADMIN";
+    private static final String LOGIN_PATH = "/api/v1/login";
+    private static final String USERS_PATH = "/api/v1/users";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Files.createDirectories(settings.reportDir());
+        String startedAt = Instant.now().toString();
+
+        // Installed before anything starts so every event loop thread is covered
+        BlockingDetector blockingDetector = new BlockingDetector();
+        blockingDetector.install();
+
+        try (PostgresStandIn postgres = new PostgresStandIn(settings.initScripts())) {
+            postgres.start();
+            // Same cost factor as the application, hashed once for every seeded user
+            String passwordHash = new BCryptPasswordEncoder(12).encode(PASSWORD);
+            postgres.seedUsers(USER_EMAIL_PREFIX, settings.users(), passwordHash, CUSTOMER_ROLE);
+            postgres.seedUsers(ADMIN_EMAIL_PREFIX, 1, passwordHash, ADMIN_ROLE);
+            int customerRoleId = postgres.roleId(CUSTOMER_ROLE);
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MainApplication.class)
+                    .run(applicationArguments(postgres));
+                 ResourceSampler sampler = new ResourceSampler(
+                         context.getBean(ConnectionPool.class), context.getBean(MeterRegistry.class))) {
+                // The client gets its own event loops so it does not compete with the server's
+                LoopResources clientLoops = LoopResources.create("load-test-client");
+                try {
+                    WebClient client = WebClient.builder()
+                            .baseUrl("http://localhost:" + context.getEnvironment().getProperty("local.server.port"))
+                            .clientConnector(new ReactorClientHttpConnector(
+                                    HttpClient.create(ConnectionProvider.create("load-test", settings.concurrency() * 2))
+                                            .runOn(clientLoops)))
+                            .build();
+                    String adminToken = login(client, ADMIN_EMAIL_PREFIX + 1 + "@crediya.com");
+
+                    sampler.start();
+                    WorkloadDriver driver = new WorkloadDriver(settings);
+                    List<LoadTestReport.Workload> workloads = new ArrayList<>();
+                    for (String workload : settings.workloads()) {
+                        System.out.printf("Running %s for %s after %s warmup with %d callers%n",
+                                workload, settings.duration(), settings.warmup(), settings.concurrency());
+                        workloads.add(driver.run(workload,
+                                workload(workload, client, settings.users(), adminToken, customerRoleId)));
+                    }
+
+                    LoadTestReport report = new LoadTestReport(
+                            startedAt,
+                            new LoadTestReport.Settings(settings.users(), settings.concurrency(),
+                                    settings.warmup().toMillis() / 1000.0, settings.duration().toMillis() / 1000.0),
+                            workloads,
+                            blockingDetector.report(),
+                            sampler.connectionPoolReport(),
+                            sampler.passwordHashingReport());
+                    Path reportFile = settings.reportDir().resolve("report.json");
+                    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+                    workloads.forEach(result -> System.out.printf("%s: %.1f req/s, p99 %.2f ms, errors %d%n",
+                            result.name(), result.throughputPerSecond(), result.latency().p99(), result.errors()));
+                    System.out.println("Report written to " + reportFile);
+                } finally {
+                    clientLoops.disposeLater().block();
+                }
+            }
+        }
+    }
+
+    private static String[] applicationArguments(PostgresStandIn postgres) {
+        List<String> arguments = new ArrayList<>();
+        // Command line arguments take precedence over application.yaml
+        postgres.applicationProperties().forEach((name, value) -> arguments.add("--" + name + "=" + value));
+        arguments.add("--server.port=0");
+        arguments.add("--spring.devtools.restart.enabled=false");
+        arguments.add("--logging.level.crediya.authentication=WARN");
+        // Every request comes from one address; the login workload measures hashing, not the throttle
+        arguments.add("--security.login-throttle.enabled=false");
+        return arguments.toArray(String[]::new);
+    }
+
+    private static LongFunction<Mono<Integer>> workload(String name, WebClient client, int users,
+                                                        String adminToken, int customerRoleId) {
+        return switch (name) {
+            case "login" -> sequence -> client.post()
+                    .uri(LOGIN_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of(
+                            "email", USER_EMAIL_PREFIX + ThreadLocalRandom.current().nextInt(1, users + 1) + "@crediya.com",
+                            "password", PASSWORD))
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+            case "create-user" -> sequence -> client.post()
+                    .uri(USERS_PATH)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of(
+                            "firstName", "Load",
+                            "lastName", "Created " + sequence,
+                            "email", CREATED_EMAIL_PREFIX + sequence + "@crediya.com",
+                            "identityDocument", "LC" + sequence,
+                            "phone", "3000000000",
+                            "roleId", String.valueOf(customerRoleId),
+                            "baseSalary", 1000000,
+                            "birthDate", "1990-01-01",
+                            "address", "Load test street",
+                            "password", PASSWORD))
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+            default -> throw new IllegalArgumentException("Unknown workload: " + name);
+        };
+    }
+
+    private static String login(WebClient client, String email) {
+        return client.post()
+                .uri(LOGIN_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", email, "password", PASSWORD))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.get("token").asText())
+                .block();
+    }
+}
@@ -0,0 +1,35 @@
+package crediya.authentication.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Run parameters, read from {@code loadtest.*} system properties (see the module README).
+ */
+record LoadTestSettings(
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<String> workloads,
+        Path initScripts,
+        Path reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 1000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s")),
+                Arrays.stream(System.getProperty("loadtest.workloads", "login,create-user").split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList(),
+                Path.of(System.getProperty("loadtest.init-scripts", "database/init")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")));
+    }
+}
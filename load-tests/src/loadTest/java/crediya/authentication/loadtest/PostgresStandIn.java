@@ -0,0 +1,100 @@
+package crediya.authentication.loadtest;
+
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Throwaway PostgreSQL initialised with the same {@code database/init} scripts as the
+ * docker-compose database, plus bulk seeding for the load test users.
+ */
+final class PostgresStandIn implements AutoCloseable {
+
+    static final String DATABASE = "crediya_auth";
+    static final String USERNAME = "crediya_user";
+    static final String PASSWORD = "crediya_pass";
+
+    private static final String IMAGE = "postgres:15-alpine";
+    private static final String INIT_DIR = "/docker-entrypoint-initdb.d/";
+
+    private static final String SEED_USERS = """
+            INSERT INTO users (first_name, last_name, email, password_hash, identity_document, phone,
+                               role_id, base_salary, birth_date, address)
+            SELECT 'Load', 'User ' || n, '%s' || n || '@crediya.com', '%s', 'LT' || n, '3000000000',
+                   (SELECT role_id FROM roles WHERE name = '%s'), 1000000, '1990-01-01', 'Load test street'
+            FROM generate_series(1, %d) AS n""";
+
+    private final PostgreSQLContainer<?> container;
+
+    PostgresStandIn(Path initScripts) {
+        container = new PostgreSQLContainer<>(IMAGE)
+                .withDatabaseName(DATABASE)
+                .withUsername(USERNAME)
+                .withPassword(PASSWORD);
+        try (Stream<Path> scripts = Files.list(initScripts)) {
+            scripts.filter(script -> script.getFileName().toString().endsWith(".sql"))
+                    .sorted()
+                    .forEach(script -> container.withCopyFileToContainer(
+                            MountableFile.forHostPath(script), INIT_DIR + script.getFileName()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read init scripts from " + initScripts, e);
+        }
+    }
+
+    void start() {
+        container.start();
+    }
+
+    /**
+     * Properties pointing the application's adapters.r2dbc pool at this database.
+     */
+    Map<String, Object> applicationProperties() {
+        return Map.of(
+                "adapters.r2dbc.host", container.getHost(),
+                "adapters.r2dbc.port", container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT),
+                "adapters.r2dbc.database", DATABASE,
+                "adapters.r2dbc.schema", "public",
+                "adapters.r2dbc.username", USERNAME,
+                "adapters.r2dbc.password", PASSWORD);
+    }
+
+    /**
+     * Inserts {@code count} users with emails {@code <emailPrefix><n>@crediya.com}, n starting at 1.
+     */
+    void seedUsers(String emailPrefix, int count, String passwordHash, String roleName) {
+        psql(SEED_USERS.formatted(emailPrefix, passwordHash, roleName, count));
+        psql("ANALYZE users");
+    }
+
+    int roleId(String roleName) {
+        return Integer.parseInt(psql("SELECT role_id FROM roles WHERE name = '" + roleName + "'").trim());
+    }
+
+    private String psql(String sql) {
+        try {
+            Container.ExecResult result = container.execInContainer(
+                    "psql", "-U", USERNAME, "-d", DATABASE, "-v", "ON_ERROR_STOP=1", "-tAc", sql);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("psql failed: " + result.getStderr());
+            }
+            return result.getStdout();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running psql", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+}
@@ -0,0 +1,90 @@
+package crediya.authentication.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the connection pool and the password hashing queue while workloads run, keeping
+ * peaks rather than averages since saturation shows up as short spikes.
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+    private static final String ACQUIRE_TIMER = "r2dbc.pool.acquire";
+    private static final String HASH_QUEUE_DEPTH = "auth.password.hash.queue.depth";
+    private static final String HASH_REJECTED = "auth.password.hash.rejected";
+
+    private final ConnectionPool connectionPool;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int maxSize;
+    private int peakAcquired;
+    private int peakPending;
+    private long samples;
+    private long saturatedSamples;
+    private int peakQueueDepth;
+
+    ResourceSampler(ConnectionPool connectionPool, MeterRegistry meterRegistry) {
+        this.connectionPool = connectionPool;
+        this.meterRegistry = meterRegistry;
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        connectionPool.getMetrics().ifPresent(this::samplePool);
+        Gauge queueDepth = meterRegistry.find(HASH_QUEUE_DEPTH).gauge();
+        if (queueDepth != null) {
+            peakQueueDepth = Math.max(peakQueueDepth, (int) queueDepth.value());
+        }
+    }
+
+    private void samplePool(PoolMetrics metrics) {
+        maxSize = metrics.getMaxAllocatedSize();
+        peakAcquired = Math.max(peakAcquired, metrics.acquiredSize());
+        peakPending = Math.max(peakPending, metrics.pendingAcquireSize());
+        samples++;
+        if (metrics.acquiredSize() >= maxSize) {
+            saturatedSamples++;
+        }
+    }
+
+    synchronized LoadTestReport.ConnectionPool connectionPoolReport() {
+        long acquires = 0;
+        double meanMillis = 0;
+        double maxMillis = 0;
+        Timer acquireTimer = meterRegistry.find(ACQUIRE_TIMER).tag("result", "success").timer();
+        if (acquireTimer != null) {
+            acquires = acquireTimer.count();
+            meanMillis = acquireTimer.mean(TimeUnit.MILLISECONDS);
+            maxMillis = acquireTimer.max(TimeUnit.MILLISECONDS);
+        }
+        return new LoadTestReport.ConnectionPool(maxSize, peakAcquired, peakPending,
+                samples == 0 ? 0 : (double) saturatedSamples / samples, acquires, meanMillis, maxMillis);
+    }
+
+    synchronized LoadTestReport.PasswordHashing passwordHashingReport() {
+        Counter rejected = meterRegistry.find(HASH_REJECTED).counter();
+        return new LoadTestReport.PasswordHashing(peakQueueDepth, rejected == null ? 0 : (long) rejected.count());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
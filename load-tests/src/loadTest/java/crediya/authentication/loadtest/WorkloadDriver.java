@@ -0,0 +1,105 @@
+package crediya.authentication.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Closed-loop driver: {@code concurrency} callers each issue the next request as soon as the
+ * previous one completes, first for the warmup (discarded) and then for the measured window.
+ */
+final class WorkloadDriver {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Path reportDir;
+
+    WorkloadDriver(LoadTestSettings settings) {
+        this.concurrency = settings.concurrency();
+        this.warmup = settings.warmup();
+        this.duration = settings.duration();
+        this.reportDir = settings.reportDir();
+    }
+
+    /**
+     * Runs one workload. {@code request} receives a run-wide sequence number and emits the
+     * HTTP status of the response.
+     */
+    LoadTestReport.Workload run(String name, LongFunction<Mono<Integer>> request) throws IOException {
+        AtomicLong sequence = new AtomicLong();
+        drive(request, sequence, warmup, new Recording());
+
+        Recording recording = new Recording();
+        long start = System.nanoTime();
+        drive(request, sequence, duration, recording);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Histogram histogram = recording.latencies;
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+        long requests = histogram.getTotalCount() + recording.errors.sum();
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        recording.statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return new LoadTestReport.Workload(name, requests, recording.errors.sum(), requests / elapsedSeconds,
+                statusCounts, latency(histogram));
+    }
+
+    private void drive(LongFunction<Mono<Integer>> request, AtomicLong sequence, Duration window, Recording recording) {
+        long deadline = System.nanoTime() + window.toNanos();
+        Flux.range(0, concurrency)
+                .flatMap(caller -> Mono.defer(() -> timed(request, sequence.incrementAndGet(), recording))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast();
+    }
+
+    private static Mono<Void> timed(LongFunction<Mono<Integer>> request, long sequence, Recording recording) {
+        long start = System.nanoTime();
+        return request.apply(sequence)
+                .doOnNext(status -> {
+                    recording.latencies.recordValue(System.nanoTime() - start);
+                    recording.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                })
+                .then()
+                // Transport failures have no status; they count as errors and are not timed
+                .onErrorResume(error -> {
+                    recording.errors.increment();
+                    return Mono.empty();
+                });
+    }
+
+    private static LoadTestReport.Latency latency(Histogram histogram) {
+        return new LoadTestReport.Latency(
+                histogram.getMinValue() / NANOS_PER_MILLI,
+                histogram.getMean() / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static final class Recording {
+        private final Histogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,208 @@
+package crediya.authentication.verifier;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keys from the authentication service's {@code /.well-known/jwks.json}, refreshed in the
+ * background with conditional GETs so an unchanged key set costs a 304. Lookups read an
+ * immutable map and never block; an unknown {@code kid} asks for an early refresh, at most
+ * once per {@code minRefreshInterval}, and fails until it lands.
+ */
+@Slf4j
+public final class JwksKeyCache implements VerificationKeys, AutoCloseable {
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String ETAG = "ETag";
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+
+    private final HttpClient httpClient;
+    private final URI jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final Duration requestTimeout;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // Replaced as a whole on every change; readers never see a half-built key set
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile String eTag;
+    private volatile long lastRefreshNanos;
+    private Disposable subscription;
+
+    private JwksKeyCache(Builder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient
+                : HttpClient.newBuilder().connectTimeout(builder.requestTimeout).build();
+        this.jwksUri = builder.jwksUri;
+        this.refreshInterval = builder.refreshInterval;
+        this.minRefreshInterval = builder.minRefreshInterval;
+        this.requestTimeout = builder.requestTimeout;
+        this.lastRefreshNanos = System.nanoTime() - minRefreshInterval.toNanos();
+    }
+
+    public static Builder builder(URI jwksUri) {
+        return new Builder(jwksUri);
+    }
+
+    /**
+     * Schedules the periodic refresh, the first one immediately. Call {@link #refresh()} and
+     * wait on it beforehand when requests must not arrive before the keys do.
+     */
+    public synchronized JwksKeyCache start() {
+        if (subscription == null) {
+            subscription = Flux.interval(Duration.ZERO, refreshInterval, Schedulers.boundedElastic())
+                    .concatMap(tick -> refresh())
+                    .subscribe();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public PublicKey find(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null && System.nanoTime() - lastRefreshNanos >= minRefreshInterval.toNanos()) {
+            // A key published after our last refresh; fetch it for the next request
+            refresh().subscribe();
+        }
+        return key;
+    }
+
+    /**
+     * Fetches the key set unless a fetch is already running. Failures keep the current keys
+     * and complete empty.
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            if (!refreshing.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            lastRefreshNanos = System.nanoTime();
+            return Mono.fromFuture(() -> httpClient.sendAsync(request(), HttpResponse.BodyHandlers.ofString()))
+                    .doOnNext(this::apply)
+                    .onErrorResume(e -> {
+                        log.warn("Could not refresh JWKS from {}: {}", jwksUri, e.getMessage());
+                        return Mono.empty();
+                    })
+                    .doFinally(signal -> refreshing.set(false))
+                    .then();
+        });
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private HttpRequest request() {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri).timeout(requestTimeout).GET();
+        String current = eTag;
+        if (current != null) {
+            request.header(IF_NONE_MATCH, current);
+        }
+        return request.build();
+    }
+
+    private void apply(HttpResponse<String> response) {
+        if (response.statusCode() == NOT_MODIFIED) {
+            return;
+        }
+        if (response.statusCode() != OK) {
+            log.warn("JWKS request to {} answered {}; keeping {} keys", jwksUri, response.statusCode(), keys.size());
+            return;
+        }
+        try {
+            keys = parse(response.body());
+            eTag = response.headers().firstValue(ETAG).orElse(null);
+            log.info("Loaded {} verification keys from {}", keys.size(), jwksUri);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Ignoring malformed JWKS from {}: {}", jwksUri, e.getMessage());
+        }
+    }
+
+    static Map<String, PublicKey> parse(String json) {
+        JwkSet jwkSet = Jwks.setParser().ignoreUnsupported(true).build().parse(json);
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            Key key = jwk.toKey();
+            // Secret or private keys have no place in a JWKS; never verify with them
+            if (jwk.getId() != null && key instanceof PublicKey publicKey) {
+                parsed.put(jwk.getId(), publicKey);
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    public static final class Builder {
+
+        private final URI jwksUri;
+        private HttpClient httpClient;
+        private Duration refreshInterval = Duration.ofMinutes(5);
+        private Duration minRefreshInterval = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(5);
+
+        private Builder(URI jwksUri) {
+            if (jwksUri == null) {
+                throw new IllegalArgumentException("JWKS URI is required");
+            }
+            this.jwksUri = jwksUri;
+        }
+
+        /**
+         * How often keys are re-fetched; no longer than the service's {@code jwt.signing.jwks-max-age}.
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * Lower bound between refreshes triggered by an unknown {@code kid}.
+         */
+        public Builder minRefreshInterval(Duration minRefreshInterval) {
+            this.minRefreshInterval = minRefreshInterval;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public JwksKeyCache build() {
+            return new JwksKeyCache(this);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package crediya.authentication.verifier;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates bearer tokens with a {@link TokenVerifier} and checks route permissions
+ * in-process, answering 401/403 before the handler runs. Rules are matched in the order
+ * they were added; routes without a rule only need a valid token. The verified claims are
+ * available to handlers through {@link #verifiedToken(ServerWebExchange)}.
+ */
+public final class TokenVerificationFilter implements WebFilter {
+
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = TokenVerificationFilter.class.getName() + ".verifiedToken";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final byte[] UNAUTHORIZED_BODY = "{\"error\":\"Unauthorized\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FORBIDDEN_BODY = "{\"error\":\"Forbidden\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final TokenVerifier tokenVerifier;
+    private final List<Rule> rules;
+
+    private TokenVerificationFilter(TokenVerifier tokenVerifier, List<Rule> rules) {
+        this.tokenVerifier = tokenVerifier;
+        this.rules = List.copyOf(rules);
+    }
+
+    public static Builder builder(TokenVerifier tokenVerifier) {
+        return new Builder(tokenVerifier);
+    }
+
+    public static Optional<VerifiedToken> verifiedToken(ServerWebExchange exchange) {
+        return Optional.ofNullable(exchange.getAttribute(VERIFIED_TOKEN_ATTRIBUTE));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Rule rule = match(request.getMethod(), request.getPath().pathWithinApplication());
+        if (rule != null && rule.isPublic()) {
+            return chain.filter(exchange);
+        }
+
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return reject(exchange.getResponse(), HttpStatus.UNAUTHORIZED, UNAUTHORIZED_BODY);
+        }
+
+        Optional<VerifiedToken> verifiedToken = tokenVerifier.verify(authHeader.substring(BEARER_PREFIX.length()));
+        if (verifiedToken.isEmpty()) {
+            return reject(exchange.getResponse(), HttpStatus.UNAUTHORIZED, UNAUTHORIZED_BODY);
+        }
+        if (rule != null && !tokenVerifier.hasPermission(verifiedToken.get(), rule.permission())) {
+            return reject(exchange.getResponse(), HttpStatus.FORBIDDEN, FORBIDDEN_BODY);
+        }
+
+        exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken.get());
+        return chain.filter(exchange);
+    }
+
+    private Rule match(HttpMethod method, PathContainer path) {
+        for (Rule rule : rules) {
+            if ((rule.method() == null || rule.method().equals(method)) && rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, byte[] body) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    // A null permission marks a public route; a null method matches any method
+    private record Rule(HttpMethod method, PathPattern pattern, Permission permission) {
+        boolean isPublic() {
+            return permission == null;
+        }
+    }
+
+    public static final class Builder {
+
+        private final TokenVerifier tokenVerifier;
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder(TokenVerifier tokenVerifier) {
+            if (tokenVerifier == null) {
+                throw new IllegalArgumentException("Token verifier is required");
+            }
+            this.tokenVerifier = tokenVerifier;
+        }
+
+        /**
+         * Paths served without a token, in {@link PathPattern} syntax (e.g. {@code /actuator/**}).
+         */
+        public Builder publicPaths(String... patterns) {
+            for (String pattern : patterns) {
+                rules.add(new Rule(null, parse(pattern), null));
+            }
+            return this;
+        }
+
+        public Builder require(HttpMethod method, String pattern, Permission permission) {
+            if (permission == null) {
+                throw new IllegalArgumentException("Permission is required for " + method + " " + pattern);
+            }
+            rules.add(new Rule(method, parse(pattern), permission));
+            return this;
+        }
+
+        public TokenVerificationFilter build() {
+            return new TokenVerificationFilter(tokenVerifier, rules);
+        }
+
+        private static PathPattern parse(String pattern) {
+            return PathPatternParser.defaultInstance.parse(pattern);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package crediya.authentication.verifier;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import crediya.authentication.model.constants.RolePermissions;
+import crediya.authentication.model.role.RoleType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Verifies access tokens of the authentication service without calling it: signature by
+ * {@code kid} against {@link VerificationKeys}, expiry, issuer and audience; a token without
+ * {@code exp} is rejected. Only public keys are ever located, so HMAC tokens and {@code alg}
+ * swaps are rejected. Revocations are not visible here; they take effect at the latest when
+ * the short-lived token expires.
+ * Thread-safe; build one per service.
+ */
+public final class TokenVerifier {
+
+    private static final String ROLE_CLAIM = "role";
+
+    private final JwtParser parser;
+
+    private TokenVerifier(Builder builder) {
+        VerificationKeys keys = builder.keys;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keys.find(header.getKeyId());
+                    }
+                })
+                .requireIssuer(builder.issuer)
+                .requireAudience(builder.audience)
+                .clockSkewSeconds(builder.clockSkew.toSeconds())
+                .build();
+    }
+
+    public static Builder builder(VerificationKeys keys) {
+        return new Builder(keys);
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                // The parser only checks exp when it is present; a token without one would never expire
+                return Optional.empty();
+            }
+            return Optional.of(VerifiedToken.builder()
+                    .subject(claims.getSubject())
+                    .roleName(claims.get(ROLE_CLAIM, String.class))
+                    .tokenId(claims.getId())
+                    .expiresAt(expiration.toInstant())
+                    .build());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The same decision the authentication service makes: the token's role looked up in
+     * {@link RolePermissions}. Unknown roles have no permissions.
+     */
+    public boolean hasPermission(VerifiedToken token, Permission permission) {
+        if (token == null || token.getRoleName() == null) {
+            return false;
+        }
+        try {
+            return RolePermissions.hasPermission(RoleType.fromCanonicalName(token.getRoleName()), permission);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static final class Builder {
+
+        private final VerificationKeys keys;
+        private String issuer = "crediya-auth-service";
+        private String audience = "crediya-app";
+        private Duration clockSkew = Duration.ZERO;
+
+        private Builder(VerificationKeys keys) {
+            if (keys == null) {
+                throw new IllegalArgumentException("Verification keys are required");
+            }
+            this.keys = keys;
+        }
+
+        public Builder issuer(String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        public Builder audience(String audience) {
+            this.audience = audience;
+            return this;
+        }
+
+        /**
+         * Tolerance for clocks that run behind the authentication service's.
+         */
+        public Builder clockSkew(Duration clockSkew) {
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        public TokenVerifier build() {
+            return new TokenVerifier(this);
+        }
+    }
+}
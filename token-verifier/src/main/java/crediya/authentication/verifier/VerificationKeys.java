@@ -0,0 +1,15 @@
+package crediya.authentication.verifier;
+
+import java.security.PublicKey;
+
+/**
+ * Public keys of the authentication service, looked up by the {@code kid} token header.
+ */
+@FunctionalInterface
+public interface VerificationKeys {
+
+    /**
+     * Returns null when no key has this id.
+     */
+    PublicKey find(String keyId);
+}
@@ -0,0 +1,112 @@
+package crediya.authentication.verifier;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksKeyCacheTest {
+
+    private final KeyPair firstKey = TestTokens.es256KeyPair();
+    private final KeyPair secondKey = TestTokens.es256KeyPair();
+    private final AtomicReference<String> body = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private JwksKeyCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            String eTag = "\"" + Integer.toHexString(body.get().hashCode()) + "\"";
+            String requested = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatch.add(String.valueOf(requested));
+            if (eTag.equals(requested)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("ETag", eTag);
+            exchange.sendResponseHeaders(status.get(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        body.set(TestTokens.jwks("2026-01", (ECPublicKey) firstKey.getPublic()));
+        cache = JwksKeyCache.builder(URI.create("http://" + server.getAddress().getHostString() + ":"
+                        + server.getAddress().getPort() + "/.well-known/jwks.json"))
+                .minRefreshInterval(Duration.ZERO)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should load published keys and revalidate them with If-None-Match")
+    void shouldLoadKeysAndRevalidateWithETag() {
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        assertThat(cache.find("2026-01")).isEqualTo(firstKey.getPublic());
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(ifNoneMatch).hasSize(2);
+        assertThat(ifNoneMatch.get(0)).isEqualTo("null");
+        assertThat(ifNoneMatch.get(1)).startsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should keep the current keys when the JWKS is malformed or unavailable")
+    void shouldKeepKeysWhenRefreshFails() {
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        body.set("{\"keys\":");
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        body.set(TestTokens.jwks("2026-02", (ECPublicKey) secondKey.getPublic()));
+        status.set(503);
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        assertThat(cache.find("2026-01")).isEqualTo(firstKey.getPublic());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fetch the key set early when a token names an unknown kid")
+    void shouldRefreshEarlyForUnknownKeyId() throws InterruptedException {
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        body.set(TestTokens.jwks("2026-02", (ECPublicKey) secondKey.getPublic()));
+
+        assertThat(cache.find("2026-02")).isNull();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cache.find("2026-02") == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(cache.find("2026-02")).isEqualTo(secondKey.getPublic());
+        assertThat(cache.find("2026-01")).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package crediya.authentication.verifier;
+
+import io.jsonwebtoken.Jwts;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+final class TestTokens {
+
+    static final String ISSUER = "crediya-auth-service";
+    static final String AUDIENCE = "crediya-app";
+
+    private TestTokens() {
+    }
+
+    static KeyPair es256KeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String token(KeyPair keyPair, String keyId, String roleName, String audience) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("user-1")
+                .claim("role", roleName)
+                .issuer(ISSUER)
+                .audience().add(audience).and()
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofMinutes(15))))
+                .id(UUID.randomUUID().toString())
+                .signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+
+    static String token(KeyPair keyPair, String keyId, String roleName) {
+        return token(keyPair, keyId, roleName, AUDIENCE);
+    }
+
+    /**
+     * JWKS as the authentication service publishes it, for P-256 keys.
+     */
+    static String jwks(String keyId, ECPublicKey publicKey) {
+        return "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\"" + keyId
+                + "\",\"use\":\"sig\",\"alg\":\"ES256\",\"x\":\"" + coordinate(publicKey.getW().getAffineX())
+                + "\",\"y\":\"" + coordinate(publicKey.getW().getAffineY()) + "\"}]}";
+    }
+
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int copy = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, fixed.length - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,91 @@
+package crediya.authentication.verifier;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.security.KeyPair;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerificationFilterTest {
+
+    private final KeyPair keyPair = TestTokens.es256KeyPair();
+    private final TokenVerificationFilter filter = TokenVerificationFilter
+            .builder(TokenVerifier.builder(keyId -> "2026-01".equals(keyId) ? keyPair.getPublic() : null).build())
+            .publicPaths("/actuator/**")
+            .require(HttpMethod.PUT, "/api/v1/applications/{id}/approval", Permission.APPROVE_LOAN_APPLICATION)
+            .build();
+
+    @Test
+    @DisplayName("Should let public paths through without a token")
+    void shouldPassPublicPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        assertThat(run(exchange)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer 401 for missing or unverifiable tokens")
+    void shouldRejectMissingOrInvalidTokens() {
+        MockServerWebExchange missing = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/applications"));
+        MockServerWebExchange foreign = exchange(HttpMethod.GET, "/api/v1/applications",
+                TestTokens.token(TestTokens.es256KeyPair(), "2026-01", "ADMIN"));
+
+        assertThat(run(missing)).isFalse();
+        assertThat(missing.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(run(foreign)).isFalse();
+        assertThat(foreign.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Should answer 403 when the role lacks the route permission")
+    void shouldRejectMissingPermission() {
+        MockServerWebExchange exchange = exchange(HttpMethod.PUT, "/api/v1/applications/42/approval",
+                TestTokens.token(keyPair, "2026-01", "CUSTOMER"));
+
+        assertThat(run(exchange)).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"error\":\"Forbidden\"}")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should expose the verified token to handlers when the permission is granted")
+    void shouldExposeVerifiedToken() {
+        MockServerWebExchange exchange = exchange(HttpMethod.PUT, "/api/v1/applications/42/approval",
+                TestTokens.token(keyPair, "2026-01", "ADVISOR"));
+
+        assertThat(run(exchange)).isTrue();
+        assertThat(TokenVerificationFilter.verifiedToken(exchange))
+                .map(VerifiedToken::getRoleName)
+                .contains("ADVISOR");
+    }
+
+    private boolean run(ServerWebExchange exchange) {
+        AtomicReference<Boolean> reached = new AtomicReference<>(false);
+        WebFilterChain chain = filtered -> {
+            reached.set(true);
+            return Mono.empty();
+        };
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        return reached.get();
+    }
+
+    private static MockServerWebExchange exchange(HttpMethod method, String path, String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.method(method, path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
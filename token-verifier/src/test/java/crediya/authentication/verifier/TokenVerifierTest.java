@@ -0,0 +1,90 @@
+package crediya.authentication.verifier;
+
+import crediya.authentication.model.auth.Permission;
+import crediya.authentication.model.auth.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerifierTest {
+
+    private final KeyPair keyPair = TestTokens.es256KeyPair();
+    private final TokenVerifier verifier = TokenVerifier
+            .builder(keyId -> "2026-01".equals(keyId) ? keyPair.getPublic() : null)
+            .build();
+
+    @Test
+    @DisplayName("Should verify a token signed with a published key and expose its claims")
+    void shouldVerifyTokenSignedWithPublishedKey() {
+        VerifiedToken token = verifier.verify(TestTokens.token(keyPair, "2026-01", "ADVISOR")).orElseThrow();
+
+        assertThat(token.getSubject()).isEqualTo("user-1");
+        assertThat(token.getRoleName()).isEqualTo("ADVISOR");
+        assertThat(token.getTokenId()).isNotBlank();
+        assertThat(token.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens with an unknown kid, another key or another audience")
+    void shouldRejectTokensItCannotVerify() {
+        KeyPair otherKeyPair = TestTokens.es256KeyPair();
+
+        assertThat(verifier.verify(TestTokens.token(keyPair, "2025-12", "ADMIN"))).isEmpty();
+        assertThat(verifier.verify(TestTokens.token(otherKeyPair, "2026-01", "ADMIN"))).isEmpty();
+        assertThat(verifier.verify(TestTokens.token(keyPair, "2026-01", "ADMIN", "other-app"))).isEmpty();
+        assertThat(verifier.verify("not-a-token")).isEmpty();
+        assertThat(verifier.verify(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject HMAC tokens even when they name a published kid")
+    void shouldRejectHmacTokens() {
+        String hmacToken = Jwts.builder()
+                .header().keyId("2026-01").and()
+                .subject("user-1")
+                .claim("role", "ADMIN")
+                .issuer(TestTokens.ISSUER)
+                .audience().add(TestTokens.AUDIENCE).and()
+                .signWith(Keys.hmacShaKeyFor(
+                        "some-secret-that-is-at-least-256-bits-long-for-hs256".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(verifier.verify(hmacToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a correctly signed token without an expiration")
+    void shouldRejectTokenWithoutExpiration() {
+        String token = Jwts.builder()
+                .header().keyId("2026-01").and()
+                .subject("user-1")
+                .claim("role", "ADMIN")
+                .issuer(TestTokens.ISSUER)
+                .audience().add(TestTokens.AUDIENCE).and()
+                .signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should decide permissions from the token role like the authentication service")
+    void shouldDecidePermissionsFromRole() {
+        VerifiedToken advisor = VerifiedToken.builder().roleName("ADVISOR").build();
+        VerifiedToken customer = VerifiedToken.builder().roleName("CUSTOMER").build();
+        VerifiedToken unknown = VerifiedToken.builder().roleName("AUDITOR").build();
+
+        assertThat(verifier.hasPermission(advisor, Permission.APPROVE_LOAN_APPLICATION)).isTrue();
+        assertThat(verifier.hasPermission(customer, Permission.APPROVE_LOAN_APPLICATION)).isFalse();
+        assertThat(verifier.hasPermission(customer, Permission.CREATE_LOAN_APPLICATION)).isTrue();
+        assertThat(verifier.hasPermission(unknown, Permission.CREATE_LOAN_APPLICATION)).isFalse();
+        assertThat(verifier.hasPermission(null, Permission.CREATE_LOAN_APPLICATION)).isFalse();
+    }
+}